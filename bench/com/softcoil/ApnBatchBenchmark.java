@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to resolve ten million fingerprints with ApnBatchResolver, sequentially and on every core.
+ * Divide by RECORDS for the cost per record. Run with -prof gc to confirm the only allocation
+ * is the results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class ApnBatchBenchmark {
+
+    static final int RECORDS = 10 * 1000 * 1000;
+
+    @Param({ "realistic", "missHeavy" })
+    public String mix;
+
+    @Param({ "1", "0" })
+    public int parallelism;
+
+    private ApnBenchmarkData data;
+    private ForkJoinPool pool;
+    private ApnBatchResolver batch;
+    private ApnParameters[] results;
+    private byte[] tiers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = ApnBenchmarkData.create(mix, RECORDS, 42);
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        batch = new ApnBatchResolver(new ApnResolver(new EmbeddedApnDataSource()), pool,
+                ApnBatchResolver.DEFAULT_CHUNK_SIZE);
+        results = new ApnParameters[RECORDS];
+        tiers = new byte[RECORDS];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public ApnParameters[] resolveColumns() {
+        batch.resolve(data.simOperators, data.simOperatorNames, data.networkOperators, data.networkOperatorNames,
+                0, RECORDS, true, results, tiers);
+        return results;
+    }
+}
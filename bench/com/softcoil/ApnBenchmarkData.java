@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds fingerprints for the benchmarks from the real embedded keys, so that lookups exercise
+ * the same key lengths, operator names and hash distribution as on devices.
+ *
+ * A mix names the fraction of fingerprints that hit a full key, that only resolve through the
+ * SIM MCCMNC fallback, and that miss both tiers.
+ */
+final class ApnBenchmarkData {
+
+    static final String[] MIXES = { "hit", "fallback", "miss", "realistic", "missHeavy" };
+
+    final String[] simOperators;
+    final String[] simOperatorNames;
+    final String[] networkOperators;
+    final String[] networkOperatorNames;
+
+    private ApnBenchmarkData(int size) {
+        simOperators = new String[size];
+        simOperatorNames = new String[size];
+        networkOperators = new String[size];
+        networkOperatorNames = new String[size];
+    }
+
+    int size() {
+        return simOperators.length;
+    }
+
+    /**
+     * @param mix One of MIXES.
+     * @param size How many fingerprints to build.
+     * @param seed Seed for the shuffle, so runs are comparable.
+     */
+    static ApnBenchmarkData create(String mix, int size, long seed) {
+        double hit;
+        double fallback;
+        if("hit".equals(mix)) {
+            hit = 1; fallback = 0;
+        } else if("fallback".equals(mix)) {
+            hit = 0; fallback = 1;
+        } else if("miss".equals(mix)) {
+            hit = 0; fallback = 0;
+        } else if("realistic".equals(mix)) {
+            hit = 0.80; fallback = 0.15;
+        } else if("missHeavy".equals(mix)) {
+            hit = 0.10; fallback = 0.10;
+        } else {
+            throw new IllegalArgumentException("Unknown mix " + mix);
+        }
+
+        EmbeddedApnDataSource source = new EmbeddedApnDataSource();
+        List<String[]> fullKeys = new ArrayList<String[]>();
+        List<String> simKeys = new ArrayList<String>();
+        for(String key : source.keys()) {
+            String[] parts = key.split("\\|", -1);
+            if(parts.length == 4) {
+                fullKeys.add(parts);
+            } else {
+                simKeys.add(key);
+            }
+        }
+
+        Random random = new Random(seed);
+        ApnBenchmarkData data = new ApnBenchmarkData(size);
+        for(int i = 0; i < size; i++) {
+            double r = random.nextDouble();
+            if(r < hit) {
+                String[] parts = fullKeys.get(random.nextInt(fullKeys.size()));
+                data.set(i, parts[0], parts[1], parts[2], parts[3]);
+            } else if(r < hit + fallback) {
+                String simOperator = simKeys.get(random.nextInt(simKeys.size()));
+                data.set(i, simOperator, "Unknown " + i, simOperator, "Unknown " + i);
+            } else {
+                String simOperator = String.valueOf(900000 + random.nextInt(99999));
+                data.set(i, simOperator, "Unknown " + i, simOperator, "Unknown " + i);
+            }
+        }
+
+        return data;
+    }
+
+    private void set(int i, String simOperator, String simOperatorName, String networkOperator,
+                     String networkOperatorName) {
+        simOperators[i] = simOperator;
+        simOperatorNames[i] = simOperatorName;
+        networkOperators[i] = networkOperator;
+        networkOperatorNames[i] = networkOperatorName;
+    }
+}
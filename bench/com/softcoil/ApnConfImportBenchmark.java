@@ -0,0 +1,134 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to import an apns-conf.xml with ApnConfImporter and merge it into the embedded table.
+ * The file is generated to the shape of AOSP's apns-full-conf.xml, about 5,500 APNs of which a
+ * third carry MMS settings, with MCCMNCs drawn from the embedded table so merging meets real
+ * conflicts. Run with -prof gc to see that reading allocates per element, not per file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ApnConfImportBenchmark {
+
+    @Param({ "5500" })
+    public int apns;
+
+    private byte[] conf;
+    private ApnDataset base;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        conf = generate(apns, 42);
+        base = ApnDataset.embedded();
+    }
+
+    @Benchmark
+    public ApnConfImporter read() throws IOException {
+        ApnConfImporter importer = new ApnConfImporter(base);
+        importer.read(new ByteArrayInputStream(conf));
+        return importer;
+    }
+
+    @Benchmark
+    public ApnDataset readAndMerge() throws IOException {
+        ApnConfImporter importer = new ApnConfImporter(base);
+        importer.read(new ByteArrayInputStream(conf));
+        return importer.merge(base.getVersion() + 1);
+    }
+
+    /**
+     * @return An apns-conf.xml with the attributes AOSP uses.
+     */
+    static byte[] generate(int apns, long seed) {
+        Random random = new Random(seed);
+        List<String> operators = new ArrayList<String>();
+        for(String key : new EmbeddedApnDataSource().keys()) {
+            String simOperator = key.indexOf('|') >= 0 ? key.substring(0, key.indexOf('|')) : key;
+            if(ApnMccMnc.encode(simOperator) != ApnMccMnc.INVALID) operators.add(simOperator);
+        }
+
+        StringBuilder sb = new StringBuilder(apns * 400);
+        sb.append("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n");
+        sb.append("<!-- Generated for ApnConfImportBenchmark -->\n");
+        sb.append("<apns version=\"8\">\n");
+        for(int i = 0; i < apns; i++) {
+            //Half the APNs are for carriers we know, the rest for made up ones.
+            String operator = random.nextBoolean()
+                    ? operators.get(random.nextInt(operators.size()))
+                    : String.format("%03d%02d", 200 + random.nextInt(550), random.nextInt(100));
+            boolean mms = random.nextInt(3) == 0;
+            ApnParameters known = mms && random.nextBoolean() ? new EmbeddedApnDataSource().get(operator) : null;
+
+            sb.append("  <apn carrier=\"Carrier ").append(i).append(mms ? " MMS" : "").append('"');
+            sb.append(" mcc=\"").append(operator, 0, 3).append('"');
+            sb.append(" mnc=\"").append(operator, 3, operator.length()).append('"');
+            sb.append(" apn=\"").append(mms ? "mms" : "internet").append(".carrier").append(i).append(".net\"");
+            if(random.nextInt(4) == 0) sb.append(" user=\"wap\" password=\"wap\"");
+            if(random.nextInt(5) == 0) sb.append(" proxy=\"10.0.").append(i % 250).append(".1\" port=\"8080\"");
+            if(mms) {
+                if(known != null && known.getMmscUrl() != null) {
+                    sb.append(" mmsc=\"").append(escape(known.getMmscUrl())).append('"');
+                    if(known.getProxyAddress() != null) {
+                        sb.append(" mmsproxy=\"").append(escape(known.getProxyAddress())).append('"');
+                        sb.append(" mmsport=\"").append(known.getProxyPort()).append('"');
+                    }
+                } else {
+                    sb.append(" mmsc=\"http://mms.carrier").append(i).append(".net/mms/wapenc\"");
+                    if(random.nextBoolean()) sb.append(" mmsproxy=\"10.1.").append(i % 250).append(".2\" mmsport=\"8080\"");
+                }
+                sb.append(" type=\"").append(random.nextBoolean() ? "mms" : "default,supl,mms").append('"');
+            } else {
+                sb.append(" type=\"").append(random.nextBoolean() ? "default,supl" : "ia").append('"');
+            }
+            if(random.nextInt(10) == 0) sb.append(" mvno_type=\"spn\" mvno_match_data=\"Carrier ").append(i).append('"');
+            sb.append(" protocol=\"IPV4V6\" roaming_protocol=\"IP\" authtype=\"0\" bearer_bitmask=\"0\"");
+            sb.append(" />\n");
+        }
+        sb.append("</apns>\n");
+        return sb.toString().getBytes(Charset.forName("UTF-8"));
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;");
+    }
+}
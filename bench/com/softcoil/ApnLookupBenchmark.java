@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady state cost of resolving a fingerprint against the embedded data, for each key mix.
+ * Throughput, average time and the sampled latency distribution (for the tail percentiles) are
+ * all reported. Run with -prof gc to get the allocation rate per lookup.
+ *
+ * mapLookup is the lookup as it was originally written, a StringBuffer key and one HashMap probe
+ * per tier, kept as the baseline for changes to ApnResolver.
+ *
+ * Compare metrics=true with metrics=false to see what the lookup metrics cost, and indexed=true
+ * with indexed=false to compare the lookup indexes with probing the data source directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ApnLookupBenchmark {
+
+    private static final int FINGERPRINTS = 4096;
+
+    @Param({ "hit", "fallback", "miss", "realistic", "missHeavy" })
+    public String mix;
+
+    @Param({ "true", "false" })
+    public boolean metrics;
+
+    @Param({ "true", "false" })
+    public boolean indexed;
+
+    private ApnBenchmarkData data;
+    private ApnResolver resolver;
+    private Map<String, ApnParameters> map;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        data = ApnBenchmarkData.create(mix, FINGERPRINTS, 42);
+
+        EmbeddedApnDataSource source = new EmbeddedApnDataSource();
+        resolver = new ApnResolver(source, indexed);
+        if(metrics) resolver.setMetrics(new ApnLookupMetrics());
+        map = new HashMap<String, ApnParameters>(EmbeddedApnDataSource.Table.APN_PARAMETERS_MAP);
+    }
+
+    @Benchmark
+    public ApnParameters resolve() {
+        int i = next++ & (FINGERPRINTS - 1);
+        return resolver.resolve(data.simOperators[i], data.simOperatorNames[i],
+                data.networkOperators[i], data.networkOperatorNames[i], true);
+    }
+
+    @Benchmark
+    public ApnParameters mapLookup() {
+        int i = next++ & (FINGERPRINTS - 1);
+        StringBuffer sb = new StringBuffer()
+                .append(data.simOperators[i]).append('|')
+                .append(data.simOperatorNames[i]).append('|')
+                .append(data.networkOperators[i]).append('|')
+                .append(data.networkOperatorNames[i]);
+
+        ApnParameters apnParameters = map.get(sb.toString());
+        if(apnParameters == null) {
+            apnParameters = map.get(data.simOperators[i]);
+        }
+        return apnParameters;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.UnsupportedEncodingException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of preparing a report: formatting the parameters for the repeat check and encoding
+ * the report URL. The network part of reportApnData needs a device and is not covered here.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.AverageTime, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ApnReportBenchmark {
+
+    private final ApnParameters apnParameters = new ApnParameters("http://10.4.42.21:8002/", "10.4.42.15", 8080);
+
+    @Benchmark
+    public String apnData() {
+        return ApnReporter.getApnData(apnParameters);
+    }
+
+    @Benchmark
+    public String reportUrl() throws UnsupportedEncodingException {
+        return ApnReporter.buildReportUrl(ApnReporter.getApnData(apnParameters),
+                "40422", "Vodafone IN", "in", "40422", "!dea", "in");
+    }
+}
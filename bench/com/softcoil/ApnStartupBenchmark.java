@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-off costs paid by the first lookup in a process. Every invocation loads the library into
+ * a fresh class loader, so each measurement includes class loading, verification and static
+ * initialization, as on a cold start. The JIT is warm after the first invocation in a fork, so
+ * compare the first iterations of each fork for truly cold numbers.
+ *
+ * firstLookupAfterPreload is the first lookup once ApnResolver.preload has run in setup. It
+ * should match the steady state ApnLookupBenchmark.resolve rather than firstLookup.
+ *
+ * apnDefaultsInit needs the android.jar used to compile ApnDefaults on the class path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 20)
+@Fork(5)
+public class ApnStartupBenchmark {
+
+    private ClassLoader loader;
+
+    @Setup(Level.Invocation)
+    public void newClassLoader() throws MalformedURLException {
+        loader = freshClassLoader();
+    }
+
+    static ClassLoader freshClassLoader() throws MalformedURLException {
+        String[] entries = System.getProperty("java.class.path").split(File.pathSeparator);
+        URL[] urls = new URL[entries.length];
+        for(int i = 0; i < entries.length; i++) {
+            urls[i] = new File(entries[i]).toURI().toURL();
+        }
+        return new URLClassLoader(urls, ClassLoader.getSystemClassLoader().getParent());
+    }
+
+    @Benchmark
+    public Object apnDefaultsInit() throws Exception {
+        return Class.forName("com.softcoil.ApnDefaults", true, loader);
+    }
+
+    @Benchmark
+    public Object embeddedTableInit() throws Exception {
+        return Class.forName("com.softcoil.EmbeddedApnDataSource$Table", true, loader);
+    }
+
+    @Benchmark
+    public Object firstLookup() throws Exception {
+        Object resolver = newResolver(loader);
+        return resolveMethod(resolver).invoke(resolver, "310260", "T-Mobile", "310260", "T-Mobile", true);
+    }
+
+    @Benchmark
+    public Object firstLookupAfterPreload(Preloaded preloaded) throws Exception {
+        return resolveMethod(preloaded.resolver)
+                .invoke(preloaded.resolver, "310260", "T-Mobile", "310260", "T-Mobile", true);
+    }
+
+    static Object newResolver(ClassLoader classLoader) throws Exception {
+        Class<?> dataSource = classLoader.loadClass("com.softcoil.ApnDataSource");
+        Object source = classLoader.loadClass("com.softcoil.EmbeddedApnDataSource").newInstance();
+        return classLoader.loadClass("com.softcoil.ApnResolver").getConstructor(dataSource).newInstance(source);
+    }
+
+    static Method resolveMethod(Object resolver) throws NoSuchMethodException {
+        return resolver.getClass()
+                .getMethod("resolve", String.class, String.class, String.class, String.class, boolean.class);
+    }
+
+    /**
+     * A resolver in a fresh class loader that has already been preloaded.
+     */
+    @State(Scope.Thread)
+    public static class Preloaded {
+        Object resolver;
+
+        @Setup(Level.Invocation)
+        public void preload() throws Exception {
+            resolver = newResolver(freshClassLoader());
+            resolver.getClass().getMethod("preload", String.class).invoke(resolver, "310");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+#!/bin/bash
+
+# Builds and runs the JMH benchmarks in bench/, which may use the tools in tools/. Arguments are
+# passed on to JMH, for example:
+#   ./runBenchmarks.sh ApnLookupBenchmark -prof gc
+#
+# JMH_CLASSPATH must hold jmh-core, jmh-generator-annprocess and their dependencies.
+# ANDROID_JAR must point at an android.jar from the SDK. Everything in src is compiled, and
+# ApnDefaults, ApnDatasetUpdater and TelephonyCarrierSource use the Android APIs.
+
+cd "$(dirname "$0")"
+rm -rf build/bench
+mkdir -p build/bench
+javac -encoding UTF-8 -cp "$JMH_CLASSPATH:$ANDROID_JAR" -sourcepath src:tools -d build/bench $(find bench -name '*.java') || exit 1
+java -cp "build/bench:$JMH_CLASSPATH:$ANDROID_JAR" org.openjdk.jmh.Main "$@"
@@ -0,0 +1,15 @@
+#!/bin/bash
+
+# Builds the library with the tools in tools/ and runs one of them, for example:
+#   ./runTool.sh ApnStartupCheck --forks 20
+#
+# ANDROID_JAR must point at an android.jar from the SDK. Everything in src is compiled, and
+# ApnDefaults, ApnDatasetUpdater and TelephonyCarrierSource use the Android APIs.
+
+cd "$(dirname "$0")"
+TOOL=$1
+shift
+rm -rf build/tools
+mkdir -p build/tools
+javac -encoding UTF-8 -cp "$ANDROID_JAR" -d build/tools $(find src tools -name '*.java') || exit 1
+java -cp "build/tools:$ANDROID_JAR" com.softcoil.$TOOL "$@"
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Resolves fingerprints in bulk, for provisioning backends that need APN settings for millions
+ * of subscriber records. Fingerprints are passed as columns, one array per field, and split into
+ * chunks resolved in parallel on a fork join pool. A lookup answered by the full key or SIM
+ * MCCMNC tiers allocates nothing, and one that reaches the fuzzy name tier allocates a few arrays
+ * bounded by ApnFuzzyNameIndex.MAX_POSTINGS. Otherwise the only allocation is the result arrays,
+ * which callers may also pass in and reuse.
+ *
+ * Example:<br/>
+ *  <pre>
+ *  ApnBatchResolver batch = new ApnBatchResolver(new ApnResolver(new EmbeddedApnDataSource()));
+ *  ApnParameters[] results = new ApnParameters[count];
+ *  byte[] tiers = new byte[count];
+ *  batch.resolve(simOperators, simOperatorNames, networkOperators, networkOperatorNames,
+ *          0, count, true, results, tiers);
+ *  </pre>
+ *
+ * Resolutions are not counted in the resolver's lookup metrics. This class needs ForkJoinPool,
+ * which on Android is only available from API level 21; it is meant for server side use.
+ *
+ * Lookups go through an indexed ApnResolver, whose first lookup snapshots every entry of the data
+ * source into its indexes; a resolver that is not indexed is replaced by an indexed one over the
+ * same data source. A MappedApnDataSource decodes each entry it is asked for, so resolving against
+ * one moves the whole table onto the heap rather than only the entries used. That is the right
+ * trade for bulk resolution, which touches most of the table anyway, and is why the resolver
+ * ApnDefaults uses for single lookups is not indexed.
+ */
+public class ApnBatchResolver {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final ApnResolver resolver;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Resolve on a pool shared by every batch resolver made this way, with one daemon thread per
+     * core, so it never keeps the process alive and needs no shutting down.
+     */
+    public ApnBatchResolver(ApnResolver resolver) {
+        this(resolver, DefaultPool.POOL, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param pool The pool to resolve on. A pool with parallelism 1 resolves sequentially.
+     * @param chunkSize The most fingerprints resolved by one task.
+     */
+    public ApnBatchResolver(ApnResolver resolver, ForkJoinPool pool, int chunkSize) {
+        if(chunkSize < 1) throw new IllegalArgumentException("chunkSize must be positive");
+        this.resolver = resolver.isIndexed() ? resolver : new ApnResolver(resolver.getDataSource(), true);
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return The ApnParameters for each fingerprint, or null where there is none.
+     */
+    public ApnParameters[] resolve(String[] simOperators, String[] simOperatorNames, String[] networkOperators,
+                                   String[] networkOperatorNames, boolean fallBack) {
+        ApnParameters[] results = new ApnParameters[simOperators.length];
+        resolve(simOperators, simOperatorNames, networkOperators, networkOperatorNames, 0, simOperators.length,
+                fallBack, results, null);
+        return results;
+    }
+
+    /**
+     * Resolve a range of fingerprints into the same range of the result arrays.
+     *
+     * @param offset The first fingerprint to resolve.
+     * @param length How many fingerprints to resolve.
+     * @param fallBack Should we attempt to fallback on matching just the SIM MCCMNC if we don't
+     *                 find a match for the full key?
+     * @param results Receives the ApnParameters for each fingerprint, or null.
+     * @param tiers Receives the ApnLookupMetrics TIER_ constant of the tier that answered, or
+     *              TIER_NONE, for each fingerprint. May be null.
+     */
+    public void resolve(String[] simOperators, String[] simOperatorNames, String[] networkOperators,
+                        String[] networkOperatorNames, int offset, int length, boolean fallBack,
+                        ApnParameters[] results, byte[] tiers) {
+        pool.invoke(new Chunk(new Columns(simOperators, simOperatorNames, networkOperators, networkOperatorNames,
+                fallBack, results, tiers), offset, offset + length));
+    }
+
+    /**
+     * Resolve a stream of fingerprints, each given as { SIM MCCMNC, SIM operator name, network
+     * MCCMNC, network name }. They are read and resolved a batch of chunks at a time, and results
+     * are delivered in the order the fingerprints were read.
+     */
+    public void resolve(Iterator<String[]> fingerprints, boolean fallBack, Handler handler) {
+        int batch = chunkSize * Math.max(1, pool.getParallelism());
+        String[] simOperators = new String[batch];
+        String[] simOperatorNames = new String[batch];
+        String[] networkOperators = new String[batch];
+        String[] networkOperatorNames = new String[batch];
+        ApnParameters[] results = new ApnParameters[batch];
+        byte[] tiers = new byte[batch];
+
+        while(fingerprints.hasNext()) {
+            int count = 0;
+            while(count < batch && fingerprints.hasNext()) {
+                String[] fingerprint = fingerprints.next();
+                simOperators[count] = fingerprint[0];
+                simOperatorNames[count] = fingerprint[1];
+                networkOperators[count] = fingerprint[2];
+                networkOperatorNames[count] = fingerprint[3];
+                count++;
+            }
+
+            resolve(simOperators, simOperatorNames, networkOperators, networkOperatorNames, 0, count,
+                    fallBack, results, tiers);
+
+            for(int i = 0; i < count; i++) {
+                handler.onResolved(simOperators[i], simOperatorNames[i], networkOperators[i],
+                        networkOperatorNames[i], results[i], tiers[i]);
+            }
+        }
+    }
+
+    /**
+     * Receives streamed resolutions, in order, on the thread that called resolve.
+     */
+    public interface Handler {
+        /**
+         * @param apnParameters The ApnParameters or null.
+         * @param tier The ApnLookupMetrics TIER_ constant of the tier that answered, or TIER_NONE.
+         */
+        void onResolved(String simOperator, String simOperatorName, String networkOperator,
+                        String networkOperatorName, ApnParameters apnParameters, int tier);
+    }
+
+    private final class Columns {
+        private final String[] simOperators;
+        private final String[] simOperatorNames;
+        private final String[] networkOperators;
+        private final String[] networkOperatorNames;
+        private final boolean fallBack;
+        private final ApnParameters[] results;
+        private final byte[] tiers;
+
+        private Columns(String[] simOperators, String[] simOperatorNames, String[] networkOperators,
+                        String[] networkOperatorNames, boolean fallBack, ApnParameters[] results, byte[] tiers) {
+            this.simOperators = simOperators;
+            this.simOperatorNames = simOperatorNames;
+            this.networkOperators = networkOperators;
+            this.networkOperatorNames = networkOperatorNames;
+            this.fallBack = fallBack;
+            this.results = results;
+            this.tiers = tiers;
+        }
+
+        private void resolve(int from, int to) {
+            for(int i = from; i < to; i++) {
+                int tier = resolver.resolveInto(simOperators[i], simOperatorNames[i], networkOperators[i],
+                        networkOperatorNames[i], fallBack, results, i);
+                if(tiers != null) tiers[i] = (byte) tier;
+            }
+        }
+    }
+
+    private static final class DefaultPool {
+        static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+                new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+                    @Override
+                    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                        thread.setDaemon(true);
+                        thread.setName("ApnBatchResolver-" + thread.getPoolIndex());
+                        return thread;
+                    }
+                }, null, false);
+    }
+
+    private final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Columns columns;
+        private final int from;
+        private final int to;
+
+        private Chunk(Columns columns, int from, int to) {
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= chunkSize) {
+                columns.resolve(from, to);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new Chunk(columns, from, middle), new Chunk(columns, middle, to));
+        }
+    }
+}
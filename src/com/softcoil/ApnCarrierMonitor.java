@@ -0,0 +1,173 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the resolution for the current carrier ready so a lookup does not have to read the
+ * telephony state or touch the data. The resolution is recomputed once, on the library's
+ * background thread, each time the {@link ApnCarrierSource} reports a different carrier, and
+ * published in a volatile field.
+ *
+ * A published resolution is only used while the resolver and its data version are the ones it
+ * was computed with. After a data update or a new data source the next lookup queues a recompute
+ * from the last reported carrier on the background thread, and lookups are answered the usual way
+ * until it is published, so a caller never resolves on the monitor's behalf. Recomputing is not
+ * counted in the resolver's lookup metrics; the lookups answered from the published resolution
+ * are.
+ */
+public class ApnCarrierMonitor implements ApnCarrierSource.Listener {
+
+    private final ApnCarrierSource source;
+    private volatile ApnResolver resolver;
+    private volatile String[] carrier;
+    private volatile Resolution published;
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+
+    /**
+     * @param resolver What to resolve the carrier with.
+     */
+    public ApnCarrierMonitor(ApnCarrierSource source, ApnResolver resolver) {
+        this.source = source;
+        this.resolver = resolver;
+    }
+
+    public void start() {
+        source.start(this);
+    }
+
+    public void stop() {
+        source.stop();
+    }
+
+    /**
+     * @param resolver The resolver to use from now on, for instance after a new data source.
+     */
+    public void setResolver(ApnResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public void onCarrierChanged(String simOperator, String simOperatorName, String networkOperator,
+                                 String networkOperatorName) {
+        String[] next = { simOperator, simOperatorName, networkOperator, networkOperatorName };
+        String[] previous = carrier;
+        if(previous != null && equal(previous, next)) return;
+
+        carrier = next;
+        refresh();
+    }
+
+    /**
+     * @return The resolution for the current carrier, or null if none is ready: the source has
+     * not reported a carrier yet, or the resolution is still being computed.
+     */
+    public Resolution current() {
+        return current(resolver);
+    }
+
+    /**
+     * @param currentResolver The resolver lookups should be answered with now. It replaces the
+     *                        monitor's resolver if it differs.
+     * @return The resolution for the current carrier, or null if none is ready: the source has
+     * not reported a carrier yet, or the resolution is still being computed.
+     */
+    public Resolution current(ApnResolver currentResolver) {
+        if(currentResolver != resolver) resolver = currentResolver;
+
+        //The library's data sources keep their version in a volatile field, so in the steady state
+        //this is a few field reads and no lock.
+        Resolution resolution = published;
+        String[] currentCarrier = carrier;
+        if(resolution != null && resolution.carrier == currentCarrier && resolution.resolver == currentResolver
+                && resolution.version == currentResolver.getDataSource().getVersion()) {
+            return resolution;
+        }
+
+        if(currentCarrier != null) refresh();
+        return null;
+    }
+
+    /**
+     * Recompute the resolution on the background thread, unless a recompute is already queued.
+     */
+    private void refresh() {
+        if(!refreshQueued.compareAndSet(false, true)) return;
+        ApnBackground.submit(new Callable<Resolution>() {
+            @Override
+            public Resolution call() {
+                //Cleared first, so a change made while this runs queues another recompute.
+                refreshQueued.set(false);
+                String[] currentCarrier = carrier;
+                if(currentCarrier == null) return null;
+
+                Resolution resolution = new Resolution(resolver, currentCarrier);
+                published = resolution;
+                return resolution;
+            }
+        });
+    }
+
+    private static boolean equal(String[] a, String[] b) {
+        for(int i = 0; i < a.length; i++) {
+            if(a[i] == null ? b[i] != null : !a[i].equals(b[i])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * The parameters for one carrier, with and without the SIM MCCMNC fallback.
+     */
+    public static class Resolution {
+        private final ApnResolver resolver;
+        private final int version;
+        final String[] carrier;
+        private final ApnParameters exactApnParameters;
+        private final ApnParameters apnParameters;
+
+        private Resolution(ApnResolver resolver, String[] carrier) {
+            this.resolver = resolver;
+            this.version = resolver.getDataSource().getVersion();
+            this.carrier = carrier;
+            this.exactApnParameters = resolver.resolveUncounted(carrier[0], carrier[1], carrier[2], carrier[3], false);
+            this.apnParameters = exactApnParameters != null
+                    ? exactApnParameters
+                    : resolver.resolveUncounted(carrier[0], carrier[1], carrier[2], carrier[3], true);
+        }
+
+        /**
+         * @param fallBack Include a match on just the SIM MCCMNC?
+         * @return The ApnParameters or null.
+         */
+        public ApnParameters getApnParameters(boolean fallBack) {
+            return fallBack ? apnParameters : exactApnParameters;
+        }
+
+        /**
+         * @return The full key of the carrier, as ApnDefaults.getCarrierKey.
+         */
+        public String getCarrierKey() {
+            return new StringBuffer()
+                    .append(carrier[0]).append('|')
+                    .append(carrier[1]).append('|')
+                    .append(carrier[2]).append('|')
+                    .append(carrier[3])
+                    .toString();
+        }
+    }
+}
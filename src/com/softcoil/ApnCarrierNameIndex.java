@@ -0,0 +1,390 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Suggests carrier names as the user types, for screens where the carrier has to be picked by
+ * hand. Names are the SIM and network operator names of the data source's full keys, ranked by
+ * how often their keys were reported if the data source keeps report counts (see
+ * {@link ApnReportStats}), and otherwise by how many keys they appear in. Example:<br/>
+ *  <pre>
+ *  ApnCarrierNameIndex index = new ApnCarrierNameIndex(new EmbeddedApnDataSource());
+ *  for(ApnCarrierNameIndex.Suggestion suggestion : index.complete("voda", 5)) {
+ *      show(suggestion.getName(), suggestion.getKeys());
+ *  }
+ *  </pre>
+ *
+ * Matching ignores case, accents and punctuation, and any word of a name can be typed first, so
+ * "mobile" and "t mo" both find T-Mobile. Names are stored in a trie whose nodes each hold the
+ * best {@link #MAX_SUGGESTIONS} names below them, so completing a prefix is a walk down the trie
+ * with no ranking left to do. The trie is built on the first query and rebuilt whenever the data
+ * source version changes; queries made meanwhile wait for it rather than building their own.
+ */
+public class ApnCarrierNameIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final ApnDataSource source;
+    private volatile Trie trie;
+
+    public ApnCarrierNameIndex(ApnDataSource source) {
+        this.source = source;
+    }
+
+    public ApnDataSource getDataSource() {
+        return source;
+    }
+
+    /**
+     * @param prefix What the user has typed so far.
+     * @param limit The most suggestions to return, at most MAX_SUGGESTIONS.
+     * @return The best matching names, most reported first.
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        Trie current = trie();
+        int node = current.find(normalize(prefix));
+        if(node < 0) return Collections.emptyList();
+
+        int count = Math.min(Math.min(limit, MAX_SUGGESTIONS), current.topLengths[node]);
+        List<Suggestion> suggestions = new ArrayList<Suggestion>(Math.max(count, 0));
+        for(int i = 0; i < count; i++) {
+            suggestions.add(current.names[current.top[current.topOffsets[node] + i]]);
+        }
+        return suggestions;
+    }
+
+    private Trie trie() {
+        int version = source.getVersion();
+        Trie current = trie;
+        if(current == null || current.version != version) {
+            synchronized(this) {
+                current = trie;
+                if(current == null || current.version != version) {
+                    current = new Trie(version, source);
+                    trie = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Lower case letters and digits with accents removed, everything else dropped.
+     */
+    static String normalize(String name) {
+        return normalize(name, false);
+    }
+
+    /**
+     * Like normalize, but with a single space wherever the name had a word break.
+     */
+    private static String normalizeWords(String name) {
+        return normalize(name, true);
+    }
+
+    private static String normalize(String name, boolean words) {
+        //Most names are plain ASCII and have no accents to strip.
+        String decomposed = name;
+        for(int i = 0; i < name.length(); i++) {
+            if(name.charAt(i) >= 0x80) {
+                decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+                break;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        boolean space = false;
+        for(int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if(Character.isLetterOrDigit(c)) {
+                if(words && space && sb.length() > 0) sb.append(' ');
+                sb.append(Character.toLowerCase(c));
+                space = false;
+            } else if(Character.getType(c) != Character.NON_SPACING_MARK) {
+                space = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A carrier name along with the keys it appears in.
+     */
+    public static final class Suggestion {
+        private final String name;
+        private final int reportCount;
+        private final Set<String> keys;
+
+        Suggestion(String name, int reportCount, Set<String> keys) {
+            this.name = name;
+            this.reportCount = reportCount;
+            this.keys = keys;
+        }
+
+        /**
+         * @return The name as most often reported, among the spellings that normalize alike.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The reports of all the keys the name appears in, or the number of those keys if
+         * the data source keeps no report counts.
+         */
+        public int getReportCount() {
+            return reportCount;
+        }
+
+        /**
+         * @return The full keys the name appears in as SIM or network operator name, sorted.
+         */
+        public Set<String> getKeys() {
+            return keys;
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + reportCount + ")";
+        }
+    }
+
+    /**
+     * The trie is flattened into arrays. A node's children are contiguous and sorted by label so
+     * they can be binary searched, and its best names are a slice of the shared top array. Names
+     * are numbered best first, so merging children's slices keeps the smallest numbers.
+     */
+    private static final class Trie {
+        private final int version;
+        private final Suggestion[] names;
+
+        private final char[] labels;
+        private final int[] firstChildren;
+        private final int[] childCounts;
+        private final int[] topOffsets;
+        private final byte[] topLengths;
+        private final int[] top;
+
+        private Trie(int version, ApnDataSource source) {
+            this.version = version;
+
+            //Group spellings that normalize alike and total their reports.
+            Map<String, Map<String, Integer>> spellings = new HashMap<String, Map<String, Integer>>();
+            Map<String, Set<String>> keysByName = new HashMap<String, Set<String>>();
+            ApnReportStats stats = source instanceof ApnReportStats ? (ApnReportStats) source : null;
+            for(String key : source.keys()) {
+                String[] parts = key.split("\\|", -1);
+                if(parts.length != 4) continue;
+
+                //Without report counts every key counts once.
+                int reportCount = stats != null ? stats.getReportCount(key) : 1;
+                String simName = normalizeWords(parts[1]);
+                String networkName = normalizeWords(parts[3]);
+                addName(spellings, keysByName, simName, parts[1].trim(), key, reportCount);
+                if(!networkName.equals(simName)) {
+                    addName(spellings, keysByName, networkName, parts[3].trim(), key, reportCount);
+                }
+            }
+
+            List<Suggestion> ranked = new ArrayList<Suggestion>();
+            List<String> words = new ArrayList<String>();
+            for(Map.Entry<String, Map<String, Integer>> entry : spellings.entrySet()) {
+                String spelling = null;
+                int best = -1;
+                int total = 0;
+                for(Map.Entry<String, Integer> candidate : entry.getValue().entrySet()) {
+                    total += candidate.getValue();
+                    if(candidate.getValue() > best) {
+                        spelling = candidate.getKey();
+                        best = candidate.getValue();
+                    }
+                }
+                ranked.add(new Suggestion(spelling, total, Collections.unmodifiableSet(keysByName.get(entry.getKey()))));
+                words.add(entry.getKey());
+            }
+
+            Integer[] order = new Integer[ranked.size()];
+            for(int i = 0; i < order.length; i++) order[i] = i;
+            final List<Suggestion> unordered = ranked;
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    Suggestion x = unordered.get(a);
+                    Suggestion y = unordered.get(b);
+                    if(x.reportCount != y.reportCount) return x.reportCount > y.reportCount ? -1 : 1;
+                    return x.name.compareTo(y.name);
+                }
+            });
+
+            names = new Suggestion[order.length];
+            Node root = new Node();
+            for(int id = 0; id < order.length; id++) {
+                names[id] = ranked.get(order[id]);
+                //Each word start is an entry point, so later words can be typed first.
+                String name = words.get(order[id]);
+                for(int start = 0; start < name.length(); start = name.indexOf(' ', start) + 1) {
+                    root.insert(name.substring(start).replace(" ", ""), id);
+                    if(name.indexOf(' ', start) < 0) break;
+                }
+            }
+
+            int nodes = root.count();
+            labels = new char[nodes];
+            firstChildren = new int[nodes];
+            childCounts = new int[nodes];
+            topOffsets = new int[nodes];
+            topLengths = new byte[nodes];
+            List<Integer> topList = new ArrayList<Integer>();
+            flatten(root, topList);
+
+            top = new int[topList.size()];
+            for(int i = 0; i < top.length; i++) top[i] = topList.get(i);
+        }
+
+        private static void addName(Map<String, Map<String, Integer>> spellings, Map<String, Set<String>> keysByName,
+                                    String normalized, String spelling, String key, int reportCount) {
+            if(normalized.length() == 0) return;
+
+            Map<String, Integer> counts = spellings.get(normalized);
+            if(counts == null) {
+                counts = new HashMap<String, Integer>();
+                spellings.put(normalized, counts);
+                keysByName.put(normalized, new TreeSet<String>());
+            }
+            Integer previous = counts.get(spelling);
+            counts.put(spelling, (previous != null ? previous : 0) + reportCount);
+            keysByName.get(normalized).add(key);
+        }
+
+        /**
+         * Lay the nodes out breadth first so each node's children end up next to each other.
+         */
+        private void flatten(Node root, List<Integer> topList) {
+            List<Node> queue = new ArrayList<Node>();
+            queue.add(root);
+            for(int i = 0; i < queue.size(); i++) {
+                Node node = queue.get(i);
+                labels[i] = node.label;
+                firstChildren[i] = queue.size();
+                childCounts[i] = node.children.size();
+                queue.addAll(node.children.values());
+            }
+
+            //Children before parents, so each node can merge its children's best names.
+            int[][] best = new int[queue.size()][];
+            for(int i = queue.size() - 1; i >= 0; i--) {
+                Node node = queue.get(i);
+                int[] merged = node.ids;
+                for(int child = firstChildren[i]; child < firstChildren[i] + childCounts[i]; child++) {
+                    merged = merge(merged, best[child]);
+                }
+                best[i] = merged;
+
+                //A node with a single child and no names of its own shares the child's slice.
+                if(node.ids.length == 0 && childCounts[i] == 1) {
+                    topOffsets[i] = topOffsets[firstChildren[i]];
+                } else {
+                    topOffsets[i] = topList.size();
+                    for(int id : merged) topList.add(id);
+                }
+                topLengths[i] = (byte) merged.length;
+            }
+        }
+
+        private static int[] merge(int[] a, int[] b) {
+            int[] merged = new int[Math.min(a.length + b.length, MAX_SUGGESTIONS)];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while(n < merged.length && (i < a.length || j < b.length)) {
+                int next;
+                if(j >= b.length || (i < a.length && a[i] <= b[j])) next = a[i++];
+                else next = b[j++];
+                if(n > 0 && merged[n - 1] == next) continue;
+                merged[n++] = next;
+            }
+            return n == merged.length ? merged : Arrays.copyOf(merged, n);
+        }
+
+        /**
+         * @return The node for a normalized prefix, or -1.
+         */
+        private int find(String prefix) {
+            int node = 0;
+            for(int i = 0; i < prefix.length(); i++) {
+                char c = prefix.charAt(i);
+                int low = firstChildren[node];
+                int high = low + childCounts[node] - 1;
+                node = -1;
+                while(low <= high) {
+                    int middle = (low + high) >>> 1;
+                    if(labels[middle] < c) low = middle + 1;
+                    else if(labels[middle] > c) high = middle - 1;
+                    else {
+                        node = middle;
+                        break;
+                    }
+                }
+                if(node < 0) return -1;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * A trie node used only while building.
+     */
+    private static final class Node {
+        private char label;
+        private int[] ids = new int[0];
+        private final TreeMap<Character, Node> children = new TreeMap<Character, Node>();
+
+        private void insert(String word, int id) {
+            Node node = this;
+            for(int i = 0; i < word.length(); i++) {
+                Character c = word.charAt(i);
+                Node child = node.children.get(c);
+                if(child == null) {
+                    child = new Node();
+                    child.label = c;
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            //Ids arrive best first, so appending keeps them sorted.
+            if(node.ids.length < MAX_SUGGESTIONS && (node.ids.length == 0 || node.ids[node.ids.length - 1] != id)) {
+                node.ids = Arrays.copyOf(node.ids, node.ids.length + 1);
+                node.ids[node.ids.length - 1] = id;
+            }
+        }
+
+        private int count() {
+            int count = 1;
+            for(Node child : children.values()) count += child.count();
+            return count;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+/**
+ * Tells an {@link ApnCarrierMonitor} which SIM and network the device is on whenever that may
+ * have changed. On a device this is {@link TelephonyCarrierSource}; elsewhere any source of
+ * carrier changes can be adapted, for instance a test driver or a server tracking a session.
+ */
+public abstract class ApnCarrierSource {
+
+    /**
+     * Receives carrier changes.
+     */
+    public interface Listener {
+        /**
+         * The carrier may have changed. Repeats of the current carrier are allowed and ignored.
+         */
+        void onCarrierChanged(String simOperator, String simOperatorName, String networkOperator,
+                              String networkOperatorName);
+    }
+
+    /**
+     * Start delivering changes, beginning with the current carrier if it is known.
+     */
+    public abstract void start(Listener listener);
+
+    /**
+     * Stop delivering changes.
+     */
+    public abstract void stop();
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Groups the keys of a data source by country, so the known carriers and candidate parameters
+ * for a country can be listed without scanning every entry. Countries are lower case ISO 3166
+ * codes, as returned by TelephonyManager.getSimCountryIso and sent in reports. Example:<br/>
+ *  <pre>
+ *  ApnCountryIndex index = new ApnCountryIndex(new EmbeddedApnDataSource());
+ *  Set&lt;ApnParameters&gt; candidates = index.getParameters(ApnCountryIndex.countryIso("26201"));
+ *  </pre>
+ *
+ * A key belongs to the country of its SIM MCC, or of its network MCC when the SIM operator is
+ * blank or a test MCC. The index is built on the first query and rebuilt whenever the data source version
+ * changes. Returned collections are ordered by key and cannot be modified.
+ */
+public class ApnCountryIndex {
+
+    /**
+     * MCCs and their countries from ITU-T E.212, as three digit MCC and two letter ISO code pairs.
+     * Where an MCC is shared the country that operates the network is used.
+     */
+    private static final String MCC_COUNTRIES =
+            "202gr204nl206be208fr212mc213ad214es216hu218ba219hr220rs221xk222it225va226ro228ch230cz"
+            + "231sk232at234gb235gb238dk240se242no244fi246lt247lv248ee250ru255ua257by259md260pl262de"
+            + "266gi268pt270lu272ie274is276al278mt280cy282ge283am284bg286tr288fo290gl292sm293si294mk"
+            + "295li297me"
+            + "302ca308pm310us311us312us313us314us315us316us330pr332vi334mx338jm340gp342bb344ag346ky"
+            + "348vg350bm352gd354ms356kn358lc360vc362cw363aw364bs365ai366dm368cu370do372ht374tt376tc"
+            + "400az401kz402bt404in405in406in410pk412af413lk414mm415lb416jo417sy418iq419kw420sa421ye"
+            + "422om424ae425il426bh427qa428mn429np430ae431ae432ir434uz436tj437kg438tm440jp441jp450kr"
+            + "452vn454hk455mo456kh457la460cn461cn466tw467kp470bd472mv"
+            + "502my505au510id514tl515ph520th525sg528bn530nz536nr537pg539to540sb541vu542fj543wf544as"
+            + "545ki546nc547pf548ck549ws550fm551mh552pw553tv554tk555nu"
+            + "602eg603dz604ma605tn606ly607gm608sn609mr610ml611gn612ci613bf614ne615tg616bj617mu618lr"
+            + "619sl620gh621ng622td623cf624cm625cv626st627gq628ga629cg630cd631ao632gw633sc634sd635rw"
+            + "636et637so638dj639ke640tz641ug642bi643mz645zm646mg647re648zw649na650mw651ls652bw653sz"
+            + "654km655za657er658sh659ss"
+            + "702bz704gt706sv708hn710ni712cr714pa716pe722ar724br730cl732co734ve736bo738gy740ec742gf"
+            + "744py746sr748uy750fk";
+
+    //Indexed by MCC, null where no country is assigned.
+    private static final String[] COUNTRIES = new String[1000];
+
+    static {
+        for(int i = 0; i < MCC_COUNTRIES.length(); i += 5) {
+            int mcc = Integer.parseInt(MCC_COUNTRIES.substring(i, i + 3));
+            COUNTRIES[mcc] = MCC_COUNTRIES.substring(i + 3, i + 5).intern();
+        }
+    }
+
+    private final ApnDataSource source;
+    private volatile Index index;
+
+    public ApnCountryIndex(ApnDataSource source) {
+        this.source = source;
+    }
+
+    public ApnDataSource getDataSource() {
+        return source;
+    }
+
+    /**
+     * @return The lower case ISO country code for an MCC, or null if it has none.
+     */
+    public static String countryIso(int mcc) {
+        return mcc >= 0 && mcc < COUNTRIES.length ? COUNTRIES[mcc] : null;
+    }
+
+    /**
+     * @param operator An MCCMNC, or anything starting with a three digit MCC.
+     * @return The lower case ISO country code of its MCC, or null.
+     */
+    public static String countryIso(String operator) {
+        if(operator == null || operator.length() < 3) return null;
+
+        int mcc = 0;
+        for(int i = 0; i < 3; i++) {
+            char c = operator.charAt(i);
+            if(c < '0' || c > '9') return null;
+            mcc = mcc * 10 + (c - '0');
+        }
+        return COUNTRIES[mcc];
+    }
+
+    /**
+     * @return The countries that have at least one key, sorted.
+     */
+    public Set<String> getCountries() {
+        return index().countries;
+    }
+
+    /**
+     * @param countryIso A lower case ISO country code.
+     * @return The keys of the country and their parameters, or an empty map.
+     */
+    public Map<String, ApnParameters> getEntries(String countryIso) {
+        Map<String, ApnParameters> entries = index().entries.get(countryIso);
+        return entries != null ? entries : Collections.<String, ApnParameters>emptyMap();
+    }
+
+    /**
+     * @param countryIso A lower case ISO country code.
+     * @return The distinct parameters used in the country, or an empty set.
+     */
+    public Set<ApnParameters> getParameters(String countryIso) {
+        Set<ApnParameters> parameters = index().parameters.get(countryIso);
+        return parameters != null ? parameters : Collections.<ApnParameters>emptySet();
+    }
+
+    private Index index() {
+        int version = source.getVersion();
+        Index current = index;
+        if(current == null || current.version != version) {
+            //Racing threads build identical indexes so either one may win.
+            current = new Index(version, source);
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * @return The country a key belongs to, or null.
+     */
+    static String countryOfKey(String key) {
+        String country = countryIso(key);
+        if(country == null) {
+            //Test SIMs and blank SIM operators, fall back on the network.
+            int simName = key.indexOf('|');
+            int network = simName >= 0 ? key.indexOf('|', simName + 1) : -1;
+            if(network >= 0) country = countryIso(key.substring(network + 1));
+        }
+        return country;
+    }
+
+    private static class Index {
+        private final int version;
+        private final Set<String> countries;
+        private final Map<String, Map<String, ApnParameters>> entries = new HashMap<String, Map<String, ApnParameters>>();
+        private final Map<String, Set<ApnParameters>> parameters = new HashMap<String, Set<ApnParameters>>();
+
+        private Index(int version, ApnDataSource source) {
+            this.version = version;
+
+            Set<String> sorted = new TreeSet<String>();
+            for(String key : source.keys()) sorted.add(key);
+
+            for(String key : sorted) {
+                String country = countryOfKey(key);
+                ApnParameters apnParameters = source.get(key);
+                if(country == null || apnParameters == null) continue;
+
+                Map<String, ApnParameters> countryEntries = entries.get(country);
+                if(countryEntries == null) {
+                    countryEntries = new LinkedHashMap<String, ApnParameters>();
+                    entries.put(country, countryEntries);
+                    parameters.put(country, new LinkedHashSet<ApnParameters>());
+                }
+                countryEntries.put(key, apnParameters);
+                parameters.get(country).add(apnParameters);
+            }
+
+            for(Map.Entry<String, Map<String, ApnParameters>> entry : entries.entrySet()) {
+                entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+            }
+            for(Map.Entry<String, Set<ApnParameters>> entry : parameters.entrySet()) {
+                entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+            }
+            countries = Collections.unmodifiableSet(new TreeSet<String>(entries.keySet()));
+        }
+    }
+}
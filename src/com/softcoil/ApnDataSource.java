@@ -0,0 +1,43 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+/**
+ * A source of APN data that ApnDefaults can look parameters up in.
+ *
+ * Keys are the same as those of the embedded table: SIM MCCMNC|SIM operator name|network
+ * MCCMNC|network name for full keys, or a bare SIM MCCMNC for the fallback. Implementations
+ * answer from an index they build up front so a lookup is a single probe. Several sources can
+ * be consulted in priority order with a {@link LayeredApnDataSource}.
+ */
+public interface ApnDataSource {
+
+    /**
+     * @param key A full or fallback key.
+     * @return The ApnParameters for exactly that key or null.
+     */
+    ApnParameters get(String key);
+
+    /**
+     * @return A number that changes whenever the data served by this source changes.
+     */
+    int getVersion();
+
+    /**
+     * @return Every key this source has parameters for.
+     */
+    Iterable<String> keys();
+}
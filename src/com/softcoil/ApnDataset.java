@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A versioned copy of the APN table, keyed exactly like the table embedded in the library
+ * (SIM MCCMNC|SIM operator name|network MCCMNC|network name, or a bare SIM MCCMNC for the old
+ * entries).
+ *
+ * Datasets are downloaded and stored on disk in a compact binary format:
+ * <pre>
+ *  int     magic ('APND')
+ *  int     dataset version
+ *  int     entry count
+ *  entries key, then the ApnParameters as written by {@link #writeParameters}
+ * </pre>
+ */
+public final class ApnDataset implements ApnDataSource {
+
+    static final int MAGIC = 0x41504E44;
+
+    /**
+     * The most entries a file may claim, far above any real table, so a damaged count fails as
+     * an IOException rather than as a huge allocation.
+     */
+    static final int MAX_ENTRIES = 1 << 20;
+
+    static final int FLAG_MMSC_URL = 1;
+    static final int FLAG_PROXY_ADDRESS = 2;
+    static final int FLAG_PROXY_PORT = 4;
+
+    private final int version;
+    private final Map<String, ApnParameters> entries;
+
+    public ApnDataset(int version, Map<String, ApnParameters> entries) {
+        this.version = version;
+        this.entries = entries;
+    }
+
+    /**
+     * @return A copy of the table compiled into the library. This is the base every delta chain
+     * starts from until a dataset has been downloaded.
+     */
+    public static ApnDataset embedded() {
+        return new ApnDataset(EmbeddedApnDataSource.VERSION,
+                new HashMap<String, ApnParameters>(EmbeddedApnDataSource.Table.APN_PARAMETERS_MAP));
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public ApnParameters get(String key) {
+        return entries.get(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public Set<String> keys() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * @return A mutable copy of the entries so a delta can be applied without touching a dataset
+     * that may still be in use by lookups.
+     */
+    Map<String, ApnParameters> copyEntries() {
+        return new HashMap<String, ApnParameters>(entries);
+    }
+
+    public static ApnDataset read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+
+        if(data.readInt() != MAGIC) throw new IOException("Not an APN dataset");
+
+        int version = data.readInt();
+        int count = readCount(data, "APN dataset");
+
+        //Not presized from the count, which a damaged file may have wrong.
+        Map<String, ApnParameters> entries = new HashMap<String, ApnParameters>();
+        for(int i = 0; i < count; i++) {
+            String key = data.readUTF();
+            entries.put(key, readParameters(data));
+        }
+
+        return new ApnDataset(version, entries);
+    }
+
+    /**
+     * Read the entry count of a file in one of the library's binary formats.
+     *
+     * @param what What the file is, for the error message.
+     * @throws IOException If the count is negative or above {@link #MAX_ENTRIES}, as only a
+     * damaged file would have it.
+     */
+    static int readCount(DataInputStream data, String what) throws IOException {
+        int count = data.readInt();
+        if(count < 0 || count > MAX_ENTRIES) throw new IOException("Corrupt " + what + ", count " + count);
+        return count;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(version);
+        data.writeInt(entries.size());
+        for(Map.Entry<String, ApnParameters> entry : entries.entrySet()) {
+            data.writeUTF(entry.getKey());
+            writeParameters(data, entry.getValue());
+        }
+        data.flush();
+    }
+
+    /**
+     * Parameters are written as a flags byte followed only by the fields that are set, so an
+     * entry without a proxy costs a single byte beyond its MMSC URL.
+     */
+    static void writeParameters(DataOutputStream data, ApnParameters parameters) throws IOException {
+        //Write the raw fields rather than the getters so the proxy port default is not baked in.
+        String mmscUrl = parameters.mmscUrl;
+        String proxyAddress = parameters.proxyAddress;
+        Integer proxyPort = parameters.proxyPort;
+
+        int flags = (mmscUrl != null ? FLAG_MMSC_URL : 0)
+                | (proxyAddress != null ? FLAG_PROXY_ADDRESS : 0)
+                | (proxyPort != null ? FLAG_PROXY_PORT : 0);
+
+        data.writeByte(flags);
+        if(mmscUrl != null) data.writeUTF(mmscUrl);
+        if(proxyAddress != null) data.writeUTF(proxyAddress);
+        if(proxyPort != null) data.writeInt(proxyPort);
+    }
+
+    static ApnParameters readParameters(DataInputStream data) throws IOException {
+        int flags = data.readUnsignedByte();
+        String mmscUrl = (flags & FLAG_MMSC_URL) != 0 ? data.readUTF() : null;
+        String proxyAddress = (flags & FLAG_PROXY_ADDRESS) != 0 ? data.readUTF() : null;
+        Integer proxyPort = (flags & FLAG_PROXY_PORT) != 0 ? data.readInt() : null;
+        return new ApnParameters(mmscUrl, proxyAddress, proxyPort);
+    }
+}
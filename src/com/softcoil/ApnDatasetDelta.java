@@ -0,0 +1,194 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The changes between two consecutive versions of an {@link ApnDataset}, keyed by the same four
+ * part key as the table.
+ *
+ * Deltas are strict: an add for a key that already exists, or a change or removal for a key that
+ * does not, means the local dataset is not the version the delta was built against. Applying
+ * fails with an IOException in that case so the caller can fall back on a full snapshot.
+ *
+ * The binary format is:
+ * <pre>
+ *  int     magic ('APNU')
+ *  int     from version
+ *  int     to version
+ *  int     operation count
+ *  ops     op byte, key, then the ApnParameters for adds and changes
+ * </pre>
+ */
+public final class ApnDatasetDelta {
+
+    static final int MAGIC = 0x41504E55;
+
+    public static final int OP_ADD = 0;
+    public static final int OP_CHANGE = 1;
+    public static final int OP_REMOVE = 2;
+
+    private final int fromVersion;
+    private final int toVersion;
+    private final List<Operation> operations;
+
+    public ApnDatasetDelta(int fromVersion, int toVersion) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.operations = new ArrayList<Operation>();
+    }
+
+    public int getFromVersion() {
+        return fromVersion;
+    }
+
+    public int getToVersion() {
+        return toVersion;
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    public ApnDatasetDelta add(String key, ApnParameters apnParameters) {
+        operations.add(new Operation(OP_ADD, key, apnParameters));
+        return this;
+    }
+
+    public ApnDatasetDelta change(String key, ApnParameters apnParameters) {
+        operations.add(new Operation(OP_CHANGE, key, apnParameters));
+        return this;
+    }
+
+    public ApnDatasetDelta remove(String key) {
+        operations.add(new Operation(OP_REMOVE, key, null));
+        return this;
+    }
+
+    /**
+     * Build the delta that turns one dataset into another. Used on the publishing side.
+     */
+    public static ApnDatasetDelta between(ApnDataset from, ApnDataset to) {
+        ApnDatasetDelta delta = new ApnDatasetDelta(from.getVersion(), to.getVersion());
+
+        for(String key : to.keys()) {
+            ApnParameters previous = from.get(key);
+            ApnParameters current = to.get(key);
+            if(previous == null) {
+                delta.add(key, current);
+            } else if(!previous.equals(current)) {
+                delta.change(key, current);
+            }
+        }
+
+        for(String key : from.keys()) {
+            if(to.get(key) == null) delta.remove(key);
+        }
+
+        return delta;
+    }
+
+    /**
+     * Apply this delta to a dataset. The given dataset is left untouched.
+     *
+     * @param dataset The dataset to update. It must be at this delta's from version.
+     * @return The dataset at this delta's to version.
+     * @throws IOException If the dataset is not the one this delta was built against.
+     */
+    public ApnDataset applyTo(ApnDataset dataset) throws IOException {
+        if(dataset.getVersion() != fromVersion) {
+            throw new IOException("Delta from " + fromVersion + " cannot be applied to " + dataset.getVersion());
+        }
+
+        Map<String, ApnParameters> entries = dataset.copyEntries();
+        for(Operation operation : operations) {
+            boolean present = entries.containsKey(operation.key);
+            switch(operation.op) {
+                case OP_ADD:
+                    if(present) throw new IOException("Delta adds existing key " + operation.key);
+                    entries.put(operation.key, operation.apnParameters);
+                    break;
+                case OP_CHANGE:
+                    if(!present) throw new IOException("Delta changes missing key " + operation.key);
+                    entries.put(operation.key, operation.apnParameters);
+                    break;
+                default:
+                    if(!present) throw new IOException("Delta removes missing key " + operation.key);
+                    entries.remove(operation.key);
+                    break;
+            }
+        }
+
+        return new ApnDataset(toVersion, entries);
+    }
+
+    public static ApnDatasetDelta read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+
+        if(data.readInt() != MAGIC) throw new IOException("Not an APN dataset delta");
+
+        ApnDatasetDelta delta = new ApnDatasetDelta(data.readInt(), data.readInt());
+        int count = ApnDataset.readCount(data, "APN dataset delta");
+
+        for(int i = 0; i < count; i++) {
+            int op = data.readUnsignedByte();
+            String key = data.readUTF();
+            if(op == OP_ADD || op == OP_CHANGE) {
+                delta.operations.add(new Operation(op, key, ApnDataset.readParameters(data)));
+            } else if(op == OP_REMOVE) {
+                delta.operations.add(new Operation(op, key, null));
+            } else {
+                throw new IOException("Unknown delta operation " + op);
+            }
+        }
+
+        return delta;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(fromVersion);
+        data.writeInt(toVersion);
+        data.writeInt(operations.size());
+        for(Operation operation : operations) {
+            data.writeByte(operation.op);
+            data.writeUTF(operation.key);
+            if(operation.op != OP_REMOVE) ApnDataset.writeParameters(data, operation.apnParameters);
+        }
+        data.flush();
+    }
+
+    private static class Operation {
+        private final int op;
+        private final String key;
+        private final ApnParameters apnParameters;
+
+        private Operation(int op, String key, ApnParameters apnParameters) {
+            this.op = op;
+            this.key = key;
+            this.apnParameters = apnParameters;
+        }
+    }
+}
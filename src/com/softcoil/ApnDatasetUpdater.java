@@ -0,0 +1,390 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import android.content.Context;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps a local copy of the APN dataset up to date with the reporting server.
+ *
+ * The server publishes a manifest listing the latest dataset version, the size of a full
+ * snapshot and the deltas it still has between consecutive versions. When the local dataset is
+ * only a few versions behind the updater downloads and applies just those deltas. It falls back
+ * on the full snapshot when the chain is longer than {@link #setMaxDeltaChain(int)}, when the
+ * deltas would cost as much as the snapshot, or when a delta does not apply cleanly.
+ *
+ * The manifest format is:
+ * <pre>
+ *  int     magic ('APNL')
+ *  int     latest version
+ *  int     snapshot size in bytes
+ *  int     delta count
+ *  deltas  from version, to version, size in bytes
+ * </pre>
+ *
+ * Updating does network and file I/O so it must not be called from the main thread. Example:<br/>
+ *  <pre>
+ *  ApnDatasetUpdater updater = new ApnDatasetUpdater(context);
+ *  ApnDefaults.setDataSource(new LayeredApnDataSource(
+ *          ApnDefaults.getOverrides(context),
+ *          updater.getDataSource()));
+ *  ...
+ *  ApnDatasetUpdater.UpdateResult result = updater.update();
+ *  </pre>
+ */
+public class ApnDatasetUpdater {
+
+    public static final String DEFAULT_BASE_URL = "http://apn.softcoil.com/apnDataset";
+    public static final int DEFAULT_MAX_DELTA_CHAIN = 8;
+
+    static final int CONNECT_TIMEOUT_MILLIS = 10 * 1000;
+    static final int READ_TIMEOUT_MILLIS = 10 * 1000;
+
+    static final String DATASET_FILE_NAME = "com.softcoil.apn_dataset";
+
+    private static final int MANIFEST_MAGIC = 0x41504E4C;
+
+    private final String baseUrl;
+    private final File file;
+    private final FileApnDataSource dataSource;
+    private int maxDeltaChain = DEFAULT_MAX_DELTA_CHAIN;
+
+    public ApnDatasetUpdater(Context context) {
+        this(DEFAULT_BASE_URL, new File(context.getFilesDir(), DATASET_FILE_NAME));
+    }
+
+    /**
+     * @param baseUrl The URL the manifest, snapshot and deltas are published under.
+     * @param file Where the local dataset is stored.
+     */
+    public ApnDatasetUpdater(String baseUrl, File file) {
+        this.baseUrl = baseUrl;
+        this.file = file;
+        this.dataSource = new FileApnDataSource(file, new EmbeddedApnDataSource());
+    }
+
+    /**
+     * @return A data source serving the local dataset. It switches to each new dataset as soon
+     * as an update has installed it, so it can be handed to ApnDefaults once at startup.
+     */
+    public FileApnDataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @param maxDeltaChain The most deltas to apply in one update before downloading a full
+     *                      snapshot instead.
+     */
+    public void setMaxDeltaChain(int maxDeltaChain) {
+        this.maxDeltaChain = maxDeltaChain;
+    }
+
+    /**
+     * @return The locally stored dataset, or the embedded dataset if nothing has
+     * been downloaded yet or the stored copy cannot be read.
+     */
+    public ApnDataset loadLocal() {
+        if(file.exists()) {
+            try {
+                InputStream in = new BufferedInputStream(new FileInputStream(file));
+                try {
+                    return ApnDataset.read(in);
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                //Fall through to the embedded data, the next update will replace the file.
+            }
+        }
+
+        return ApnDataset.embedded();
+    }
+
+    /**
+     * Bring the local dataset up to the latest published version and start serving it from
+     * {@link #getDataSource()}.
+     *
+     * @return What was done and what it cost.
+     * @throws IOException If the server could not be reached, sent a snapshot of another version
+     * than its manifest's latest, or the local file could not be written.
+     */
+    public UpdateResult update() throws IOException {
+        ApnDataset local = loadLocal();
+        long[] bytes = new long[1];
+
+        int latestVersion;
+        int snapshotBytes;
+        List<int[]> chain;
+        DataInputStream manifest = new DataInputStream(new BufferedInputStream(open(baseUrl + "/manifest", bytes)));
+        try {
+            if(manifest.readInt() != MANIFEST_MAGIC) throw new IOException("Not an APN dataset manifest");
+            latestVersion = manifest.readInt();
+            snapshotBytes = manifest.readInt();
+            chain = readChain(manifest, local.getVersion(), latestVersion);
+        } finally {
+            manifest.close();
+        }
+
+        if(latestVersion == local.getVersion()) {
+            return new UpdateResult(UpdateResult.MODE_UP_TO_DATE, local.getVersion(),
+                    latestVersion, 0, bytes[0], snapshotBytes, 0);
+        }
+
+        if(chain != null && chain.size() <= maxDeltaChain && chainBytes(chain) < snapshotBytes) {
+            long applyNanos = 0;
+            ApnDataset dataset = local;
+            try {
+                for(int[] link : chain) {
+                    InputStream in = open(baseUrl + "/delta?from=" + link[0], bytes);
+                    ApnDatasetDelta delta;
+                    try {
+                        delta = ApnDatasetDelta.read(new BufferedInputStream(in));
+                    } finally {
+                        in.close();
+                    }
+
+                    long start = System.nanoTime();
+                    dataset = delta.applyTo(dataset);
+                    applyNanos += System.nanoTime() - start;
+                }
+                checkVersion(dataset, latestVersion);
+
+                install(dataset);
+                return new UpdateResult(UpdateResult.MODE_DELTA, local.getVersion(),
+                        dataset.getVersion(), chain.size(), bytes[0], snapshotBytes, applyNanos);
+            } catch (IOException e) {
+                //The chain is broken or our copy has drifted, a full snapshot will fix both.
+            }
+        }
+
+        InputStream in = open(baseUrl + "/snapshot", bytes);
+        ApnDataset dataset;
+        long start = System.nanoTime();
+        try {
+            dataset = ApnDataset.read(new BufferedInputStream(in));
+        } finally {
+            in.close();
+        }
+        long applyNanos = System.nanoTime() - start;
+        checkVersion(dataset, latestVersion);
+
+        install(dataset);
+        return new UpdateResult(UpdateResult.MODE_SNAPSHOT, local.getVersion(),
+                dataset.getVersion(), 0, bytes[0], snapshotBytes, applyNanos);
+    }
+
+    /**
+     * A dataset that is not the version the manifest promised, say from a cache serving a stale
+     * snapshot, is never installed, as it would be taken for the latest until the next update.
+     */
+    private static void checkVersion(ApnDataset dataset, int latestVersion) throws IOException {
+        if(dataset.getVersion() != latestVersion) {
+            throw new IOException("Got dataset version " + dataset.getVersion() + " but the manifest's latest is "
+                    + latestVersion);
+        }
+    }
+
+    /**
+     * Follow the deltas in the manifest from our version to the latest one.
+     *
+     * @return The chain of {from, to, bytes} links, or null if there is no complete chain.
+     */
+    private static List<int[]> readChain(DataInputStream manifest, int fromVersion, int latestVersion) throws IOException {
+        int count = ApnDataset.readCount(manifest, "APN dataset manifest");
+        List<int[]> deltas = new ArrayList<int[]>();
+        for(int i = 0; i < count; i++) {
+            deltas.add(new int[] { manifest.readInt(), manifest.readInt(), manifest.readInt() });
+        }
+
+        List<int[]> chain = new ArrayList<int[]>();
+        int version = fromVersion;
+        while(version != latestVersion) {
+            int[] next = null;
+            for(int[] delta : deltas) {
+                if(delta[0] == version) {
+                    next = delta;
+                    break;
+                }
+            }
+
+            if(next == null || chain.size() > deltas.size()) return null;
+            chain.add(next);
+            version = next[1];
+        }
+
+        return chain;
+    }
+
+    private static long chainBytes(List<int[]> chain) {
+        long total = 0;
+        for(int[] link : chain) total += link[2];
+        return total;
+    }
+
+    /**
+     * @return The response body, which disconnects when closed.
+     */
+    private static InputStream open(String url, long[] bytes) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+            connection.setRequestProperty("User-Agent", ApnReporter.USER_AGENT);
+            int status = connection.getResponseCode();
+            if(status != HttpURLConnection.HTTP_OK) throw new IOException("HTTP " + status + " for " + url);
+            return new CountingInputStream(connection, bytes);
+        } catch (IOException e) {
+            connection.disconnect();
+            throw e;
+        }
+    }
+
+    /**
+     * Write the dataset next to the current file and rename it into place so a crash part way
+     * through never leaves a truncated dataset behind.
+     */
+    private void install(ApnDataset dataset) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        OutputStream out = new FileOutputStream(temp);
+        try {
+            dataset.write(out);
+        } finally {
+            out.close();
+        }
+
+        if(!temp.renameTo(file)) {
+            temp.delete();
+            throw new IOException("Could not replace " + file);
+        }
+
+        dataSource.set(dataset);
+    }
+
+    /**
+     * The outcome of an update along with what it cost, so delta updates can be compared with
+     * the full refresh they replaced.
+     */
+    public static class UpdateResult {
+        public static final int MODE_UP_TO_DATE = 0;
+        public static final int MODE_DELTA = 1;
+        public static final int MODE_SNAPSHOT = 2;
+
+        private final int mode;
+        private final int fromVersion;
+        private final int toVersion;
+        private final int deltaCount;
+        private final long bytesTransferred;
+        private final long snapshotBytes;
+        private final long applyTimeNanos;
+
+        UpdateResult(int mode, int fromVersion, int toVersion, int deltaCount, long bytesTransferred,
+                     long snapshotBytes, long applyTimeNanos) {
+            this.mode = mode;
+            this.fromVersion = fromVersion;
+            this.toVersion = toVersion;
+            this.deltaCount = deltaCount;
+            this.bytesTransferred = bytesTransferred;
+            this.snapshotBytes = snapshotBytes;
+            this.applyTimeNanos = applyTimeNanos;
+        }
+
+        /**
+         * @return One of MODE_UP_TO_DATE, MODE_DELTA or MODE_SNAPSHOT.
+         */
+        public int getMode() {
+            return mode;
+        }
+
+        public int getFromVersion() {
+            return fromVersion;
+        }
+
+        public int getToVersion() {
+            return toVersion;
+        }
+
+        public int getDeltaCount() {
+            return deltaCount;
+        }
+
+        /**
+         * @return Bytes downloaded for this update, including the manifest.
+         */
+        public long getBytesTransferred() {
+            return bytesTransferred;
+        }
+
+        /**
+         * @return Bytes a full refresh would have downloaded, as published in the manifest.
+         */
+        public long getSnapshotBytes() {
+            return snapshotBytes;
+        }
+
+        /**
+         * @return Time spent applying deltas, or parsing the snapshot for a full refresh.
+         */
+        public long getApplyTimeNanos() {
+            return applyTimeNanos;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private final HttpURLConnection connection;
+        private final long[] count;
+
+        private CountingInputStream(HttpURLConnection connection, long[] count) throws IOException {
+            super(connection.getInputStream());
+            this.connection = connection;
+            this.count = count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                connection.disconnect();
+            }
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if(b >= 0) count[0]++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if(n > 0) count[0] += n;
+            return n;
+        }
+    }
+}
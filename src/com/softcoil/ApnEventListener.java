@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+/**
+ * Receives an event for each dataset load, lookup and report, for tracing and profiling. Override
+ * the events you need and install the listener with {@link #setListener}. The library checks for
+ * a listener with a single volatile read, so nothing is timed or allocated while none is set.
+ *
+ * Callbacks are made on the thread doing the work, after it is done, so they should be quick.
+ */
+public abstract class ApnEventListener {
+
+    private static volatile ApnEventListener listener;
+
+    /**
+     * @param listener The listener to receive events, or null to stop sending them.
+     */
+    public static void setListener(ApnEventListener listener) {
+        ApnEventListener.listener = listener;
+    }
+
+    /**
+     * @return The current listener or null.
+     */
+    public static ApnEventListener getListener() {
+        return listener;
+    }
+
+    /**
+     * A dataset was read into memory or opened.
+     *
+     * @param source What was loaded: "embedded", "file", "mapped" or "overrides".
+     * @param version The dataset version.
+     * @param entries How many keys it holds.
+     * @param nanos How long loading took.
+     */
+    public void onDatasetLoaded(String source, int version, int entries, long nanos) {}
+
+    /**
+     * A lookup was answered.
+     *
+     * @param tier The ApnLookupMetrics TIER_ constant of the tier that answered, or
+     *             ApnLookupMetrics.TIER_NONE if there was no answer.
+     * @param nanos How long the lookup took.
+     */
+    public void onLookup(String simOperator, String networkOperator, int tier, long nanos) {}
+
+    /**
+     * A report of new APN data is about to be sent.
+     */
+    public void onReportStarted(String apnData) {}
+
+    /**
+     * The reporting server answered.
+     *
+     * @param status The HTTP status.
+     * @param nanos How long the report took.
+     */
+    public void onReportSent(int status, long nanos) {}
+
+    /**
+     * The report could not be sent for a reason other than a timeout.
+     *
+     * @param nanos How long was spent before the failure.
+     */
+    public void onReportFailed(Exception e, long nanos) {}
+
+    /**
+     * Connecting to or waiting for the reporting server timed out.
+     *
+     * @param nanos How long was spent before giving up.
+     */
+    public void onReportTimedOut(long nanos) {}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+/**
+ * An open addressing map from the four parts of a full key to parameters. Each part is kept in
+ * its own flat array and compared in place, so a lookup never joins the parts into a key and
+ * allocates nothing; it costs the parts' cached hash codes and a probe or two.
+ *
+ * The hash is built from the String hash codes of the parts rather than from the joined key, so
+ * it reuses hash codes the strings have already cached. A null part matches the part "null", the
+ * same as when it is appended to a key. Built once and then only read, so it is safe to share
+ * between threads.
+ */
+final class ApnFullKeyIndex {
+
+    private static final int NULL_HASH = "null".hashCode();
+
+    private final String[] simOperators;
+    private final String[] simOperatorNames;
+    private final String[] networkOperators;
+    private final String[] networkOperatorNames;
+    private final int[] hashes;
+    private final ApnParameters[] values;
+    private final int mask;
+
+    /**
+     * @param expected How many entries will be added. The table is kept at most half full.
+     */
+    ApnFullKeyIndex(int expected) {
+        int slots = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+        simOperators = new String[slots];
+        simOperatorNames = new String[slots];
+        networkOperators = new String[slots];
+        networkOperatorNames = new String[slots];
+        hashes = new int[slots];
+        values = new ApnParameters[slots];
+        mask = slots - 1;
+    }
+
+    void put(String simOperator, String simOperatorName, String networkOperator, String networkOperatorName,
+             ApnParameters apnParameters) {
+        int hash = hash(simOperator, simOperatorName, networkOperator, networkOperatorName);
+        int slot = hash & mask;
+        while(simOperators[slot] != null
+                && !matches(slot, hash, simOperator, simOperatorName, networkOperator, networkOperatorName)) {
+            slot = (slot + 1) & mask;
+        }
+        simOperators[slot] = part(simOperator);
+        simOperatorNames[slot] = part(simOperatorName);
+        networkOperators[slot] = part(networkOperator);
+        networkOperatorNames[slot] = part(networkOperatorName);
+        hashes[slot] = hash;
+        values[slot] = apnParameters;
+    }
+
+    /**
+     * @return The parameters for the key or null.
+     */
+    ApnParameters get(String simOperator, String simOperatorName, String networkOperator, String networkOperatorName) {
+        int hash = hash(simOperator, simOperatorName, networkOperator, networkOperatorName);
+        for(int slot = hash & mask; simOperators[slot] != null; slot = (slot + 1) & mask) {
+            if(matches(slot, hash, simOperator, simOperatorName, networkOperator, networkOperatorName)) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(int slot, int hash, String simOperator, String simOperatorName, String networkOperator,
+                            String networkOperatorName) {
+        return hashes[slot] == hash
+                && simOperators[slot].equals(part(simOperator))
+                && simOperatorNames[slot].equals(part(simOperatorName))
+                && networkOperators[slot].equals(part(networkOperator))
+                && networkOperatorNames[slot].equals(part(networkOperatorName));
+    }
+
+    private static String part(String part) {
+        return part == null ? "null" : part;
+    }
+
+    private static int hash(String a, String b, String c, String d) {
+        int h = 0x811C9DC5;
+        h = (h + (a == null ? NULL_HASH : a.hashCode())) * 0x01000193;
+        h = (h + (b == null ? NULL_HASH : b.hashCode())) * 0x01000193;
+        h = (h + (c == null ? NULL_HASH : c.hashCode())) * 0x01000193;
+        h = (h + (d == null ? NULL_HASH : d.hashCode())) * 0x01000193;
+
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
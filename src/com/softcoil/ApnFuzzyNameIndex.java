@@ -0,0 +1,262 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Finds the full key whose operator names are closest to a fingerprint's, among the keys with
+ * the same SIM and network MCCMNC. Devices report the same carrier under many spellings, such as
+ * "!dea" for "Idea" or " Cell C " for "Cell C", and this keeps an exact key miss from throwing
+ * the names away.
+ *
+ * Names are normalized as for autocomplete and split into trigrams, and the keys of each MCCMNC
+ * pair are indexed by trigram. A lookup counts shared trigrams through the postings of the
+ * fingerprint's trigrams and scores each key by the Dice coefficient of the two trigram sets. The
+ * work and memory per lookup are bounded by {@link #MAX_TRIGRAMS} and {@link #MAX_POSTINGS},
+ * however large the group: only the keys the visited postings touch are scored. Only the keys are
+ * indexed; the parameters of the closest one are read from the data source, so building the index
+ * decodes no entries. Built once and then only read, so it is safe to share between threads.
+ */
+final class ApnFuzzyNameIndex {
+
+    /**
+     * The lowest Dice coefficient accepted as a match.
+     */
+    static final double MIN_SIMILARITY = 0.5;
+
+    /**
+     * The most trigrams of a fingerprint that are looked up.
+     */
+    static final int MAX_TRIGRAMS = 64;
+
+    /**
+     * The most postings visited per lookup.
+     */
+    static final int MAX_POSTINGS = 512;
+
+    private static final char START = '\u0002';
+    private static final char END = '\u0003';
+
+    private final ApnDataSource source;
+    private final Map<Long, Group> groups = new HashMap<Long, Group>();
+
+    /**
+     * Index the full keys of a data source.
+     */
+    ApnFuzzyNameIndex(ApnDataSource source) {
+        this.source = source;
+
+        //Sorted so ties always go to the same key.
+        TreeSet<String> keys = new TreeSet<String>();
+        for(String key : source.keys()) {
+            if(key.indexOf('|') >= 0) keys.add(key);
+        }
+
+        Map<Long, List<String[]>> parts = new HashMap<Long, List<String[]>>();
+        Map<Long, List<String>> groupKeys = new HashMap<Long, List<String>>();
+        for(String key : keys) {
+            String[] part = key.split("\\|", -1);
+            if(part.length != 4) continue;
+            long group = group(part[0], part[2]);
+            if(group < 0) continue;
+
+            if(!parts.containsKey(group)) {
+                parts.put(group, new ArrayList<String[]>());
+                groupKeys.put(group, new ArrayList<String>());
+            }
+            parts.get(group).add(part);
+            groupKeys.get(group).add(key);
+        }
+
+        for(Map.Entry<Long, List<String[]>> entry : parts.entrySet()) {
+            groups.put(entry.getKey(), new Group(entry.getValue(), groupKeys.get(entry.getKey())));
+        }
+    }
+
+    /**
+     * @return The parameters of the closest key with the same SIM and network MCCMNC, or null if
+     * no key there is similar enough.
+     */
+    ApnParameters get(String simOperator, String simOperatorName, String networkOperator, String networkOperatorName) {
+        long key = group(simOperator, networkOperator);
+        if(key < 0) return null;
+        Group group = groups.get(key);
+        if(group == null) return null;
+
+        int[] query = trigrams(simOperatorName, networkOperatorName);
+        if(query.length == 0) return null;
+        if(query.length > MAX_TRIGRAMS) query = Arrays.copyOf(query, MAX_TRIGRAMS);
+        String closest = group.closest(query);
+        return closest != null ? source.get(closest) : null;
+    }
+
+    /**
+     * @return The SIM and network MCCMNC codes packed into a long, or -1 if either is invalid.
+     */
+    private static long group(String simOperator, String networkOperator) {
+        int sim = ApnMccMnc.encode(simOperator);
+        int network = ApnMccMnc.encode(networkOperator);
+        if(sim == ApnMccMnc.INVALID || network == ApnMccMnc.INVALID) return -1;
+        return ((long) sim << 32) | network;
+    }
+
+    /**
+     * @return The distinct trigrams of both names, sorted. Each name is marked at its start and
+     * end, and the trigrams of the two names are kept apart.
+     */
+    static int[] trigrams(String simOperatorName, String networkOperatorName) {
+        //Normalizing may lengthen a name, as NFD splits each Hangul syllable into its jamo, so the
+        //array is sized after it.
+        String sim = normalize(simOperatorName);
+        String network = normalize(networkOperatorName);
+        int[] trigrams = new int[sim.length() + network.length()];
+        int count = addTrigrams(sim, 0, trigrams, 0);
+        count = addTrigrams(network, 1, trigrams, count);
+
+        Arrays.sort(trigrams, 0, count);
+        int distinct = 0;
+        for(int i = 0; i < count; i++) {
+            if(distinct == 0 || trigrams[distinct - 1] != trigrams[i]) trigrams[distinct++] = trigrams[i];
+        }
+        return distinct == trigrams.length ? trigrams : Arrays.copyOf(trigrams, distinct);
+    }
+
+    /**
+     * @return The name normalized as ApnCarrierNameIndex.normalize would, or the name itself if it
+     * is plain ASCII, which addTrigrams normalizes on the fly rather than copying first.
+     */
+    private static String normalize(String name) {
+        if(name == null) return "";
+        for(int i = 0; i < name.length(); i++) {
+            if(name.charAt(i) >= 0x80) return ApnCarrierNameIndex.normalize(name);
+        }
+        return name;
+    }
+
+    /**
+     * Add the trigrams of a name from normalize. A name of n characters has at most n trigrams
+     * once its start and end are marked.
+     */
+    private static int addTrigrams(String name, int field, int[] trigrams, int count) {
+        char a = START;
+        char b = 0;
+        for(int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if(c >= 'A' && c <= 'Z') c += 'a' - 'A';
+            else if(!(c >= 'a' && c <= 'z') && !(c >= '0' && c <= '9') && !Character.isLetterOrDigit(c)) continue;
+
+            if(b != 0) {
+                trigrams[count++] = trigram(field, a, b, c);
+                a = b;
+            }
+            b = c;
+        }
+        if(b != 0) trigrams[count++] = trigram(field, a, b, END);
+        return count;
+    }
+
+    private static int trigram(int field, char a, char b, char c) {
+        return ((field * 65599 + a) * 65599 + b) * 65599 + c;
+    }
+
+    private static final class Group {
+        private final String[] keys;
+        private final int[] sizes;
+
+        //Postings for trigrams[i] are postings[starts[i]] to postings[starts[i + 1]].
+        private final int[] trigrams;
+        private final int[] starts;
+        private final int[] postings;
+
+        private Group(List<String[]> parts, List<String> keys) {
+            this.keys = keys.toArray(new String[keys.size()]);
+            this.sizes = new int[this.keys.length];
+
+            int[][] keyTrigrams = new int[parts.size()][];
+            int total = 0;
+            for(int i = 0; i < keyTrigrams.length; i++) {
+                keyTrigrams[i] = ApnFuzzyNameIndex.trigrams(parts.get(i)[1], parts.get(i)[3]);
+                sizes[i] = keyTrigrams[i].length;
+                total += sizes[i];
+            }
+
+            //Pairs of trigram and key, sorted by trigram, become the postings.
+            long[] pairs = new long[total];
+            int n = 0;
+            for(int i = 0; i < keyTrigrams.length; i++) {
+                for(int trigram : keyTrigrams[i]) pairs[n++] = ((long) trigram << 32) | i;
+            }
+            Arrays.sort(pairs);
+
+            int distinct = 0;
+            for(int i = 0; i < total; i++) {
+                if(i == 0 || (int) (pairs[i] >> 32) != (int) (pairs[i - 1] >> 32)) distinct++;
+            }
+            trigrams = new int[distinct];
+            starts = new int[distinct + 1];
+            postings = new int[total];
+            int t = -1;
+            for(int i = 0; i < total; i++) {
+                int trigram = (int) (pairs[i] >> 32);
+                if(t < 0 || trigrams[t] != trigram) {
+                    trigrams[++t] = trigram;
+                    starts[t] = i;
+                }
+                postings[i] = (int) pairs[i];
+            }
+            starts[distinct] = total;
+        }
+
+        /**
+         * @return The key closest to the query, or null if none is similar enough.
+         */
+        private String closest(int[] query) {
+            //The keys of the visited postings, sorted so each key's shared trigrams form a run.
+            int[] touched = new int[MAX_POSTINGS];
+            int count = 0;
+            for(int q = 0; q < query.length && count < MAX_POSTINGS; q++) {
+                int t = Arrays.binarySearch(trigrams, query[q]);
+                if(t < 0) continue;
+                int end = Math.min(starts[t + 1], starts[t] + MAX_POSTINGS - count);
+                for(int p = starts[t]; p < end; p++) touched[count++] = postings[p];
+            }
+            Arrays.sort(touched, 0, count);
+
+            int best = -1;
+            double bestScore = MIN_SIMILARITY;
+            for(int i = 0; i < count; ) {
+                int key = touched[i];
+                int shared = 0;
+                while(i < count && touched[i] == key) {
+                    shared++;
+                    i++;
+                }
+                double score = 2.0 * shared / (query.length + sizes[key]);
+                if(score >= bestScore && (best < 0 || score > bestScore)) {
+                    best = key;
+                    bestScore = score;
+                }
+            }
+            return best >= 0 ? keys[best] : null;
+        }
+    }
+}
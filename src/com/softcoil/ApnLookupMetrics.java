@@ -0,0 +1,214 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts how lookups are answered, per tier and outcome, and how long they take. Recording costs
+ * an uncontended atomic increment per tier tried, plus one per lookup, so the metrics can stay on
+ * in production. Reading
+ * the clock costs about as much as a lookup on some devices, so only one lookup in
+ * {@link #LATENCY_SAMPLE_RATE} is timed. Read the metrics with {@link #snapshot()}, for instance
+ * from ApnDefaults.getLookupMetrics().
+ *
+ * Every lookup follows one path through the tiers, such as "full key missed, SIM MCCMNC hit",
+ * built with {@link #with}. Recording counts the hit or miss of each tier on the path; how often
+ * a tier was skipped is derived from the lookup count when a snapshot is taken. The counters are
+ * striped by thread, so they are kept few.
+ */
+public class ApnLookupMetrics {
+
+    public static final int TIER_CACHE = 0;
+    public static final int TIER_FULL_KEY = 1;
+    public static final int TIER_SIM_MCCMNC = 2;
+
+    /**
+     * The closest operator names among the full keys of the same SIM and network MCCMNC, tried
+     * between the full key and the SIM MCCMNC.
+     */
+    public static final int TIER_FUZZY_NAME = 3;
+    static final int TIERS = 4;
+
+    /**
+     * Used by ApnEventListener for a lookup that no tier answered.
+     */
+    public static final int TIER_NONE = -1;
+
+    public static final int LATENCY_SAMPLE_RATE = 16;
+
+    /**
+     * The key was found in the tier.
+     */
+    public static final int OUTCOME_HIT = 0;
+
+    /**
+     * The data source was probed and did not have the key.
+     */
+    public static final int OUTCOME_MISS = 1;
+
+    /**
+     * The tier was not tried, because an earlier tier hit or fallback was off.
+     */
+    static final int OUTCOME_SKIPPED = 2;
+    static final int OUTCOMES = 3;
+
+    private static final String[] TIER_NAMES = { "cache", "full_key", "sim_mccmnc", "fuzzy_name" };
+    private static final String[] OUTCOME_NAMES = { "hit", "miss" };
+
+    //Passed to record for lookups that were not timed.
+    static final long NOT_TIMED = Long.MIN_VALUE;
+
+    //A hit and a miss counter per tier, then the lookups, the lookups that returned null, and a
+    //counter used to pick which lookups to time.
+    private static final int LOOKUPS = TIERS * OUTCOME_SKIPPED;
+    private static final int UNRESOLVED = LOOKUPS + 1;
+    private static final int TICK = UNRESOLVED + 1;
+
+    private final LatencyHistogram.Striped counters = new LatencyHistogram.Striped(TICK + 1);
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Call at the start of a lookup.
+     *
+     * @return The time to pass to {@link #record}.
+     */
+    long start() {
+        return counters.tick(TICK) % LATENCY_SAMPLE_RATE == 0 ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Record a lookup.
+     *
+     * @param path The outcome of each tier, packed two bits per tier by {@link #with}.
+     * @param resolved Did the lookup return parameters?
+     * @param start What {@link #start()} returned for this lookup.
+     */
+    void record(int path, boolean resolved, long start) {
+        for(int tier = 0; tier < TIERS; tier++) {
+            int outcome = outcome(path, tier);
+            if(outcome != OUTCOME_SKIPPED) counters.increment(tier * OUTCOME_SKIPPED + outcome);
+        }
+        counters.increment(LOOKUPS);
+        if(!resolved) counters.increment(UNRESOLVED);
+        if(start != NOT_TIMED) latency.record(System.nanoTime() - start);
+    }
+
+    static int path(int tier, int outcome) {
+        return outcome << (tier * 2);
+    }
+
+    static int skippedAll() {
+        int path = 0;
+        for(int tier = 0; tier < TIERS; tier++) path |= path(tier, OUTCOME_SKIPPED);
+        return path;
+    }
+
+    static int outcome(int path, int tier) {
+        return (path >>> (tier * 2)) & 3;
+    }
+
+    /**
+     * @return The path with the given tier's outcome replaced.
+     */
+    static int with(int path, int tier, int outcome) {
+        return (path & ~path(tier, 3)) | path(tier, outcome);
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(counters.sum(), latency.snapshot());
+    }
+
+    /**
+     * The metrics at one point in time.
+     */
+    public static class Snapshot {
+        private final long[][] counts = new long[TIERS][OUTCOMES];
+        private final long lookups;
+        private final long unresolved;
+        private final LatencyHistogram.Snapshot latency;
+
+        Snapshot(long[] counters, LatencyHistogram.Snapshot latency) {
+            //The counters are read one at a time while lookups go on, so a tier may briefly have
+            //more hits and misses than there were lookups.
+            this.lookups = counters[LOOKUPS];
+            this.unresolved = counters[UNRESOLVED];
+            for(int tier = 0; tier < TIERS; tier++) {
+                long tried = 0;
+                for(int outcome = 0; outcome < OUTCOME_SKIPPED; outcome++) {
+                    counts[tier][outcome] = counters[tier * OUTCOME_SKIPPED + outcome];
+                    tried += counts[tier][outcome];
+                }
+                counts[tier][OUTCOME_SKIPPED] = Math.max(0, lookups - tried);
+            }
+            this.latency = latency;
+        }
+
+        /**
+         * @return How many lookups were made.
+         */
+        public long getLookups() {
+            return lookups;
+        }
+
+        /**
+         * @return How many lookups returned null, including nulls answered from the cache.
+         */
+        public long getUnresolved() {
+            return unresolved;
+        }
+
+        /**
+         * @param tier One of the TIER_ constants.
+         * @param outcome One of the OUTCOME_ constants.
+         * @return How many lookups had that outcome in that tier.
+         */
+        public long getCount(int tier, int outcome) {
+            return counts[tier][outcome];
+        }
+
+        /**
+         * @return The latency of a sample of one lookup in LATENCY_SAMPLE_RATE.
+         */
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        /**
+         * @return Every count and the main latency percentiles under flat names such as
+         * "full_key.miss" or "latency.p99_ns", ready to hand to an analytics library.
+         */
+        public Map<String, Long> toMap() {
+            Map<String, Long> map = new LinkedHashMap<String, Long>();
+            map.put("lookups", lookups);
+            map.put("unresolved", unresolved);
+            for(int tier = 0; tier < TIERS; tier++) {
+                for(int outcome = 0; outcome < OUTCOME_NAMES.length; outcome++) {
+                    map.put(TIER_NAMES[tier] + "." + OUTCOME_NAMES[outcome], counts[tier][outcome]);
+                }
+            }
+            map.put("latency.p50_ns", latency.getPercentileNanos(50));
+            map.put("latency.p90_ns", latency.getPercentileNanos(90));
+            map.put("latency.p99_ns", latency.getPercentileNanos(99));
+            map.put("latency.p999_ns", latency.getPercentileNanos(99.9));
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return toMap().toString();
+        }
+    }
+}
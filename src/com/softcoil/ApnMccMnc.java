@@ -0,0 +1,71 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+/**
+ * Packs an MCCMNC string such as "310410" or "24201" into an int so it can be compared and
+ * hashed without touching a String. The MCC takes the high bits, then one bit for whether the MNC
+ * has three digits, then the MNC, so "310041" and "31004" stay distinct.
+ */
+final class ApnMccMnc {
+
+    static final int INVALID = -1;
+
+    private static final int THREE_DIGIT_MNC = 1 << 10;
+
+    private ApnMccMnc() {}
+
+    /**
+     * @return The code for a five or six digit MCCMNC, or INVALID for anything else.
+     */
+    static int encode(String mccMnc) {
+        if(mccMnc == null) return INVALID;
+        int length = mccMnc.length();
+        if(length != 5 && length != 6) return INVALID;
+
+        int mcc = 0;
+        for(int i = 0; i < 3; i++) {
+            int digit = mccMnc.charAt(i) - '0';
+            if(digit < 0 || digit > 9) return INVALID;
+            mcc = mcc * 10 + digit;
+        }
+        int mnc = 0;
+        for(int i = 3; i < length; i++) {
+            int digit = mccMnc.charAt(i) - '0';
+            if(digit < 0 || digit > 9) return INVALID;
+            mnc = mnc * 10 + digit;
+        }
+
+        return (mcc << 11) | (length == 6 ? THREE_DIGIT_MNC : 0) | mnc;
+    }
+
+    static int mcc(int code) {
+        return code >>> 11;
+    }
+
+    static int mnc(int code) {
+        return code & (THREE_DIGIT_MNC - 1);
+    }
+
+    static String toString(int code) {
+        String mnc = Integer.toString(mnc(code));
+        int digits = (code & THREE_DIGIT_MNC) != 0 ? 3 : 2;
+        StringBuffer sb = new StringBuffer(6);
+        String mcc = Integer.toString(mcc(code));
+        for(int i = mcc.length(); i < 3; i++) sb.append('0');
+        sb.append(mcc);
+        for(int i = mnc.length(); i < digits; i++) sb.append('0');
+        return sb.append(mnc).toString();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing map from MCCMNC codes, as made by {@link ApnMccMnc}, to parameters. It is
+ * two flat arrays probed linearly, so a lookup does no String hashing, boxing or allocation.
+ * Built once and then only read, so it is safe to share between threads.
+ */
+final class ApnMccMncIndex {
+
+    //Codes are never negative, so -1 marks an empty slot.
+    private static final int EMPTY = -1;
+
+    private final int[] codes;
+    private final ApnParameters[] values;
+    private final int mask;
+    private int size;
+
+    /**
+     * @param expected How many entries will be added. The table is kept at most half full.
+     */
+    ApnMccMncIndex(int expected) {
+        int slots = Integer.highestOneBit(Math.max(2, expected) * 2 - 1) << 1;
+        codes = new int[slots];
+        values = new ApnParameters[slots];
+        mask = slots - 1;
+        Arrays.fill(codes, EMPTY);
+    }
+
+    void put(int code, ApnParameters apnParameters) {
+        int slot = slot(code);
+        while(codes[slot] != EMPTY && codes[slot] != code) slot = (slot + 1) & mask;
+        if(codes[slot] == EMPTY) size++;
+        codes[slot] = code;
+        values[slot] = apnParameters;
+    }
+
+    /**
+     * @return The parameters for the code or null.
+     */
+    ApnParameters get(int code) {
+        for(int slot = slot(code); ; slot = (slot + 1) & mask) {
+            int found = codes[slot];
+            if(found == code) return values[slot];
+            if(found == EMPTY) return null;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(int code) {
+        int hash = code * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts how reports to the APN data server turn out and how long each phase takes, so the
+ * reporting timeouts can be tuned from real data. Read them with {@link #snapshot()}, for
+ * instance from ApnDefaults.getReportMetrics().
+ *
+ * Phases are only timed once they complete: a report that times out while connecting adds to
+ * the DNS histogram but not to the connect histogram.
+ */
+public class ApnReportMetrics {
+
+    /**
+     * The server answered with a 2xx status.
+     */
+    public static final int OUTCOME_SENT = 0;
+
+    /**
+     * The server answered with another status.
+     */
+    public static final int OUTCOME_HTTP_ERROR = 1;
+
+    public static final int OUTCOME_DNS_FAILURE = 2;
+    public static final int OUTCOME_CONNECT_TIMEOUT = 3;
+    public static final int OUTCOME_REFUSED = 4;
+
+    /**
+     * Connected, but the response did not arrive within the read timeout.
+     */
+    public static final int OUTCOME_READ_TIMEOUT = 5;
+
+    /**
+     * Any other I/O failure.
+     */
+    public static final int OUTCOME_ERROR = 6;
+
+    static final int OUTCOMES = 7;
+
+    private static final String[] OUTCOME_NAMES = {
+            "sent", "http_error", "dns_failure", "connect_timeout", "refused", "read_timeout", "error" };
+
+    //Counters after the outcomes: responses by status class (1xx to 5xx), then bytes sent.
+    private static final int STATUS_CLASSES = OUTCOMES;
+    private static final int BYTES_SENT = STATUS_CLASSES + 5;
+
+    private final LatencyHistogram.Striped counters = new LatencyHistogram.Striped(BYTES_SENT + 1);
+    private final LatencyHistogram dns = new LatencyHistogram();
+    private final LatencyHistogram connect = new LatencyHistogram();
+    private final LatencyHistogram firstByte = new LatencyHistogram();
+    private final LatencyHistogram total = new LatencyHistogram();
+
+    void record(ApnReporter.Attempt attempt) {
+        counters.increment(attempt.outcome);
+        if(attempt.status >= 100 && attempt.status < 600) counters.increment(STATUS_CLASSES + attempt.status / 100 - 1);
+        if(attempt.bytesSent > 0) counters.add(BYTES_SENT, attempt.bytesSent);
+
+        if(attempt.dnsNanos > 0) dns.record(attempt.dnsNanos);
+        if(attempt.connectNanos > 0) connect.record(attempt.connectNanos);
+        if(attempt.firstByteNanos > 0) firstByte.record(attempt.firstByteNanos);
+        total.record(attempt.totalNanos);
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(counters.sum(), dns.snapshot(), connect.snapshot(), firstByte.snapshot(),
+                total.snapshot());
+    }
+
+    /**
+     * The report metrics at one point in time.
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final LatencyHistogram.Snapshot dns;
+        private final LatencyHistogram.Snapshot connect;
+        private final LatencyHistogram.Snapshot firstByte;
+        private final LatencyHistogram.Snapshot total;
+
+        Snapshot(long[] counts, LatencyHistogram.Snapshot dns, LatencyHistogram.Snapshot connect,
+                 LatencyHistogram.Snapshot firstByte, LatencyHistogram.Snapshot total) {
+            this.counts = counts;
+            this.dns = dns;
+            this.connect = connect;
+            this.firstByte = firstByte;
+            this.total = total;
+        }
+
+        /**
+         * @return How many reports were attempted.
+         */
+        public long getAttempts() {
+            long attempts = 0;
+            for(int outcome = 0; outcome < OUTCOMES; outcome++) attempts += counts[outcome];
+            return attempts;
+        }
+
+        /**
+         * @param outcome One of the OUTCOME_ constants.
+         */
+        public long getCount(int outcome) {
+            return counts[outcome];
+        }
+
+        /**
+         * @param statusClass 1 to 5 for 1xx to 5xx responses.
+         */
+        public long getStatusClassCount(int statusClass) {
+            return counts[STATUS_CLASSES + statusClass - 1];
+        }
+
+        /**
+         * @return The bytes of request line and headers sent, over every report that connected.
+         */
+        public long getBytesSent() {
+            return counts[BYTES_SENT];
+        }
+
+        public LatencyHistogram.Snapshot getDns() {
+            return dns;
+        }
+
+        public LatencyHistogram.Snapshot getConnect() {
+            return connect;
+        }
+
+        /**
+         * @return Time from connected to the response status line.
+         */
+        public LatencyHistogram.Snapshot getFirstByte() {
+            return firstByte;
+        }
+
+        /**
+         * @return Time for the whole report, successful or not.
+         */
+        public LatencyHistogram.Snapshot getTotal() {
+            return total;
+        }
+
+        /**
+         * @return Every count and the median and 90th percentile of each phase under flat names
+         * such as "read_timeout" or "connect.p90_ns".
+         */
+        public Map<String, Long> toMap() {
+            Map<String, Long> map = new LinkedHashMap<String, Long>();
+            map.put("attempts", getAttempts());
+            for(int outcome = 0; outcome < OUTCOMES; outcome++) map.put(OUTCOME_NAMES[outcome], counts[outcome]);
+            for(int statusClass = 1; statusClass <= 5; statusClass++) {
+                map.put("status." + statusClass + "xx", getStatusClassCount(statusClass));
+            }
+            map.put("bytes_sent", getBytesSent());
+            put(map, "dns", dns);
+            put(map, "connect", connect);
+            put(map, "first_byte", firstByte);
+            put(map, "total", total);
+            return map;
+        }
+
+        private static void put(Map<String, Long> map, String name, LatencyHistogram.Snapshot histogram) {
+            map.put(name + ".p50_ns", histogram.getPercentileNanos(50));
+            map.put(name + ".p90_ns", histogram.getPercentileNanos(90));
+        }
+
+        @Override
+        public String toString() {
+            return toMap().toString();
+        }
+    }
+}
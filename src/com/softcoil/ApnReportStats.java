@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+/**
+ * Implemented by data sources that know how often devices reported each of their keys, such as
+ * the embedded table. ApnCarrierNameIndex ranks names by these counts and the ApnConfExporter
+ * tool exports them. Sources without them, such as a downloaded ApnDataset, simply do not
+ * implement it.
+ */
+public interface ApnReportStats {
+
+    /**
+     * @return The number of reports for the key, or 0 if there were none.
+     */
+    int getReportCount(String key);
+
+    /**
+     * @return When the key was last reported in milliseconds since the epoch, or 0 if it never was.
+     */
+    long getLastReportMillis(String key);
+}
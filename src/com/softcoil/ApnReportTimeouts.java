@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Picks the connect and read timeouts for reports from how long recent reports took on the same
+ * kind of network, instead of a fixed second everywhere.
+ *
+ * Each timeout is a multiple of a high percentile of the last {@link #WINDOW} times observed,
+ * clamped between a floor and a ceiling. A report that timed out counts as having taken the full
+ * timeout, so on a link that is consistently slower than the current timeout the timeout grows
+ * until reports get through, while on a fast link it shrinks and failures give up sooner. Until
+ * there are enough samples the initial timeouts are used.
+ *
+ * A report is only sent when the reported parameters change, so a process rarely sees enough of
+ * them on its own. The windows are saved with {@link #encode} after each report and restored with
+ * {@link #restore} before the first one, so they build up across process starts.
+ */
+final class ApnReportTimeouts {
+
+    static final int WINDOW = 32;
+    static final int MIN_SAMPLES = 5;
+    static final double PERCENTILE = 0.9;
+    static final int MULTIPLIER = 2;
+
+    static final int INITIAL_MILLIS = 1000;
+    static final int CONNECT_FLOOR_MILLIS = 500;
+    static final int CONNECT_CEILING_MILLIS = 10 * 1000;
+    static final int READ_FLOOR_MILLIS = 500;
+    static final int READ_CEILING_MILLIS = 15 * 1000;
+
+    private final Map<Integer, Estimator[]> byNetworkType = new HashMap<Integer, Estimator[]>();
+
+    /**
+     * @param networkType The TelephonyManager network type reports are about to be sent over.
+     * @return The connect timeout in milliseconds.
+     */
+    int getConnectTimeoutMillis(int networkType) {
+        return estimators(networkType)[0].getTimeoutMillis();
+    }
+
+    /**
+     * @return The read timeout in milliseconds.
+     */
+    int getReadTimeoutMillis(int networkType) {
+        return estimators(networkType)[1].getTimeoutMillis();
+    }
+
+    /**
+     * Learn from a finished report.
+     *
+     * @param connectTimeoutMillis The connect timeout the report was sent with.
+     * @param readTimeoutMillis The read timeout the report was sent with.
+     */
+    void record(int networkType, ApnReporter.Attempt attempt, int connectTimeoutMillis, int readTimeoutMillis) {
+        Estimator[] estimators = estimators(networkType);
+        switch(attempt.outcome) {
+            case ApnReportMetrics.OUTCOME_CONNECT_TIMEOUT:
+                estimators[0].record(connectTimeoutMillis);
+                break;
+            case ApnReportMetrics.OUTCOME_READ_TIMEOUT:
+                estimators[0].record(attempt.connectNanos / 1000000);
+                estimators[1].record(readTimeoutMillis);
+                break;
+            case ApnReportMetrics.OUTCOME_SENT:
+            case ApnReportMetrics.OUTCOME_HTTP_ERROR:
+                estimators[0].record(attempt.connectNanos / 1000000);
+                estimators[1].record(attempt.firstByteNanos / 1000000);
+                break;
+            default:
+                //DNS failures and refused connections say nothing about how slow the link is.
+                break;
+        }
+    }
+
+    /**
+     * Restore a network type's windows as encode left them. Does nothing if the network type has
+     * been used in this process already, since its windows are then at least as recent.
+     *
+     * @param state A string from encode, or null.
+     */
+    synchronized void restore(int networkType, String state) {
+        if(state == null || byNetworkType.containsKey(networkType)) return;
+        Estimator[] estimators = estimators(networkType);
+        int split = state.indexOf(';');
+        if(split < 0) return;
+        estimators[0].decode(state.substring(0, split));
+        estimators[1].decode(state.substring(split + 1));
+    }
+
+    /**
+     * @return A network type's connect and read windows as a short string for restore.
+     */
+    String encode(int networkType) {
+        Estimator[] estimators = estimators(networkType);
+        return estimators[0].encode() + ";" + estimators[1].encode();
+    }
+
+    private synchronized Estimator[] estimators(int networkType) {
+        Estimator[] estimators = byNetworkType.get(networkType);
+        if(estimators == null) {
+            estimators = new Estimator[] {
+                    new Estimator(CONNECT_FLOOR_MILLIS, CONNECT_CEILING_MILLIS),
+                    new Estimator(READ_FLOOR_MILLIS, READ_CEILING_MILLIS) };
+            byNetworkType.put(networkType, estimators);
+        }
+        return estimators;
+    }
+
+    /**
+     * A moving percentile over a ring of recent samples.
+     */
+    static final class Estimator {
+        private final int floorMillis;
+        private final int ceilingMillis;
+        private final long[] samples = new long[WINDOW];
+        private int count;
+
+        Estimator(int floorMillis, int ceilingMillis) {
+            this.floorMillis = floorMillis;
+            this.ceilingMillis = ceilingMillis;
+        }
+
+        synchronized void record(long millis) {
+            samples[count % WINDOW] = millis;
+            count++;
+        }
+
+        /**
+         * @return The samples in the window, oldest first, separated by commas.
+         */
+        synchronized String encode() {
+            StringBuffer sb = new StringBuffer();
+            for(int i = Math.max(0, count - WINDOW); i < count; i++) {
+                if(sb.length() > 0) sb.append(',');
+                sb.append(samples[i % WINDOW]);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Record the samples of a string from encode, skipping any that are not a number.
+         */
+        synchronized void decode(String encoded) {
+            for(String sample : encoded.split(",")) {
+                try {
+                    long millis = Long.parseLong(sample);
+                    if(millis >= 0) record(millis);
+                } catch (NumberFormatException e) {
+                    //Left by a newer or damaged format, the rest may still be usable.
+                }
+            }
+        }
+
+        synchronized int getTimeoutMillis() {
+            if(count < MIN_SAMPLES) return Math.max(floorMillis, Math.min(ceilingMillis, INITIAL_MILLIS));
+
+            int n = Math.min(count, WINDOW);
+            long[] sorted = Arrays.copyOf(samples, n);
+            Arrays.sort(sorted);
+            long percentile = sorted[(int) Math.ceil(n * PERCENTILE) - 1];
+            return (int) Math.max(floorMillis, Math.min(ceilingMillis, percentile * MULTIPLIER));
+        }
+    }
+}
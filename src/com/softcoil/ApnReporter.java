@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.net.UnknownHostException;
+
+/**
+ * The parts of ApnDefaults.reportApnData that do not need Android, kept apart so they can be
+ * measured and reused off device.
+ */
+final class ApnReporter {
+
+    static final String REPORT_URL = "http://apn.softcoil.com/apnReport";
+    static final String USER_AGENT = "ApnDefaults/0.1";
+
+    private ApnReporter() {}
+
+    /**
+     * @return The reported form of the parameters, also used to detect repeat reports.
+     */
+    static String getApnData(ApnParameters apnParameters) {
+        return apnParameters.getMmscUrl() + "|" + apnParameters.getProxyAddress() + "|" + apnParameters.getProxyPort();
+    }
+
+    /**
+     * Build the report URL. TelephonyManager returns null for the operator names and country
+     * codes on some devices, so null values are reported as empty.
+     */
+    static String buildReportUrl(String apnData, String simOperator, String simOperatorName, String simCountry,
+                                 String networkOperator, String networkOperatorName, String networkCountry)
+            throws UnsupportedEncodingException {
+        return new StringBuffer(REPORT_URL)
+                .append("?")
+                        //Report the MMSC connection used.
+                .append("apnData=").append(encode(apnData))
+                        //SIM and Network data are reported to enable determining which
+                        //parameters work under which circumstances.
+                .append("&simOperator=").append(encode(simOperator))
+                .append("&simOperatorName=").append(encode(simOperatorName))
+                .append("&simCountry=").append(encode(simCountry))
+                .append("&networkOperator=").append(encode(networkOperator))
+                .append("&networkOperatorName=").append(encode(networkOperatorName))
+                .append("&networkCountry=").append(encode(networkCountry))
+                .toString();
+    }
+
+    private static String encode(String value) throws UnsupportedEncodingException {
+        return value != null ? URLEncoder.encode(value, "UTF-8") : "";
+    }
+
+    /**
+     * Send a report and time each phase of it. HttpURLConnection does not expose its phases, so
+     * the host is resolved up front to time DNS (the connection then finds it in the address
+     * cache), connect() is timed on its own, and the response code marks the first byte.
+     *
+     * @return What happened, never null. Failures are classified rather than thrown.
+     */
+    static Attempt send(String url, int connectTimeoutMillis, int readTimeoutMillis) {
+        Attempt attempt = new Attempt();
+        long start = System.nanoTime();
+        int phase = ApnReportMetrics.OUTCOME_DNS_FAILURE;
+        HttpURLConnection connection = null;
+        try {
+            URL u = new URL(url);
+            InetAddress.getByName(u.getHost());
+            long resolved = System.nanoTime();
+            attempt.dnsNanos = resolved - start;
+
+            phase = ApnReportMetrics.OUTCOME_CONNECT_TIMEOUT;
+            connection = (HttpURLConnection) u.openConnection();
+            connection.setConnectTimeout(connectTimeoutMillis);
+            connection.setReadTimeout(readTimeoutMillis);
+            connection.setUseCaches(false);
+            connection.setRequestProperty("User-Agent", USER_AGENT);
+            connection.connect();
+            long connected = System.nanoTime();
+            attempt.connectNanos = connected - resolved;
+            attempt.bytesSent = requestBytes(u);
+
+            phase = ApnReportMetrics.OUTCOME_READ_TIMEOUT;
+            attempt.status = connection.getResponseCode();
+            attempt.firstByteNanos = System.nanoTime() - connected;
+
+            InputStream in = attempt.status < 400 ? connection.getInputStream() : connection.getErrorStream();
+            if(in != null) {
+                try {
+                    byte[] buffer = new byte[512];
+                    while(in.read(buffer) >= 0) {
+                        //The response body carries nothing we use, read it so the connection can be reused.
+                    }
+                } finally {
+                    in.close();
+                }
+            }
+
+            attempt.outcome = attempt.status >= 200 && attempt.status < 300
+                    ? ApnReportMetrics.OUTCOME_SENT : ApnReportMetrics.OUTCOME_HTTP_ERROR;
+        } catch (UnknownHostException e) {
+            attempt.outcome = ApnReportMetrics.OUTCOME_DNS_FAILURE;
+            attempt.exception = e;
+        } catch (ConnectException e) {
+            attempt.outcome = ApnReportMetrics.OUTCOME_REFUSED;
+            attempt.exception = e;
+        } catch (SocketTimeoutException e) {
+            attempt.outcome = phase == ApnReportMetrics.OUTCOME_CONNECT_TIMEOUT
+                    ? ApnReportMetrics.OUTCOME_CONNECT_TIMEOUT : ApnReportMetrics.OUTCOME_READ_TIMEOUT;
+            attempt.exception = e;
+        } catch (IOException e) {
+            attempt.outcome = ApnReportMetrics.OUTCOME_ERROR;
+            attempt.exception = e;
+        } catch (RuntimeException e) {
+            attempt.outcome = ApnReportMetrics.OUTCOME_ERROR;
+            attempt.exception = e;
+        } finally {
+            if(connection != null) connection.disconnect();
+        }
+
+        attempt.totalNanos = System.nanoTime() - start;
+        return attempt;
+    }
+
+    /**
+     * @return The size of the request line and the headers we set. The connection may add a few
+     * more headers of its own.
+     */
+    static int requestBytes(URL url) {
+        String file = url.getFile().length() == 0 ? "/" : url.getFile();
+        return ("GET " + file + " HTTP/1.1\r\n"
+                + "User-Agent: " + USER_AGENT + "\r\n"
+                + "Host: " + url.getHost() + (url.getPort() >= 0 ? ":" + url.getPort() : "") + "\r\n"
+                + "\r\n").length();
+    }
+
+    /**
+     * The result and timing of one report.
+     */
+    static final class Attempt {
+        int outcome;
+        int status;
+        long dnsNanos;
+        long connectNanos;
+        long firstByteNanos;
+        long totalNanos;
+        int bytesSent;
+        Exception exception;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Remembers the last resolution for each SIM and network fingerprint in a tiny file, so that a
+ * freshly started process can answer a lookup without loading any APN data at all.
+ *
+ * Every entry records the version of each layer of the data source it was resolved against, as
+ * LayeredApnDataSource.versions lists them, and is ignored once any of them changes, so a new
+ * dataset, a changed override or a new embedded table is never shadowed by a stale answer. Misses are remembered too. Only the most recently used fingerprints are kept.
+ *
+ * The whole file is also ignored when its {@link #FORMAT_VERSION} is not the current one. Bump
+ * it whenever the same data may resolve differently, as when the fuzzy name tier turned misses
+ * into hits. The file is written on the ApnBackground thread, never on the lookup's.
+ *
+ * The file format is:
+ * <pre>
+ *  int     magic ('APNR')
+ *  int     format version
+ *  int     entry count
+ *  entries cache key, layer count, layer versions, present flag, then the ApnParameters if present
+ * </pre>
+ */
+class ApnResolutionCache {
+
+    static final int MAGIC = 0x41504E52;
+    static final int MAX_ENTRIES = 8;
+
+    //More layers than any data source has, to reject a damaged count.
+    private static final int MAX_LAYERS = 64;
+
+    /**
+     * The version of what cached resolutions mean. Files written before there was one have their
+     * entry count, at most MAX_ENTRIES, where it now is, so versions start above that. Raised by
+     * one when entries began recording each layer's version.
+     */
+    static final int FORMAT_VERSION = MAX_ENTRIES + 2;
+
+    private final File file;
+    private Map<String, Resolution> entries;
+    private boolean saveQueued;
+
+    ApnResolutionCache(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Read the file now rather than on the first lookup.
+     */
+    synchronized void preload() {
+        load();
+    }
+
+    /**
+     * @param versions The data source's layer versions, from LayeredApnDataSource.versions.
+     * @return The cached resolution, or null if there is none for these versions.
+     */
+    synchronized Resolution get(String key, int[] versions) {
+        Resolution entry = load().get(key);
+        return entry != null && Arrays.equals(entry.versions, versions) ? entry : null;
+    }
+
+    /**
+     * Remember a resolution, queueing a write of the file only if it changed. Changes made before
+     * the queued write runs are written with it.
+     */
+    synchronized void put(String key, int[] versions, ApnParameters apnParameters) {
+        Map<String, Resolution> map = load();
+        Resolution previous = map.get(key);
+        if(previous != null && Arrays.equals(previous.versions, versions)
+                && (previous.apnParameters == null ? apnParameters == null : previous.apnParameters.equals(apnParameters))) {
+            return;
+        }
+
+        map.put(key, new Resolution(versions, apnParameters));
+        if(saveQueued) return;
+        saveQueued = true;
+        ApnBackground.submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                Map<String, Resolution> snapshot;
+                synchronized(ApnResolutionCache.this) {
+                    saveQueued = false;
+                    snapshot = new LinkedHashMap<String, Resolution>(entries);
+                }
+                try {
+                    save(snapshot);
+                } catch (IOException e) {
+                    //The cache is only an optimization, the next process just resolves again.
+                }
+                return null;
+            }
+        });
+    }
+
+    private Map<String, Resolution> load() {
+        if(entries != null) return entries;
+
+        entries = new LinkedHashMap<String, Resolution>(MAX_ENTRIES * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Resolution> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+
+        if(file.exists()) {
+            try {
+                DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+                try {
+                    if(in.readInt() == MAGIC && in.readInt() == FORMAT_VERSION) {
+                        int count = in.readInt();
+                        for(int i = 0; i < count; i++) {
+                            String key = in.readUTF();
+                            int layers = in.readInt();
+                            if(layers < 0 || layers > MAX_LAYERS) throw new IOException("Corrupt layer count " + layers);
+                            int[] versions = new int[layers];
+                            for(int j = 0; j < layers; j++) versions[j] = in.readInt();
+                            ApnParameters apnParameters = in.readBoolean() ? ApnDataset.readParameters(in) : null;
+                            entries.put(key, new Resolution(versions, apnParameters));
+                        }
+                    }
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                //Start over with whatever was read, the next resolution rewrites the file.
+            }
+        }
+
+        return entries;
+    }
+
+    private void save(Map<String, Resolution> map) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(map.size());
+            for(Map.Entry<String, Resolution> entry : map.entrySet()) {
+                out.writeUTF(entry.getKey());
+                int[] versions = entry.getValue().versions;
+                out.writeInt(versions.length);
+                for(int version : versions) out.writeInt(version);
+                ApnParameters apnParameters = entry.getValue().apnParameters;
+                out.writeBoolean(apnParameters != null);
+                if(apnParameters != null) ApnDataset.writeParameters(out, apnParameters);
+            }
+        } finally {
+            out.close();
+        }
+
+        if(!temp.renameTo(file)) {
+            temp.delete();
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    static class Resolution {
+        final int[] versions;
+        final ApnParameters apnParameters;
+
+        Resolution(int[] versions, ApnParameters apnParameters) {
+            this.versions = versions;
+            this.apnParameters = apnParameters;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves APN parameters from a SIM and network fingerprint against a data source. This is the
+ * lookup behind ApnDefaults.getApnParameters, usable without an Android Context.
+ *
+ * The full key is tried first and, if fallBack is set, then the closest operator names among the
+ * full keys with the same SIM and network MCCMNC, then the bare SIM MCCMNC. By default the full
+ * key and SIM MCCMNC tiers probe the data source directly, so only the entries asked for are ever
+ * decoded and each layer of a LayeredApnDataSource answers from its own index. The fuzzy name
+ * tier is a trigram index of the keys, built the first time it is needed, since most lookups
+ * never get that far.
+ *
+ * An indexed resolver instead snapshots every entry into an index over the four parts of each
+ * full key and an int keyed index of the bare MCCMNC entries, rebuilt whenever the data source's
+ * version changes. Lookups then never join the parts into a key String and allocate nothing, but
+ * the whole table is held on the heap. That suits bulk resolution, which touches most of the
+ * table anyway, and is what ApnBatchResolver uses; it does not suit a device making a few lookups.
+ *
+ * Lookups are counted per tier and timed when metrics are set with {@link #setMetrics}.
+ */
+public class ApnResolver {
+
+    private final ApnDataSource source;
+    private final boolean indexed;
+    private volatile Indexes indexes;
+    private volatile Fuzzy fuzzy;
+    private volatile ApnLookupMetrics metrics;
+
+    public ApnResolver(ApnDataSource source) {
+        this(source, false);
+    }
+
+    /**
+     * @param source The data to resolve against.
+     * @param indexed Should every entry be copied into lookup indexes on the first lookup, rather
+     *                than probing the data source each time?
+     */
+    public ApnResolver(ApnDataSource source, boolean indexed) {
+        this.source = source;
+        this.indexed = indexed;
+    }
+
+    public ApnDataSource getDataSource() {
+        return source;
+    }
+
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    /**
+     * @param metrics Where to count lookups, or null to stop counting.
+     */
+    public void setMetrics(ApnLookupMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public ApnLookupMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Build the fuzzy name index, and the lookup indexes if the resolver is indexed, now rather
+     * than on the first lookup. Lookups made meanwhile wait for them rather than building their own.
+     *
+     * A couple of uncounted lookups are made as well, so the classes and code they use are
+     * loaded before the first real lookup.
+     *
+     * @param mccHint The MCC, or MCCMNC, the device is expected to be on, or null. The entries
+     *                whose SIM operator has that MCC, or is that MCCMNC, are read once so sources
+     *                that decode lazily, such as MappedApnDataSource, have them ready too, and one
+     *                of them is resolved to warm up the lookup.
+     */
+    public void preload(String mccHint) {
+        if(indexed) indexes();
+        fuzzy();
+
+        String[] sample = { "", "", "", "" };
+        if(mccHint != null) {
+            for(String key : source.keys()) {
+                //A 3 digit hint is an MCC and matches every MCCMNC under it, a longer one only
+                //itself, so "31041" does not match "310410".
+                if(!key.startsWith(mccHint)) continue;
+                if(mccHint.length() != 3 && key.length() > mccHint.length() && key.charAt(mccHint.length()) != '|') {
+                    continue;
+                }
+                source.get(key);
+                String[] parts = key.split("\\|", -1);
+                if(parts.length == 4) sample = parts;
+            }
+        }
+
+        resolveUncounted(sample[0], sample[1], sample[2], sample[3], true);
+        resolveUncounted(sample[0] + "?", sample[1], sample[2], sample[3], true);
+    }
+
+    /**
+     * @param fallBack Should we attempt to fallback on matching just the SIM MCCMNC if we don't
+     *                 find a match for the full key?
+     * @return The ApnParameters or null.
+     */
+    public ApnParameters resolve(String simOperator, String simOperatorName, String networkOperator,
+                                 String networkOperatorName, boolean fallBack) {
+        ApnLookupMetrics currentMetrics = metrics;
+        ApnEventListener listener = ApnEventListener.getListener();
+        return resolve(simOperator, simOperatorName, networkOperator, networkOperatorName, fallBack,
+                currentMetrics, currentMetrics != null ? currentMetrics.start() : 0,
+                listener, listener != null ? System.nanoTime() : 0);
+    }
+
+    /**
+     * Resolve a lookup its caller has already started timing, so it is counted once however many
+     * places the caller tried first.
+     *
+     * @param start What the metrics' start returned for this lookup.
+     * @param listener The listener read when the lookup started, or null.
+     * @param eventStart System.nanoTime when the lookup started, if there is a listener.
+     */
+    ApnParameters resolve(String simOperator, String simOperatorName, String networkOperator,
+                          String networkOperatorName, boolean fallBack, long start, ApnEventListener listener,
+                          long eventStart) {
+        return resolve(simOperator, simOperatorName, networkOperator, networkOperatorName, fallBack,
+                metrics, start, listener, eventStart);
+    }
+
+    /**
+     * Resolve without recording metrics or events, for work the library does on its own behalf.
+     */
+    ApnParameters resolveUncounted(String simOperator, String simOperatorName, String networkOperator,
+                                   String networkOperatorName, boolean fallBack) {
+        return resolve(simOperator, simOperatorName, networkOperator, networkOperatorName, fallBack, null, 0, null, 0);
+    }
+
+    private ApnParameters resolve(String simOperator, String simOperatorName, String networkOperator,
+                                  String networkOperatorName, boolean fallBack,
+                                  ApnLookupMetrics currentMetrics, long start, ApnEventListener listener,
+                                  long eventStart) {
+        int path = ApnLookupMetrics.skippedAll();
+
+        Indexes current = indexed ? indexes() : null;
+        ApnParameters apnParameters = getFull(current, simOperator, simOperatorName, networkOperator,
+                networkOperatorName);
+        path = ApnLookupMetrics.with(path, ApnLookupMetrics.TIER_FULL_KEY,
+                apnParameters != null ? ApnLookupMetrics.OUTCOME_HIT : ApnLookupMetrics.OUTCOME_MISS);
+
+        if(apnParameters == null && fallBack) {
+            apnParameters = fuzzy().get(simOperator, simOperatorName, networkOperator, networkOperatorName);
+            path = ApnLookupMetrics.with(path, ApnLookupMetrics.TIER_FUZZY_NAME,
+                    apnParameters != null ? ApnLookupMetrics.OUTCOME_HIT : ApnLookupMetrics.OUTCOME_MISS);
+        }
+
+        //Fallback on old data if we don't have new full network keys yet.
+        if(apnParameters == null && fallBack) {
+            apnParameters = getSim(current, simOperator);
+            path = ApnLookupMetrics.with(path, ApnLookupMetrics.TIER_SIM_MCCMNC,
+                    apnParameters != null ? ApnLookupMetrics.OUTCOME_HIT : ApnLookupMetrics.OUTCOME_MISS);
+        }
+
+        if(currentMetrics != null) currentMetrics.record(path, apnParameters != null, start);
+        if(listener != null) {
+            int tier = ApnLookupMetrics.TIER_NONE;
+            if(ApnLookupMetrics.outcome(path, ApnLookupMetrics.TIER_FULL_KEY) == ApnLookupMetrics.OUTCOME_HIT) {
+                tier = ApnLookupMetrics.TIER_FULL_KEY;
+            } else if(ApnLookupMetrics.outcome(path, ApnLookupMetrics.TIER_FUZZY_NAME) == ApnLookupMetrics.OUTCOME_HIT) {
+                tier = ApnLookupMetrics.TIER_FUZZY_NAME;
+            } else if(apnParameters != null) {
+                tier = ApnLookupMetrics.TIER_SIM_MCCMNC;
+            }
+            listener.onLookup(simOperator, networkOperator, tier, System.nanoTime() - eventStart);
+        }
+        return apnParameters;
+    }
+
+    /**
+     * Resolve without recording metrics or events, reporting which tier answered. Used by
+     * ApnBatchResolver.
+     *
+     * @param results Where to store the ApnParameters or null.
+     * @param index The position in results to store at.
+     * @return The ApnLookupMetrics TIER_ constant of the tier that answered, or TIER_NONE.
+     */
+    int resolveInto(String simOperator, String simOperatorName, String networkOperator, String networkOperatorName,
+                    boolean fallBack, ApnParameters[] results, int index) {
+        Indexes current = indexed ? indexes() : null;
+        ApnParameters apnParameters = getFull(current, simOperator, simOperatorName, networkOperator,
+                networkOperatorName);
+        int tier = ApnLookupMetrics.TIER_FULL_KEY;
+
+        if(apnParameters == null && fallBack) {
+            apnParameters = fuzzy().get(simOperator, simOperatorName, networkOperator, networkOperatorName);
+            tier = ApnLookupMetrics.TIER_FUZZY_NAME;
+        }
+
+        if(apnParameters == null && fallBack) {
+            apnParameters = getSim(current, simOperator);
+            tier = ApnLookupMetrics.TIER_SIM_MCCMNC;
+        }
+
+        results[index] = apnParameters;
+        return apnParameters != null ? tier : ApnLookupMetrics.TIER_NONE;
+    }
+
+    /**
+     * @param current The lookup indexes, or null to probe the data source.
+     */
+    private ApnParameters getFull(Indexes current, String simOperator, String simOperatorName,
+                                  String networkOperator, String networkOperatorName) {
+        if(current != null && current.fullIndex != null) {
+            return current.fullIndex.get(simOperator, simOperatorName, networkOperator, networkOperatorName);
+        }
+
+        return source.get(new StringBuffer()
+                .append(simOperator).append('|')
+                .append(simOperatorName).append('|')
+                .append(networkOperator).append('|')
+                .append(networkOperatorName)
+                .toString());
+    }
+
+    /**
+     * @param current The lookup indexes, or null to probe the data source.
+     */
+    private ApnParameters getSim(Indexes current, String simOperator) {
+        if(current != null) {
+            int code = ApnMccMnc.encode(simOperator);
+            if(code != ApnMccMnc.INVALID) return current.simIndex.get(code);
+        }
+        return source.get(simOperator);
+    }
+
+    private Indexes indexes() {
+        int version = source.getVersion();
+        Indexes current = indexes;
+        if(current == null || current.version != version) {
+            //A lookup racing a preload, or another lookup, waits for its indexes rather than
+            //building a second copy.
+            synchronized(this) {
+                current = indexes;
+                if(current == null || current.version != version) {
+                    current = new Indexes(version, source);
+                    indexes = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private ApnFuzzyNameIndex fuzzy() {
+        int version = source.getVersion();
+        Fuzzy current = fuzzy;
+        if(current == null || current.version != version) {
+            synchronized(this) {
+                current = fuzzy;
+                if(current == null || current.version != version) {
+                    current = new Fuzzy(version, new ApnFuzzyNameIndex(source));
+                    fuzzy = current;
+                }
+            }
+        }
+        return current.index;
+    }
+
+    private static class Fuzzy {
+        private final int version;
+        private final ApnFuzzyNameIndex index;
+
+        private Fuzzy(int version, ApnFuzzyNameIndex index) {
+            this.version = version;
+            this.index = index;
+        }
+    }
+
+    private static class Indexes {
+        private final int version;
+        private final ApnFullKeyIndex fullIndex;
+        private final ApnMccMncIndex simIndex;
+
+        private Indexes(int version, ApnDataSource source) {
+            List<String[]> full = new ArrayList<String[]>();
+            List<ApnParameters> fullValues = new ArrayList<ApnParameters>();
+            List<String> sim = new ArrayList<String>();
+            Map<String, String> canonical = new HashMap<String, String>();
+            boolean splittable = true;
+            for(String key : source.keys()) {
+                if(key.indexOf('|') >= 0) {
+                    String[] parts = key.split("\\|", -1);
+                    splittable &= parts.length == 4;
+                    //Operators and names repeat across many keys, so keep a single copy of each.
+                    for(int i = 0; i < parts.length; i++) {
+                        String existing = canonical.get(parts[i]);
+                        if(existing == null) canonical.put(parts[i], parts[i]);
+                        else parts[i] = existing;
+                    }
+                    full.add(parts);
+                    fullValues.add(source.get(key));
+                } else if(ApnMccMnc.encode(key) != ApnMccMnc.INVALID) {
+                    sim.add(key);
+                }
+            }
+
+            this.version = version;
+
+            //An operator name containing '|' makes its key ambiguous, so it can only be looked up whole.
+            if(splittable) {
+                fullIndex = new ApnFullKeyIndex(full.size());
+                for(int i = 0; i < full.size(); i++) {
+                    String[] parts = full.get(i);
+                    fullIndex.put(parts[0], parts[1], parts[2], parts[3], fullValues.get(i));
+                }
+            } else {
+                fullIndex = null;
+            }
+
+            simIndex = new ApnMccMncIndex(sim.size());
+            for(String key : sim) simIndex.put(ApnMccMnc.encode(key), source.get(key));
+        }
+    }
+}
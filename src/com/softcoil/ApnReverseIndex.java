@@ -0,0 +1,189 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Answers the reverse of a lookup: which keys resolve to given ApnParameters, MMSC URL or proxy
+ * address. Meant for impact analysis, such as finding every carrier that depends on an MMSC that
+ * has gone down. Example:<br/>
+ *  <pre>
+ *  ApnReverseIndex index = new ApnReverseIndex(new EmbeddedApnDataSource());
+ *  Set&lt;String&gt; keys = index.getKeysForMmscUrl("http://10.4.42.21:8002/");
+ *  Set&lt;String&gt; mccMncs = ApnReverseIndex.simOperators(keys);
+ *  </pre>
+ *
+ * The table spells some MMSC URLs both with and without a trailing slash, so MMSC URLs and proxy
+ * addresses are matched as {@link #normalizeMmscUrl} and {@link #normalizeProxyAddress} leave
+ * them, both when indexing and when querying.
+ *
+ * The index is built from the data source on the first query and rebuilt whenever its version
+ * changes, after which every query is a single hash lookup. Returned sets are sorted and cannot
+ * be modified.
+ */
+public class ApnReverseIndex {
+
+    private final ApnDataSource source;
+    private volatile Index index;
+
+    public ApnReverseIndex(ApnDataSource source) {
+        this.source = source;
+    }
+
+    public ApnDataSource getDataSource() {
+        return source;
+    }
+
+    /**
+     * @return The keys whose parameters equal the given ones, or an empty set.
+     */
+    public Set<String> getKeys(ApnParameters apnParameters) {
+        return find(index().byParameters, apnParameters);
+    }
+
+    /**
+     * @return The keys whose parameters have this MMSC URL, however it is spelled, whatever their
+     * proxy.
+     */
+    public Set<String> getKeysForMmscUrl(String mmscUrl) {
+        return find(index().byMmscUrl, normalizeMmscUrl(mmscUrl));
+    }
+
+    /**
+     * @param proxyAddress A proxy host name or IP address, without the port.
+     * @return The keys whose parameters use this proxy, whatever their port.
+     */
+    public Set<String> getKeysForProxyAddress(String proxyAddress) {
+        return find(index().byProxyAddress, normalizeProxyAddress(proxyAddress));
+    }
+
+    /**
+     * @return Every distinct ApnParameters in the data source.
+     */
+    public Set<ApnParameters> getParameters() {
+        return Collections.unmodifiableSet(index().byParameters.keySet());
+    }
+
+    /**
+     * @param keys Keys as returned by this index.
+     * @return The SIM MCCMNCs the keys belong to, sorted.
+     */
+    public static Set<String> simOperators(Collection<String> keys) {
+        Set<String> simOperators = new TreeSet<String>();
+        for(String key : keys) {
+            int end = key.indexOf('|');
+            simOperators.add(end >= 0 ? key.substring(0, end) : key);
+        }
+        return Collections.unmodifiableSet(simOperators);
+    }
+
+    /**
+     * @return The MMSC URL trimmed, with its scheme and host lower cased and without a trailing
+     * slash, so the spellings of one MMSC compare equal. The path is left alone, as servers may
+     * tell paths apart by case. Null becomes the empty string.
+     */
+    static String normalizeMmscUrl(String mmscUrl) {
+        String url = mmscUrl != null ? mmscUrl.trim() : "";
+
+        //The scheme and host run up to the first '/', '?' or '#' after any "://".
+        int scheme = url.indexOf("://");
+        int hostEnd = url.length();
+        for(int i = scheme >= 0 ? scheme + 3 : 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if(c == '/' || c == '?' || c == '#') {
+                hostEnd = i;
+                break;
+            }
+        }
+        url = url.substring(0, hostEnd).toLowerCase(Locale.US) + url.substring(hostEnd);
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * @return The proxy address trimmed and lower cased. Null becomes the empty string.
+     */
+    static String normalizeProxyAddress(String proxyAddress) {
+        return proxyAddress != null ? proxyAddress.trim().toLowerCase(Locale.US) : "";
+    }
+
+    private static <K> Set<String> find(Map<K, Set<String>> map, K key) {
+        Set<String> keys = map.get(key);
+        return keys != null ? keys : Collections.<String>emptySet();
+    }
+
+    private Index index() {
+        int version = source.getVersion();
+        Index current = index;
+        if(current == null || current.version != version) {
+            //Racing threads build identical indexes so either one may win.
+            current = new Index(version, source);
+            index = current;
+        }
+        return current;
+    }
+
+    private static class Index {
+        private final int version;
+        private final Map<ApnParameters, Set<String>> byParameters = new HashMap<ApnParameters, Set<String>>();
+        private final Map<String, Set<String>> byMmscUrl = new HashMap<String, Set<String>>();
+        private final Map<String, Set<String>> byProxyAddress = new HashMap<String, Set<String>>();
+
+        private Index(int version, ApnDataSource source) {
+            this.version = version;
+
+            Set<String> sorted = new TreeSet<String>();
+            for(String key : source.keys()) sorted.add(key);
+
+            for(String key : sorted) {
+                ApnParameters apnParameters = source.get(key);
+                if(apnParameters == null) continue;
+
+                add(byParameters, apnParameters, key);
+                String mmscUrl = normalizeMmscUrl(apnParameters.getMmscUrl());
+                if(mmscUrl.length() > 0) add(byMmscUrl, mmscUrl, key);
+                String proxyAddress = normalizeProxyAddress(apnParameters.getProxyAddress());
+                if(proxyAddress.length() > 0) add(byProxyAddress, proxyAddress, key);
+            }
+
+            seal(byParameters);
+            seal(byMmscUrl);
+            seal(byProxyAddress);
+        }
+
+        private static <K> void add(Map<K, Set<String>> map, K value, String key) {
+            Set<String> keys = map.get(value);
+            if(keys == null) {
+                keys = new LinkedHashSet<String>();
+                map.put(value, keys);
+            }
+            keys.add(key);
+        }
+
+        private static <K> void seal(Map<K, Set<String>> map) {
+            for(Map.Entry<K, Set<String>> entry : map.entrySet()) {
+                entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+            }
+        }
+    }
+}
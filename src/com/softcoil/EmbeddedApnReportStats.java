@@ -0,0 +1,2494 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import java.util.Arrays;
+
+/**
+ * How often each key of the embedded table was reported and when it was last reported, taken
+ * from the comments in EmbeddedApnDataSource. Keys the table has no report comment for have a
+ * count of zero.
+ *
+ * Generated by tools/com/softcoil/ApnReportStatsGenerator, do not edit.
+ */
+final class EmbeddedApnReportStats {
+
+    /**
+     * A hash of every entry of the embedded table as written, so it changes whenever the table
+     * does. This is EmbeddedApnDataSource.VERSION.
+     */
+    static final int TABLE_VERSION = -552088244;
+
+    private EmbeddedApnReportStats() {
+    }
+
+    /**
+     * @return The number of reports for the key, or 0.
+     */
+    static int reportCount(String key) {
+        int index = Arrays.binarySearch(Table.KEYS, key);
+        return index >= 0 ? Table.REPORT_COUNTS[index] : 0;
+    }
+
+    /**
+     * @return When the key was last reported in milliseconds since the epoch, or 0.
+     */
+    static long lastReportMillis(String key) {
+        int index = Arrays.binarySearch(Table.KEYS, key);
+        return index >= 0 ? Table.LAST_REPORTS[index] * 1000L : 0;
+    }
+
+    /**
+     * Keeps the arrays out of memory until stats are first asked for.
+     */
+    static final class Table {
+
+        //Sorted, for binary search.
+        static final String[] KEYS = {
+            "000000|HTC|000000|HTC",
+            "000000|HTC|310120|HTC",
+            "00101|DEFACE|00101|DEFACE",
+            "11111|U.S. Cellular|31000|U.S. Cellular",
+            "11111|U.S. Cellular|311580|U.S. Cellular",
+            "11111|US Cellular|31000|U.S. Cellular",
+            "11111|US Cellular|311580|U.S. Cellular",
+            "11111|US Cellular|311580|US Cellular",
+            "12345|T-Mobile|310260|T-Mobile",
+            "20205|vodafone GR|20205|VODAFONE GR",
+            "20205|vodafone GR|20205|VODAFONEGR",
+            "20402|Tele2|20416|T-Mobile NL",
+            "204043|Verizon|310004|",
+            "20404|Verizon Wireless|311480|Verizon Wireless",
+            "20404|Verizon|26202|Vodafone.de",
+            "20404|Verizon|31000|",
+            "20404|Verizon|311480|",
+            "20404|vodafone NL|310004|",
+            "20404||20404|vodafone NL",
+            "20404||31000|",
+            "20408|Hi|20408|NL KPN",
+            "20408|KPN|20408|NL KPN",
+            "20408|simyo|20408|NL KPN",
+            "20408|simyo|20408|simyo",
+            "20412|NL Telfort|20408|NL KPN",
+            "20416|Ben NL|20416|Ben NL",
+            "20601||20601|PROXIMUS",
+            "20610||20610|B Mobistar",
+            "20610||20610|Mobistar",
+            "20620|BASE|20620| BASE",
+            "20620|BASE|20620|BASE",
+            "20801|,|20801|Orange F",
+            "20801|C le mobile|20801|C le mobile",
+            "20801|NRJ Mobile|20801|NRJ Mobile",
+            "20801|Orange F|20801|Femtocell Orange",
+            "20801|Orange F|20801|Orange",
+            "20801|Orange F|20801|Orange F",
+            "20801|Orange F|20801|Orange F,null",
+            "20801|Orange F|20813|SFR (Contact)",
+            "20801|Orange F|20888|Orange F",
+            "20801|Orange F|22802|Sunrise",
+            "20801|Orange|20801|Orange ",
+            "20801|Orange|20801|Orange F",
+            "20801||20801|Orange F",
+            "20810|,|20810|CORIOLIS",
+            "20810|,|20810|F SFR",
+            "20810|,|20810|La Poste Mobile",
+            "20810|C le mobile|20810|C le mobile ",
+            "20810|CORIOLIS|20810|CORIOLIS",
+            "20810|Darty|20810|SFR",
+            "20810|Joe|20810|Joe",
+            "20810|Joe|20810|SFR",
+            "20810|La Poste Mobile|20810|F SFR",
+            "20810|La Poste Mobile|20810|La Poste Mobile",
+            "20810|La Poste Mobile|20810|SFR",
+            "20810|LeclercMobile|20810|F SFR",
+            "20810|LeclercMobile|20810|LeclercMobile",
+            "20810|LeclercMobile|20810|SFR",
+            "20810|NRJ Mobile|20810|NRJ Mobile",
+            "20810|Numericable|20810|F SFR",
+            "20810|Numericable|20810|Numericable",
+            "20810|Numericable|20810|SFR",
+            "20810|PrixTel|20810|F SFR",
+            "20810|PrixTel|20810|PrixTel",
+            "20810|PrixTel|20810|SFR",
+            "20810|REGLO Mobile|20810|REGLO Mobile",
+            "20810|SFR|20810|SFR",
+            "20810|neuf|20810|neuf",
+            "20810||20810|F SFR",
+            "20810||20810|Numericable",
+            "20810||20810|SFR",
+            "20810||20810|SFR Femto En",
+            "20810||20810|SFR Femto Ent",
+            "20810||20810|SFR Femto Ent,null",
+            "20810||20811|208 11",
+            "20810||20811|SFR Femto",
+            "20810||26202|Vodafone.de",
+            "20815|,|20801|Free",
+            "20815|Free|20801|France Orange",
+            "20815|Free|20801|Free",
+            "20815|Free|20801|Orange",
+            "20815|Free|20801|Orange F",
+            "20815|Free|20801|Orange F 3G",
+            "20815|Free|20802|Free",
+            "20815|Free|20815|20815",
+            "20815|Free|20815|Free",
+            "20815|Free|20815|Free 4G",
+            "20815|Free|34020|DIGICEL F",
+            "20815||20801|Free",
+            "20815||20815|Free",
+            "20820|,|20820|Bouygues Telecom",
+            "20820|BOUYGTEL|20820|Bouygtel",
+            "20820|BOUYGTEL|20820|F Bouygues",
+            "20820|Bouygues Telecom|20802|Contact",
+            "20820|Bouygues Telecom|20802|F - Contact",
+            "20820|Bouygues Telecom|20820|",
+            "20820|Bouygues Telecom|20820|BYTEL",
+            "20820|Bouygues Telecom|20820|Bouygtel",
+            "20820|Bouygues Telecom|20820|Bouygues ",
+            "20820|Bouygues Telecom|20820|Bouygues Telecom",
+            "20820|Bouygues Telecom|20820|BouyguesTel",
+            "20820|Bouygues Telecom|20820|F Bouygues",
+            "20820|Bouygues Telecom|20820|F-Bouygues Telecom",
+            "20820|Bouygues Telecom|20888|F - Contact",
+            "20820|Bouygues|20820|",
+            "20820|Bouygues|20820|Bouygues Telecom",
+            "20820|Mobiho|20820|Mobiho",
+            "20820|UNIVERSAL|20820|Bouygues Telecom",
+            "20820|UNIVERSAL|20820|F Bouygues",
+            "20820|Verizon|20820|F-Bouygues Telecom",
+            "20820||20820|BOUYGTEL",
+            "20820||20820|BYTEL",
+            "20820||20820|Bouygues Telecom",
+            "20820||20820|F Bouygues",
+            "20820||20820|F-Bouygues Telecom",
+            "20823|Virgin|20810|F SFR",
+            "20823|Virgin|20810|SFR",
+            "20823|Virgin|20810|Virgin",
+            "20823|Virgin|20820|Virgin",
+            "20826|EI Telecom|20810|EI Telecom",
+            "20826|NRJ Mobile|20810|NRJ Mobile",
+            "21401||21401|vodafone ES",
+            "21403|Orange|21403|Orange",
+            "21405|Tuenti|21407|Tuenti",
+            "21406|mobilR|21401|mobilR",
+            "21407|movistar|21407|Movistar España",
+            "21407|movistar||",
+            "21407||21407|Movistar",
+            "21418|ONO|21407|ONO",
+            "21601|Telenor HU|21601|Telenor HU",
+            "21601|Telenor HU|21601|TelenorH",
+            "21630|T-Mobile H|21630|Telekom HU",
+            "21630|Telekom HU|21630|Telekom HU",
+            "21670||21670|vodafone HU",
+            "21890|BH Mobile|21890|BH Mobile",
+            "21890|BH Mobile|21890|BHMOBILE",
+            "21901|,|21901|HT HR",
+            "21901|HT HR|21901|HT HR",
+            "21901|HT HR|21901|T-Mobile",
+            "21901|HT HR|21901|T-Mobile HR",
+            "21901|T-Mobile HR|21901|T-Mobile HR",
+            "21902|TELE2|21902|Tele2",
+            "21910|tomato|21910|tomato",
+            "21910||21910|HR VIP",
+            "22003|mt:s|22003|MTS",
+            "22003|mt:s|22003|mt:s",
+            "22005|Vip SRB|22005|Vip SRB",
+            "22005|Vip SRB|22005|Vip SRB ",
+            "22005|Vip SRB||",
+            "22201||22201|I TIM",
+            "22210||22210|vodafone IT",
+            "22288||22288|I WIND",
+            "22288||22288|WIND",
+            "22299||22299|3 ITA",
+            "22601|Vodafone RO|22601|RO Vodafone RO",
+            "22601|Vodafone RO|22601|VF-RO",
+            "22601|Vodafone RO|22601|Vodafone RO",
+            "22603|TELEKOM.RO|22606|TELEKOM.RO",
+            "22610|orange|22610|Orange",
+            "22610|orange|22610|Orange RO",
+            "22610|orange|22610|RO ORANGE",
+            "22801|M-Budget Mobile|22801|Swisscom",
+            "22801|M-Budget|22801|Swisscom",
+            "22801|Swisscom,Netto|22801|Swisscom,Sunrise",
+            "22801|Swisscom|20810|F SFR",
+            "22801|Swisscom|22801|Swisscom",
+            "22801||22801|Swisscom",
+            "22802|ALDI mobile|22802|ALDI mobile",
+            "22802|Lebara|22802|Sunrise",
+            "22802|Sunrise|22802|Sunrise",
+            "22802|yallo|22802|Sunrise",
+            "22802|yallo|22802|yallo",
+            "22803|Orange CH|22803|Orange CH",
+            "23001|Mobil CZ|23001|T-Mobile CZ",
+            "23001|PAEGAS CZ|23001|T-Mobile CZ",
+            "23001|T-Mobile CZ|23001|T-Mobile CZ",
+            "23002|BLESKmobil|23002|BLESKmobil",
+            "23002|CEZ|23002|CEZ",
+            "23002|O2-CZ|23002|O2 - CZ ",
+            "23002|O2-CZ|23002|O2-CZ",
+            "23002|O2-CZ||",
+            "23002||23002|O2 - CZ ",
+            "23003|Vodafone CZ|23003|Vodafone CZ",
+            "23003||23003|Vodafone CZ",
+            "23201||23201|A1",
+            "23203||23203|T-Mobile A",
+            "23205|3 AT@|23205|3 AT",
+            "23205|3 AT|23205|3 AT",
+            "23205||23205|3 AT",
+            "23205||23205|Orange AT",
+            "23207||23203|Ge org!",
+            "23207||23203|tele.ring",
+            "23210||23203|3-AT",
+            "23210||23205|3 AT",
+            "23210||23210|3 AT",
+            "23211||23201|A1",
+            "23211||23201|bob",
+            "23410|TESCO|23410|O2 - UK",
+            "23410|TESCO|23410|TESCO",
+            "23410|giffgaff|23410|O2 - UK",
+            "23410|giffgaff|23410|giffgaff",
+            "23410||23410|O2",
+            "23410||23410|O2 - UK",
+            "23410||23410|O2 -UK",
+            "23410||23410|Telefonica O2 UK Limited",
+            "23415|Lebara|23415|Lebara",
+            "23415|Lebara|23415|vodafone UK",
+            "23415|TalkTalk|23415|TalkTalk",
+            "23415|TalkTalk|23415|vodafone UK",
+            "23415|Talkmobile|23415|Talkmobile",
+            "23415|Talkmobile|23415|vodafone UK",
+            "23415|vodafone UK|23415|vodafone UK",
+            "23415||23415|vodafone UK",
+            "23420|3 UK|23420|3 UK",
+            "23420|3|23420|3",
+            "23420|3|23420|3 UK",
+            "23420||23420|3",
+            "23420||23420|3 UK",
+            "23426|Lycamobile|23410|Lycamobile",
+            "23430|T-Mobile|23430|T-Mobile",
+            "23430|Virgin@|23430|T-Mobile UK",
+            "23430|Virgin|23430|Virgin",
+            "23430||23430|BT",
+            "23430||23430|EE",
+            "23430||23430|T-Mobile",
+            "23430||23430|T-Mobile UK",
+            "23430||23430|Virgin",
+            "23430||23433|EE",
+            "23430||23433|Orange",
+            "23430||23433|T-Mobile Orange",
+            "23430||23433|virgin",
+            "23433|@@@@@@@@@@@@@@@@|23430|T-Mobile UK",
+            "23433|EE|23430|EE",
+            "23433|EE|23430|T-Mobile UK",
+            "23433|EE|23433|EE",
+            "23433|EE|23433|Orange",
+            "23433|EE|26201|Telekom.de",
+            "23433|Orange|23430|Orange T-Mobile",
+            "23433||23430|EE",
+            "23801|TELMORE|23801|TELMORE",
+            "23806|3|23420|3 UK",
+            "23806|3|23801|3",
+            "23806|3|23806|3",
+            "23806|3|23806|3 DK",
+            "23806|Oister|23806|3 DK",
+            "23820|DLG Tele|23820|TeliaDK",
+            "23820|TELIA DK|23820|TeliaDK",
+            "24001|Telia|24001|Telia",
+            "24001|halebop|24005|Sweden 3G",
+            "24001|halebop|24005|halebop",
+            "24002|3|24002|3",
+            "24002|3|24004|3",
+            "24002|Swedfone|24002|Swedfone",
+            "24002|hallon|24002|hallon",
+            "24002|hallon|24004|hallon",
+            "24007|Comviq|24005|Comviq",
+            "24007|Comviq|24005|Comviq SE",
+            "24007|Comviq|24005|Sweden 3G",
+            "24007|Comviq|24007|Comviq",
+            "24007|Comviq|24007|S COMVIQ",
+            "24007|Comviq|24007|Tele2 SE",
+            "24007|Comviq|24024|Sweden Mobile",
+            "24007|Tele2 Ftg|24005|Sweden 3G",
+            "24007|Tele2 NO|24202|NetCom",
+            "24007|Tele2 NO|24205|Mobile Norway",
+            "24007|Tele2Comviq|24005|Sweden 3G",
+            "24007|Tele2|24005|Sweden 3G",
+            "24007|Tele2|24005|Tele2",
+            "24007|Tele2|24007|",
+            "24007|Tele2|24007|IQ",
+            "24007|Tele2|24007|S COMVIQ",
+            "24007|Tele2|24007|Tele2 SE",
+            "24007|Tele2|24205|Mobile Norway",
+            "24008|Telenor SE|24004|SWEDEN",
+            "24008|Telenor SE|24008|Telenor SE",
+            "24201|TELENOR|24201|N Telenor",
+            "24201|TELENOR|24201|Telenor",
+            "24201|Talkmore|24201|N Telenor",
+            "24201|Telenor|24201|N Telenor",
+            "24201|Telenor|24201|Telenor",
+            "24201|djuice|24201|N Telenor",
+            "24202|Chess|24202|NetCom",
+            "24202|NetCom|24202|NetCom",
+            "24205|MyCall|24201|N Telenor",
+            "24205|One Call|24005|Sweden 3G",
+            "24205|One Call|24201|N Telenor",
+            "24205|One Call|24202|NetCom",
+            "24205|One Call|24202|One Call",
+            "24205|One Call|24205|Mobile Norway",
+            "24205|One Call|24205|One Call",
+            "24405|Saunalahti|24405|Saunalahti",
+            "24412|DNA|24412|DNA",
+            "24491||24491|Sonera",
+            "24601|Omnitel|24601|OMNITEL LT",
+            "24601|ezys|24601|OMNITEL LT",
+            "24601||24601|OMNITEL LT",
+            "24603|PILDYK|24603|Tele2 LT",
+            "24603|Tele2|24603|Tele2 LT",
+            "24701|LMT LV|24701|LV LMT",
+            "24701|LMT|24701|LMT",
+            "24701|LMT|24701|LMT GSM",
+            "24701|LMT|24701|LV LMT",
+            "24701||24701|LMT GSM",
+            "24701||24701|LV LMT",
+            "24702|LV TELE2|24702|TELE2",
+            "24702|LV TELE2|24702|Tele2 LV",
+            "24801||24801|EMT",
+            "24803|Tele2 EE|24803|Tele2 EE",
+            "25001|Beeline|25001|MTS RUS",
+            "25001|Kuban-GSM|25001|MTS-RUS",
+            "25001|MTS RUS|25001|MTS",
+            "25001|MTS RUS|25001|MTS RUS",
+            "25001|MTS RUS|25001|MTS RUS@",
+            "25001|MTS RUS|25001|MTS-RUS",
+            "25001|MTS RUS|25032|WIN",
+            "25001|MTS-RUS|25001|MTS",
+            "25001|MTS-RUS|25001|MTS RUS",
+            "25001|MTS-RUS|25001|MTS-RUS",
+            "25001|MTS|23430|EE",
+            "25001|MTS|25001|Mobile Telesystems",
+            "25001|MTS|310260|MetroPCS",
+            "25001|SVYAZNOY|25001|SVYAZNOY",
+            "25001|Sprint|31000|Sprint",
+            "25001||25001|MTS RUS",
+            "25001||25001|MTS-RUS",
+            "25001||25001|Unknown",
+            "25001||310410|AT&T",
+            "25002|MegaFon|25002|MegaFon",
+            "25002|MegaFon|25002|MegaFon OJSC",
+            "25002|MegaFon|25002|MegaFon OJSC 4G",
+            "25002|MegaFon|25002|MegaFon RUS",
+            "25002|MegaFon|25002|MegaFon@",
+            "25002||25002|MegaFon",
+            "25003|NCC|25003|ROSTELECOM",
+            "25003|Rostelecom|25003|25003",
+            "25003|Rostelecom|25003|NCC",
+            "25011|YOTA|25002|MegaFon",
+            "25020|TELE2|25020|TELE2",
+            "25020|TELE2|25020|TELE2 RU",
+            "25020||25001|TELE2 RU",
+            "25020||25020|TELE2",
+            "25099|Beeline|25099|Beeline",
+            "25099|Beeline|25099|Beeline,Beeline",
+            "25099|Beeline|25099|Beeline@",
+            "25099|Beeline|25099|OJSC VimpelCom",
+            "25099||25099|Beeline",
+            "25501|Jeans|25501|MTS UKR",
+            "25501|MTS UKR|25501|MTS",
+            "25501|MTS UKR|25501|MTS UKR",
+            "25501|UMC|25501|MTS",
+            "25501|UMC|25501|MTS UKR",
+            "25501|UMC|25501|MTSUA",
+            "25501||25501|MTS UKR",
+            "25503|KYIVSTAR|25503|KYIVSTAR",
+            "25503|KYIVSTAR|25503|Kyivstar",
+            "25503|KYIVSTAR|25503|UA-KYIVSTAR",
+            "25503||25503|Kyivstar",
+            "25506|life:)|25506|",
+            "25506|life:)|25506|life:)",
+            "25506||25506|life:)",
+            "25507|OGO!|25507|3Mob",
+            "25701|VELCOM|25701|Velcom",
+            "25701|velcom|25701|BY VELCOM",
+            "25702|MTS.BY|25702|MTS BY",
+            "25901|Orange|25901|Orange",
+            "25901|Orange|25901|Orange MD",
+            "25902|MOLDCELL|25902|MOLDCELL",
+            "26001|Plus|26001|Plus",
+            "26001||26001,null|Plus,null",
+            "26001||26001|Plus",
+            "26002|T-Mobile.pl Q|26002|Era",
+            "26002|T-Mobile.pl Q|26201|T-Mobile D",
+            "26002|T-Mobile.pl|26002|Era",
+            "26002|T-Mobile.pl|26002|T-Mobile.pl",
+            "26002|heyah|26002|Era",
+            "26002||26002|Era",
+            "26002||26002|T-Mobile.pl",
+            "26003|MILEGO DNIA||",
+            "26003|Orange POP|26003|Orange",
+            "26003|Orange|22288|I WIND",
+            "26003|Orange|26003|Orange",
+            "26003|nju|26003|Orange",
+            "26003||26003|nju",
+            "26006|PLAY|26002|Era",
+            "26006|PLAY|26006|PLAY",
+            "26006|Red Bull MOBILE|26002|Era",
+            "26006|Red Bull MOBILE|26006|Play",
+            "26006|Red Bull MOBILE|26006|Red Bull MOBILE",
+            "26006||26001|PLAY (Plus)",
+            "26006||26002|PLAY (T-Mobile)",
+            "26006||26002|PLAY(T-Mobile)",
+            "26006||26006|PLAY",
+            "26017||26001|Aero2",
+            "26017||26001|Plus",
+            "26201|Business|26201|Telekom.de",
+            "26201|Lebara|26201|Lebara",
+            "26201|PENNY MOBIL|26201|PENNY MOBIL",
+            "26201|Privat|26201|T-Mobile D",
+            "26201|TALKLINE|26201|Telekom.de",
+            "26201|Telekom.de|21407|Movistar",
+            "26201|Telekom.de|26201|T-Mobile",
+            "26201|Telekom.de|26201|T-Mobile D",
+            "26201|Telekom.de|26201|Telekom.de",
+            "26201|callmobile.de|26201| ",
+            "26201|callmobile.de|26201|Telekom.de",
+            "26201|congstar|26201| ",
+            "26201|congstar|26201|TMO D",
+            "26201|congstar|26201|Telekom.de",
+            "26201|congstar|26201|congstar",
+            "26201|ja! mobil|26201| ",
+            "26201|klarmobil|26201| ",
+            "26201|klarmobil|26201|T-Mobile D",
+            "26201|klarmobil|26201|Telekom.de",
+            "26201|mobilcom-debitel|26201|T-Mobile",
+            "26201|mobilcom-debitel|26201|Telekom.de",
+            "26201|mobilcom|26201|Telekom.de",
+            "26201||26201|T-Mobile D",
+            "26201||26201|Telekom.de",
+            "26202|1&1|26202|1&1",
+            "26202|1&1|26202|Vodafone.de",
+            "26202|BILDmobil|26202|Vodafone.de",
+            "26202|Business|26202|Vodafone.de",
+            "26202|DeutschlandSIM|26202|Vodafone.de",
+            "26202|FYVE|26202|Vodafone.de",
+            "26202|ROSSMANN mobil|26202|Vodafone.de",
+            "26202|Talkline|26202|Talkline",
+            "26202|Talkline|26202|Vodafone.de",
+            "26202|Telco|26202|Vodafone.de",
+            "26202|Vodafone.de|26202|Vodafone.de",
+            "26202|Willkommen|26202|Vodafone.de",
+            "26202|Willkommen|26202|Willkommen",
+            "26202|callmobile.de|26202|Vodafone.de",
+            "26202|discoTEL|26202|Vodafone.de",
+            "26202|helloMobil|26202|Vodafone.de",
+            "26202|klarmobil|26202|Vodafone.de",
+            "26202|mobilcom debitel|26202|Vodafone.de",
+            "26202|mobilcom-debitel|26202|Vodafone.de",
+            "26202|mobilcom-debitel|26202|mobilcom-debitel",
+            "26202|otelo.de|26202|Vodafone.de",
+            "26202||26202|Vodafone.de",
+            "26202||26202|Vodafone.de,null",
+            "26203|1&1|26203|1&1",
+            "26203|AY YILDIZ|26203|AY YILDIZ",
+            "26203|AY YILDIZ|26203|E-Plus",
+            "26203|BASE DE|26203|BASE DE",
+            "26203|BASE|26203|E-Plus",
+            "26203|MEDIONmobile|26203|E-Plus",
+            "26203|MEDIONmobile|26203|E-Plus,null",
+            "26203|MEDIONmobile|26203|MEDIONmobile",
+            "26203|MTV Mobile|26203|MTV Mobile",
+            "26203|Ortel D|26203|Ortel D",
+            "26203|TALKLINE|26203|TALKLINE",
+            "26203|Tele2|26203|Tele2",
+            "26203|blau|26203|blau",
+            "26203|mobilcom-debitel|26203|mobilcom-debitel",
+            "26203|simyo|26203|simyo",
+            "26203|yourfone.de|26203|yourfone.de",
+            "26203||26203|BASE DE",
+            "26203||26203|E-Plus",
+            "26203||26203|MEDIONmobile",
+            "26203||26203|blau.de",
+            "26203||26203|yourfone.de",
+            "26207|FONIC|26207|o2 - de",
+            "26207|Talkline|26207|o2 - de",
+            "26207|Tchibo|26207|o2 - de",
+            "26207|Telco|26207|o2 - de",
+            "26207|Willkommen|26207|O2 (Germany) GmbH & Co. OHG",
+            "26207|Willkommen|26207|o2 - de",
+            "26207|b2c.de|26207|b2c.de",
+            "26207|disco|26207|o2 - de",
+            "26207|fonic|26207|fonic",
+            "26207|helloMobil@|26207|helloMobil",
+            "26207|maXXim|26207|o2 - de",
+            "26207|mobilcom-debitel|26207|o2 - de",
+            "26207|o2 - de|26207|O2-Signal-Box",
+            "26207|o2 - de|26207|o2 - de",
+            "26207||21407|Movistar",
+            "26207||26207|Drillisch",
+            "26207||26207|FONIC",
+            "26207||26207|KabelBW",
+            "26207||26207|LIDL MOBILE",
+            "26207||26207|Lidl mobile",
+            "26207||26207|Tchibo",
+            "26207||26207|Telco",
+            "26207||26207|Willkommen",
+            "26207||26207|b2c.de",
+            "26207||26207|disco",
+            "26207||26207|helloMobil",
+            "26207||26207|klarmobil",
+            "26207||26207|netzclub",
+            "26207||26207|o2 - de",
+            "26243|,Lycamobile|26202|O2 (Germany) GmbH & Co. OHG,Vodafone.de",
+            "26801||26801|vodafone P",
+            "26803|NOS|26803|NOS",
+            "26803|NOS|26803|P NOS",
+            "26803|NOS|26803|P OPTIMUS",
+            "26803|WTF|26803|P OPTIMUS",
+            "26803|WTF|26803|WTF",
+            "27001||27001|POST",
+            "27099|Orange|27099|VOXmobile",
+            "27201|vodafone IE|27201|vodafone IE",
+            "27202||27202|O2 - IRL",
+            "27202||27202|O2-IRL",
+            "27202||27202|o2 IRL",
+            "27203||27203|Meteor",
+            "27205|3|27205|3",
+            "27205|3|27205|3 IRL",
+            "27205||27205|3",
+            "27205||27205|3 IRL",
+            "27211|48|27202|48",
+            "27211|Tesco Mobile|27202|Tesco Mobile",
+            "28001|CytaVoda|28001|CYTAMOBILE-VODAFONE",
+            "28201|Geocell|28201|GEO-GEOCELL",
+            "28201|Geocell|28201|Geocell",
+            "28202|MAGTICOM|28202|MAGTI-GSM-GEO",
+            "28202|MAGTICOM|28202|MAGTICOM",
+            "28305|MTS Armenia|28305|MTS ARM",
+            "28401|M-TEL GSM BG|28401|Mtel",
+            "28401|Mtel|28401|Mtel",
+            "28405|Telenor BG|28405|BG GLOBUL",
+            "28601||28601|TR TURKCELL",
+            "28601||28601|TURKCELL",
+            "28602||28602|VODAFONE TR",
+            "28603|AVEA|28603|AVEA",
+            "28603|BIMCell|28603|BIMcell",
+            "28603|Pttcell|28603|AVEA",
+            "28603||28603|AVEA",
+            "29340|SIMOBIL|29340|Si.mobil",
+            "29340|bob|29340|Si.mobil",
+            "29340||29340|Si.mobil",
+            "29341|IPKO|29341|MOBITEL",
+            "29341|Mobitel|29341|MOBITEL",
+            "29341||29341|MOBITEL",
+            "29364|T-2|29364|T-2",
+            "29370|TUSMOBIL|29370|TUSMOBIL",
+            "29370||29370|TUS",
+            "29402|ONE|29402|ONE",
+            "29403|Vip MK|29403|Vip MK ",
+            "302220|Home|302220|Koodo",
+            "302220|Home|302220|TELUS",
+            "302220|SIM1|302220|TELUS",
+            "302220|TELUS@|302220|Koodo",
+            "302220|TELUS@|302220|Public Mobile ",
+            "302220|Verizon|302220|TELUS",
+            "302220||302220|Koodo",
+            "302220||302220|PC mobile",
+            "302220||302220|Public Mobile ",
+            "302220||302220|TELUS",
+            "302220||310410|AT&T",
+            "302220||311710|Northeast Wireless",
+            "302221||302221|TELUS",
+            "302270|EASTLINK|302270|EASTLINK",
+            "302270||302270|EASTLINK",
+            "302320||302320|MOBILICITY",
+            "302320||302320|Mobilicity",
+            "302370|Fido@|302720|Fido",
+            "302370|MTS|302720|MTS",
+            "302370|MTS|302780|SASKTEL",
+            "302370||302720|CAN Rogers Wireless Inc.",
+            "302370||302720|Fido",
+            "302370||302720|ROGERS",
+            "302370||302720|Rogers",
+            "302370||302720|Rogers Wireless",
+            "302370||310410|AT&T",
+            "302490||302490|WIND",
+            "302490||310260|T-Mobile",
+            "302500|Videotron|302500|Videotron",
+            "302500|Videotron|302720|ROGERS",
+            "302500|Videotron|302720|Videotron",
+            "302500|Videotron|302720|Videotron PRTNR",
+            "302500|Videotron|302720|Videotron PRTNR1",
+            "302500|Videotron|310410|AT&T",
+            "302500|Vidéotron|302500|Videotron",
+            "302610|Bell|302610|Bell",
+            "302610|VIRGIN|302610|Bell",
+            "302610|Verizon|302610|Bell",
+            "302610||20810|F SFR",
+            "302610||302610|Bell",
+            "302610||302610|PC mobile",
+            "302610||302610|Solo",
+            "302610||302610|VIRGIN",
+            "302610||46689|T Star",
+            "302660|MTS|302720|MTS",
+            "302720|CITYFONE|302720|CITYFONE",
+            "302720|Petro-Canada|302720|HOME",
+            "302720|ROGERS AT&T|310410|AT&T",
+            "302720|ROGERS@|302720|ROGERS",
+            "302720|ROGERS|302720|CAN Rogers Wireless Inc.",
+            "302720|ROGERS|302720|ROGERS",
+            "302720|ROGERS|302720|Rogers Wireless",
+            "302720|ROGERS|302720|Rogers Wireless 3G",
+            "302720|SpeakOut|302720|SpeakOut",
+            "302720|Tbaytel / Rogers|302720|Rogers Wireless",
+            "302720|Tbaytel / Rogers|302720|Tbaytel / Rogers",
+            "302720|chatr|302720|chatr",
+            "302780||302780|SaskTel",
+            "310000|Chameleon|310000|Chameleon",
+            "310000|Chameleon|310000|Motorola",
+            "310000|Chameleon|31000|Roaming Indicator Off",
+            "310000|Custom|310000|Custom",
+            "310000|Defalut|31000|Home",
+            "310000|Default|310000|Home",
+            "310000|Default|31000|Home",
+            "310000|Default|31123|Home",
+            "310000|Default|31135|Home",
+            "310000|HTC|310000|HTC",
+            "310000|Home Zone|31000|",
+            "310000|Motorola|310000|Republic",
+            "310000|Motorola|31000|Domestic Roaming",
+            "310000|Republic|310000|Republic",
+            "310000|Samsung|310000|Samsung",
+            "310000|TextNow|310000|TextNow",
+            "310000|TracFone|310000| ",
+            "310000|Verizon|310000|Searching for Service",
+            "310000|Verizon|31000| ",
+            "310000|Verizon|311480| ",
+            "310000|Verizon|311480|Bluegrass Cellular",
+            "310000|Verizon|311480|Pioneer ",
+            "310000|Verizon|311480|Roaming",
+            "310000|Verizon|311480|STRATA",
+            "310000|Virgin Mobile|310000|HTC",
+            "310000|Virgin Mobile|310000|Virgin Mobile",
+            "310000|Zact Mobile|310000|Zact Mobile",
+            "310000|mobilenation|31000|",
+            "310000|mobipcs|310000|",
+            "310000||123456| ",
+            "310000||31000|",
+            "310000||31000| ",
+            "310000||31000|Roaming Indicator On",
+            "310002|Verizon Wireless|123456|T-CDMA 64",
+            "310002|Verizon Wireless|31000|Network Extender",
+            "310002|Verizon Wireless|310120|Verizon Wireless",
+            "310002|Verizon Wireless|311480|T-CDMA 64",
+            "310002|Verizon Wireless|311480|Verizon Wireless",
+            "310003|Verizon Wireless|310012|Verizon Wireless",
+            "310003|Verizon Wireless|311480|T-CDMA 64",
+            "310003|Verizon Wireless|311480|Verizon Wireless",
+            "310004|Verizon Wireless|31000|Verizon Wireless",
+            "310004|Verizon Wireless|311480|T-CDMA 64",
+            "310004|Verizon Wireless|311480|Verizon Wireless",
+            "310004|Verizon|000000|T-CDMA 64",
+            "310004|Verizon|123456|Verizon Wireless",
+            "310004|Verizon|310000|",
+            "310004|Verizon|310000|Verizon Wireless",
+            "310004|Verizon|310004|Verizon Wireless",
+            "310004|Verizon|31000|",
+            "310004|Verizon|31000|Verizon Wireless",
+            "310004|Verizon|310012|Verizon Wireless",
+            "310004||311480|T-CDMA 64",
+            "310004||311480|Verizon Wireless",
+            "310005|CricKet |31000|Cricket",
+            "310005|Default||Home",
+            "310005|Verizon Wireless|000000|Verizon Wireless",
+            "310005|Verizon Wireless|123456| Empty",
+            "310005|Verizon Wireless|310004|Verizon Wireless",
+            "310005|Verizon Wireless|31000|Verizon Wireless",
+            "310005|Verizon Wireless|311480|Preferred System",
+            "310005|Verizon Wireless|311480|T-CDMA 64",
+            "310005|Verizon Wireless|311480|Verizon Wireless",
+            "310005||311480|Verizon Wireless",
+            "310006|Sprint|310120|Sprint",
+            "310006|Verizon Wireless|311480|T-CDMA 64",
+            "310006|Verizon Wireless|311480|Verizon Wireless",
+            "310006|Verizon|311480|Verizon Wireless",
+            "310007|CricKet |31000|Cricket",
+            "310007|Verizon Wireless|310004|Verizon Wireless",
+            "310007|Verizon Wireless|310012|Verizon Wireless",
+            "310007|Verizon Wireless|311480|T-CDMA 64",
+            "310007|Verizon Wireless|311480|Verizon Wireless",
+            "310007||310004|Verizon Wireless",
+            "310008|CricKet |31000|Cricket",
+            "310008|Verizon Wireless|31000|Verizon Wireless",
+            "310008|Verizon Wireless|310120|Verizon Wireless",
+            "310008|Verizon Wireless|311480|T-CDMA 64",
+            "310008|Verizon Wireless|311480|Verizon Wireless",
+            "310009|Verizon Wireless|310120|Verizon Wireless",
+            "310009|Verizon Wireless|311480|T-CDMA 64",
+            "310009|Verizon Wireless|311480|Verizon Wireless",
+            "310009||31000|Verizon Wireless",
+            "310009||311480|Verizon Wireless",
+            "31000|Chameleon|31000|Chameleon",
+            "31000|Tracfone|310000|",
+            "31000|Tracfone|31000|",
+            "31000|Verizon Wireless|310004|Verizon Wireless",
+            "31000|Verizon Wireless|31000|Verizon Wireless",
+            "31000|Verizon Wireless|310012|Verizon Wireless",
+            "31000|Verizon Wireless|310120|Verizon Wireless",
+            "31000|Verizon Wireless|311480|Verizon Wireless",
+            "31000||123456| ",
+            "31000||123456|Indicador de roaming desactivado",
+            "31000||123456|Roaming Indicator Off",
+            "31000||310000|",
+            "31000||31000|",
+            "31000||31000|Roaming Indicator Off",
+            "31000||311480|T-CDMA 64",
+            "31000||311480|Verizon Wireless",
+            "310012|Verizon Wireless|31000|Verizon Wireless",
+            "310012|Verizon Wireless|311480|Verizon Wireless",
+            "310012|Verizon|31000|",
+            "310012|Verizon|31000|Verizon Wireless",
+            "310012|Verizon|311480| ",
+            "310012|Verizon|311480|Verizon Wireless",
+            "310012|Verizon|3167|",
+            "310016|CricKet|123456|CricKet",
+            "310016|CricKet|31000|CricKet",
+            "310016|CricKet|31000|Home",
+            "310016|CricKet|31001|CricKet",
+            "310016|CricKet|310090|CricKet",
+            "310016|CricKet|310120|CricKet",
+            "310020|Union Wireless|310020|Union Wireless",
+            "310050|alaskacomm|310000|",
+            "310050|alaskacomm|31000|",
+            "310058|Inland|31000|Inland",
+            "310090|CricKet |31000|CricKet ",
+            "310090|CricKet |31000|Cricket",
+            "310090|CricKet |31001|Cricket",
+            "310090|CricKet |310090|Cricket",
+            "310090|Verizon|31001|",
+            "310100|PLATEAU@|310100|PLATEAU",
+            "310100||310100|PLATEAU",
+            "310100||310100|Plateau Wireless",
+            "310100||310100|US PLATEAU",
+            "310120|HTC|310120|HTC",
+            "310120|SPRINT|310120|SPRINT",
+            "310120|Sprint|000000|Samsung",
+            "310120|Sprint|000000|Sprint",
+            "310120|Sprint|00000|Digital Roaming",
+            "310120|Sprint|00000|Sprint",
+            "310120|Sprint|001001|Sprint",
+            "310120|Sprint|123456|Sprint",
+            "310120|Sprint|31000|",
+            "310120|Sprint|31000| ",
+            "310120|Sprint|31000|Digital Roaming",
+            "310120|Sprint|31000|Roaming Indicator Off",
+            "310120|Sprint|31000|Sprint",
+            "310120|Sprint|31000|TextNow",
+            "310120|Sprint|31000|Virgin Mobile",
+            "310120|Sprint|310120|",
+            "310120|Sprint|310120| ",
+            "310120|Sprint|310120|2010122001",
+            "310120|Sprint|310120|Boost Mobile",
+            "310120|Sprint|310120|ClearTalk",
+            "310120|Sprint|310120|Digital Roaming",
+            "310120|Sprint|310120|Roaming Indicator Off",
+            "310120|Sprint|310120|Sprint",
+            "310120|Sprint|310120|TextNow",
+            "310120|Sprint|310120|Virgin Mobile",
+            "310120|Sprint|31070|Digital Roaming",
+            "310120|Sprint|31070|Sprint",
+            "310120|Sprint|311480|Sprint",
+            "310120|Sprint|311490|Indicador de itinerancia desactivado",
+            "310120|Sprint|311490|Sprint",
+            "310120|Sprint|311490|Virgin Mobile US",
+            "310120|Sprint|311870|Boost Mobile",
+            "310120|Sprint|311870|Sprint",
+            "310120|Verizon|31000|",
+            "310120|Verizon|311480|",
+            "310120|Verizon|311870|",
+            "310120||31000| ",
+            "310120||31000|Sprint",
+            "310120||310120|Sprint",
+            "310120||311870|Sprint",
+            "31012|Sprint|31000|Sprint",
+            "31012|Sprint|310120|Sprint",
+            "31012|Sprint|310120|Virgin Mobile",
+            "31012|Sprint|311480|Sprint",
+            "310150|Sprint|310410|AT&T",
+            "310150|Verizon|310410|",
+            "310150|Verizon|310410|AT&T",
+            "310150|Verizon|310410|cricket",
+            "310150|aio|310410|cricket",
+            "310150|cricket@|310410|cricket",
+            "310150|cricket|310410|AT&T",
+            "310150|cricket|310410|cricket",
+            "310150||310410|",
+            "310150||310410|AT&T",
+            "310150||310410|ATT",
+            "310150||310410|aio",
+            "310150||310410|cricket",
+            "310180|West Central|310180|West Central Wireless",
+            "310260|BrightSpot|310260|T-Mobile ",
+            "310260|Family Mobile@|310260|Family Mobile",
+            "310260|Family Mobile|310260|Family Mobile",
+            "310260|Family Mobile|310260|T-Mobile ",
+            "310260|Get More...|310260|T-Mobile",
+            "310260|Home|310260|HOME",
+            "310260|Home|310260|T-Mobile",
+            "310260|Home|310260|T-Mobile ",
+            "310260|Lycamobile|310260|Lycamobile",
+            "310260|Lycamobile|310260|T-Mobile ",
+            "310260|Lycamobile|310260|US",
+            "310260|MetroPCS@|310260|MetroPCS",
+            "310260|MetroPCS@|310260|T-Mobile ",
+            "310260|MetroPCS|310260|310260",
+            "310260|MetroPCS|310260|MetroPCS",
+            "310260|MetroPCS|310260|T-Mobile",
+            "310260|MetroPCS|310260|T-Mobile ",
+            "310260|Simple Mobile|310260|Simple Mobile",
+            "310260|Simple Mobile|310260|T-Mobile",
+            "310260|Sprint|310120|Sprint",
+            "310260|Sprint|310260|T-Mobile",
+            "310260|T - Mobile|310260|T - Mobile",
+            "310260|T-Mobile |310260|T-Mobile",
+            "310260|T-Mobile@|310260|T-Mobile",
+            "310260|T-Mobile|310260|AT&T",
+            "310260|T-Mobile|310260|T - Mobile",
+            "310260|T-Mobile|310260|T-Mobile",
+            "310260|T-Mobile|310260|US",
+            "310260|Ting|310260|Ting",
+            "310260|Ultra.me|310260|Ultra.me",
+            "310260|Verizon|00000|",
+            "310260|Verizon|31000|",
+            "310260|Verizon|310260|AT",
+            "310260|Verizon|310260|AT&T",
+            "310260|Verizon|310260|Cellular One",
+            "310260|Verizon|310260|Family Mobile",
+            "310260|Verizon|310260|GoSmart",
+            "310260|Verizon|310260|MetroPCS",
+            "310260|Verizon|310260|Simple Mobile",
+            "310260|Verizon|310260|T-Mobile",
+            "310260|Verizon|310260|UNICEL",
+            "310260|Verizon|311480|",
+            "310260||20820|F-Bouygues Telecom",
+            "310260||23430|T-Mobile",
+            "310260||302720|Rogers",
+            "310260||302720|Rogers Wireless",
+            "310260||310020|US - Union Telephone",
+            "310260||310020|Union Telephone",
+            "310260||310260| ",
+            "310260||310260| T-Mobile",
+            "310260||310260|310260",
+            "310260||310260|AT&T",
+            "310260||310260|BrightSpot",
+            "310260||310260|CC Network",
+            "310260||310260|CELLULAR AT SEA",
+            "310260||310260|COMMNET",
+            "310260||310260|Cellular One",
+            "310260||310260|Family Mobile",
+            "310260||310260|GoSmart",
+            "310260||310260|HOME",
+            "310260||310260|MetroPCS",
+            "310260||310260|Mobile",
+            "310260||310260|PTEL MOBILE",
+            "310260||310260|READY SIM",
+            "310260||310260|RED POCKET",
+            "310260||310260|ROK Mobile",
+            "310260||310260|Roam Mobility",
+            "310260||310260|Simple Mobile",
+            "310260||310260|Solavei",
+            "310260||310260|Spot Mobile",
+            "310260||310260|T - Mobile",
+            "310260||310260|T-Mobile",
+            "310260||310260|T-Mobile ",
+            "310260||310260|TMO",
+            "310260||310260|Ting",
+            "310260||310260|US",
+            "310260||310260|Ultra.me",
+            "310260||310260|Univision Mobile",
+            "310260||310260|Wilkes",
+            "310260||310290|NEP",
+            "310260||310320|Cell",
+            "310260||310320|USA - CellularOne",
+            "310260||310410|AT&T",
+            "310260||310450|Cell One of NE Colorado",
+            "310260||310570|Cellular One",
+            "310260||310770|Iowa Wireless USA",
+            "310260||310770|i wireless",
+            "310260||311040|USA - Commnet",
+            "310260||311580|U.S. Cellular",
+            "310260||33403|movistar",
+            "310260||33805|DIGICEL",
+            "310260||40484|Vodafone IN",
+            "310260||44010|NTT DOCOMO",
+            "310260||50501|Telstra Mobile",
+            "310260||50503|vodafone AU",
+            "310260||51502|Globe Telecom-PH",
+            "310260||65501|VodaCom-SA",
+            "310260||71204|Movistar",
+            "310260||72207|Movistar",
+            "310260||72431|Oi",
+            "310260|||",
+            "310290||310290|NEP Wireless",
+            "310320|Cellular ONE|310320|FLEXPLUS",
+            "310320|Naked Mobile|310320|Naked Mobile",
+            "310330|Alltel|310000|Home",
+            "310330|alltel2|310000|",
+            "310410|AIRVOICE WIRELESS|310410|AT&T",
+            "310410|AT&T@|310410|AT&T",
+            "310410|AT&T@|310410|Red Pocket",
+            "310410|AT&T|310410|AT&T",
+            "310410|H2O|310410|H2O",
+            "310410|HOME|310410|HOME",
+            "310410|Home@|310410|HOME",
+            "310410|Home|310410|AT&T",
+            "310410|My Network|310410|AT&T",
+            "310410|Pure GSM|310410|AT&T",
+            "310410|Red Pocket|310410|Red Pocket",
+            "310410|Sprint|310410|AT&T",
+            "310410|Verizon|310410|AT&T",
+            "310410|Verizon|310410|Cellular",
+            "310410|Verizon|310410|HOME",
+            "310410|Verizon|311480|",
+            "310410||310020|Off Network",
+            "310410||310100|AT&T",
+            "310410||310410| ",
+            "310410||310410|AIRVOICE WIRELESS",
+            "310410||310410|AT T",
+            "310410||310410|AT&T",
+            "310410||310410|AT&T MicroCell",
+            "310410||310410|ATT",
+            "310410||310410|Black Wireless",
+            "310410||310410|CC Network",
+            "310410||310410|H2O",
+            "310410||310410|H2O Wireless",
+            "310410||310410|HOME",
+            "310410||310410|Maritime",
+            "310410||310410|My Black Wireless",
+            "310410||310410|My Network",
+            "310410||310410|Pure GSM",
+            "310410||310410|ROAM",
+            "310410||310410|Red Pocket",
+            "310410||310410|TracFone",
+            "310410||310570|AT&T",
+            "310410||311030|Off Network",
+            "310410||311040|AT&T",
+            "310410||34001|F-Orange",
+            "310410|||",
+            "310420||310260|CinBell USA",
+            "310420||310420|CBW",
+            "310420||310420|Cincinnati Bell",
+            "310420||310420|Cincinnati Bell USA",
+            "310450|VIAERO Wireless|310450|Viaero",
+            "310450|Viaero|310450|Viaero",
+            "310450|Viaero|310450|Viaero Wireless",
+            "310450||310450|Cell One of NE Colorado",
+            "310450||310450|NECCI",
+            "310450||310450|Viaero",
+            "310470|nTelos|310000|Home",
+            "310470|nTelos|310000|nTelos",
+            "310470|nTelos|310120|Home",
+            "310470|nTelos|310470|Home",
+            "310470|nTelos|310470|nTelos",
+            "310470|nTelos|31047|nTelos",
+            "310470|nTelos|3307|nTelos",
+            "310470|ntelos|310000|",
+            "310570|Cellular One|310260|Cellular One",
+            "310570|Cellular One|310570|Cellular One",
+            "310580|inland|31000|",
+            "310600|Verizon|310120|Cellcom ",
+            "310750|Appalachian|311480|Home",
+            "310770|i wireless@|310770|i wireless",
+            "310770|i wireless|310770|i wireless",
+            "310770|iWireless|310260|iWireless",
+            "310770|iWireless|310770|iWireless",
+            "310770||310260|T-Mobile",
+            "310770||310260|iWireless",
+            "310770||310770|IWS",
+            "310770||310770|i wireless",
+            "310770||310770|iWireless",
+            "310900|Verizon|310120|Mid-Rivers Communications",
+            "310920|jamesvalley|31060|",
+            "311002|US Cellular|31000|U.S. Cellular",
+            "311005|US Cellular|31000|U.S. Cellular",
+            "311008|US Cellular|31000|U.S. Cellular",
+            "311009|US Cellular|31000|U.S. Cellular",
+            "311009|US Cellular|310120|U.S. Cellular",
+            "31100|U.S. Cellular|311580|U.S. Cellular",
+            "31100|US Cellular|311580|U.S. Cellular",
+            "311050|thumbcellular|31000|",
+            "311080||311080|Pine Cellular",
+            "311190|null|311190|null,CELLULARONE",
+            "311190||310410|CELLONE PARTNER",
+            "311190||311190|CELLULARONE",
+            "311220|U.S. Cellular|25500|U.S. Cellular",
+            "311220|U.S. Cellular|310000|U.S. Cellular",
+            "311220|U.S. Cellular|31000|U.S. Cellular",
+            "311220|U.S. Cellular|31099|U.S. Cellular",
+            "311220|U.S.Cellular|311480|U.S. Cellular",
+            "311230|C Spire |311230|C Spire",
+            "311230|C Spire |311230|C Spire ",
+            "311230|C Spire |311230|Home",
+            "311230|C Spire|310000|",
+            "311230|C Spire|31000|",
+            "311230|C Spire|31000|C Spire",
+            "311230|C Spire|3307|",
+            "311230|C Spire|3307|C Spire",
+            "311230|C-Spire|310120|C Spire",
+            "311230|C-Spire|310120|Sprint",
+            "311230|C-Spire|311480|Cricket",
+            "311230|Default|310120|Home",
+            "311230|Default|311230|Home",
+            "311230||311230|C Spire",
+            "311310|leaco|31000|",
+            "311370|GCI|311370|311370",
+            "311370|GCI|311370|GCI",
+            "311370|Verizon|311370|GCI",
+            "311370||310260|T-Mobile",
+            "311370||311370|ACS",
+            "311370||311370|GCI",
+            "311440|bluegrass|311480|bluegrass",
+            "311480|Bluegrass Cellular|31100|",
+            "311480|Verizon Wireless|000000|Verizon Wireless",
+            "311480|Verizon Wireless|00000|Network Extender",
+            "311480|Verizon Wireless|00000|Verizon Wireless",
+            "311480|Verizon Wireless|001001|Verizon Wireless",
+            "311480|Verizon Wireless|123456|Verizon Wireless",
+            "311480|Verizon Wireless|310000| ",
+            "311480|Verizon Wireless|310000|Extended Network",
+            "311480|Verizon Wireless|310000|Verizon Wireless",
+            "311480|Verizon Wireless|310004|",
+            "311480|Verizon Wireless|310004|Extended Network",
+            "311480|Verizon Wireless|310004|Verizon Wireless",
+            "311480|Verizon Wireless|31000| ",
+            "311480|Verizon Wireless|31000|Extended Network",
+            "311480|Verizon Wireless|31000|Network Extender",
+            "311480|Verizon Wireless|31000|Red extendida",
+            "311480|Verizon Wireless|31000|Roaming",
+            "311480|Verizon Wireless|31000|Roaming Indicator Off",
+            "311480|Verizon Wireless|31000|Verizon Wireless",
+            "311480|Verizon Wireless|310012|Verizon Wireless",
+            "311480|Verizon Wireless|31007|Verizon Wireless",
+            "311480|Verizon Wireless|3107|",
+            "311480|Verizon Wireless|3107|Extended Network",
+            "311480|Verizon Wireless|3107|Verizon Wireless",
+            "311480|Verizon Wireless|31099|Verizon Wireless",
+            "311480|Verizon Wireless|311000|Extended Network",
+            "311480|Verizon Wireless|31135|Extended Network",
+            "311480|Verizon Wireless|311480| ",
+            "311480|Verizon Wireless|311480| Galaxy Nexus ",
+            "311480|Verizon Wireless|311480|Extended Network",
+            "311480|Verizon Wireless|311480|Network Extender",
+            "311480|Verizon Wireless|311480|Roaming Indicator Off",
+            "311480|Verizon Wireless|311480|T-CDMA 64",
+            "311480|Verizon Wireless|311480|Verizon Wireless",
+            "311480|Verizon Wireless|311580|",
+            "311480|Verizon Wireless|311580|Preferred System",
+            "311480|Verizon Wireless|311580|U.S. Cellular",
+            "311480|Verizon Wireless|311580|Verizon Wireless",
+            "311480|Verizon Wireless|3167| ",
+            "311480|Verizon Wireless|3167|Extended Network",
+            "311480|Verizon Wireless|3167|Verizon Wireless",
+            "311480|Verizon Wireless||Verizon Wireless",
+            "311480|Verizon|00000| ",
+            "311480|Verizon|00000|Searching for Service",
+            "311480|Verizon|00000|Verizon Wireless",
+            "311480|Verizon|123456|Verizon Wireless",
+            "311480|Verizon|310000|Verizon Wireless",
+            "311480|Verizon|310004|",
+            "311480|Verizon|310004|Verizon Wireless",
+            "311480|Verizon|31000| ",
+            "311480|Verizon|31000|Network Extender",
+            "311480|Verizon|31000|Verizon Wireless",
+            "311480|Verizon|31001|",
+            "311480|Verizon|31072|Verizon Wireless",
+            "311480|Verizon|31099|Extended Network",
+            "311480|Verizon|31099|Verizon Wireless",
+            "311480|Verizon|31100|Extended Network",
+            "311480|Verizon|31135|Extended Network",
+            "311480|Verizon|311480| ",
+            "311480|Verizon|311480|311480",
+            "311480|Verizon|311480|Extended Network",
+            "311480|Verizon|311480|Network Extender",
+            "311480|Verizon|311480|Roaming",
+            "311480|Verizon|311480|Roaming Indicator Off",
+            "311480|Verizon|311480|Verizon Wireless",
+            "311480||00000|Network Extender",
+            "311480||00000|Verizon Wireless",
+            "311480||002127|Searching for Service",
+            "311480||123456|Roaming Indicator Off",
+            "311480||123456|Verizon Wireless",
+            "311480||26803|Verizon Wireless",
+            "311480||302220|TELUS",
+            "311480||310000|Verizon Wireless",
+            "311480||310004|",
+            "311480||310004|Verizon Wireless",
+            "311480||31000|",
+            "311480||31000|Extended Network",
+            "311480||31000|Roaming Indicator Off",
+            "311480||31000|Verizon Wireless",
+            "311480||310012|Verizon Wireless",
+            "311480||3107|",
+            "311480||3107|Extended Network",
+            "311480||3107|Verizon Wireless",
+            "311480||31100|Extended Network",
+            "311480||311480|",
+            "311480||311480|Verizon Wireless",
+            "311480||3167|",
+            "311480||3167|Verizon Wireless",
+            "311480|||",
+            "31148|Verizon Wireless|310004|Verizon Wireless",
+            "31148|Verizon Wireless|31000|Verizon Wireless",
+            "311490|Virgin Mobile|311490|Virgin Mobile",
+            "311530|Duet|311530|Duet",
+            "311580|U.S. Cellular|310000|U.S. Cellular",
+            "311580|U.S. Cellular|31000|Roaming Indicator Off",
+            "311580|U.S. Cellular|31000|U.S. Cellular",
+            "311580|U.S. Cellular|31099|U.S. Cellular",
+            "311580|U.S. Cellular|311220|U.S. Cellular®",
+            "311580|U.S. Cellular|311580|Roaming Indicator Off",
+            "311580|U.S. Cellular|311580|U.S. Cellular",
+            "311580|U.S. Cellular|311580|US Cellular",
+            "311580|US Cellular|123456|US Cellular",
+            "311580|US Cellular|310000|U.S. Cellular",
+            "311580|US Cellular|31000|Roaming Indicator On",
+            "311580|US Cellular|31000|U.S. Cellular",
+            "311580|US Cellular|31000|US Cellular",
+            "311580|US Cellular|31099|U.S. Cellular",
+            "311580|US Cellular|311580|Roaming",
+            "311580|US Cellular|311580|U.S. Cellular",
+            "311580|US Cellular|311580|US Cellular",
+            "311580|Verizon|311220|",
+            "311580||311580|",
+            "311610|srtcomm|31000|",
+            "311750|ClearTalk|31000|",
+            "311750|ClearTalk|311750|",
+            "311750|Verizon|311480|",
+            "311870|Boost Mobile|000000|Roaming Indicator Off",
+            "311870|Boost Mobile|00000|",
+            "311870|Boost Mobile|31000|Boost",
+            "311870|Boost Mobile|31000|Roaming Indicator Off",
+            "311870|Boost Mobile|311490|Boost Mobile",
+            "311870|Boost Mobile|311870|311 870",
+            "311870|Boost Mobile|311870|Boost Mobile",
+            "311870|Boost Mobile|311870|Sprint",
+            "311870|Boost Mobile|3307|Boost",
+            "311870|Boost Mobile||",
+            "311870||000000|Boost Mobile",
+            "311870||31000|Boost Mobile",
+            "311870||311870|Boost Mobile",
+            "311870||311870|Searching for Service",
+            "3118790|Boost Mobile|3118790|Boost Mobile",
+            "312420|Default|312420|Home",
+            "312420|Nex-Tech Wireless|310000|Nex-Tech Wireless",
+            "312420|Nex-Tech Wireless|31000|Nex-Tech Wireless",
+            "312530|Sprint|312530|Motorola",
+            "312530|Sprint|312530|Sprint",
+            "316010|Verizon|311480| ",
+            "330000|Home Zone|31000|Open Mobile",
+            "330000|openmobile|31000|",
+            "330110|CLARO P.R.|330110|CLARO",
+            "330110|CLARO P.R.|330110|CLARO P.R.",
+            "330120|Open Mobile|31000|31000",
+            "330120|Open Mobile|31000|Open Mobile",
+            "330120|Open Mobile|330120|Home",
+            "330120|Open Mobile|330120|Open Mobile",
+            "330120|Verizon|330120|Open Mobile",
+            "334020|TELCEL GSM|334020|TELCEL GSM",
+            "334020|TELCEL|334020|TELCEL",
+            "334020|TELCEL|334020|TELCEL GSM",
+            "334030|Movistar|310120|Sprint",
+            "334030|Movistar|33403|movistar",
+            "334050|IUSACELL|334050|Iusacell",
+            "334050|UNEFON|334050|Iusacell",
+            "334050|UNEFON|334050|Iusacell NextG",
+            "334090|Nextel|334090|Nextel",
+            "338050|DIGICEL|310410|AT&T",
+            "338050|DIGICEL|348770|348 770",
+            "338050|Digicel|338050|Digicel",
+            "338050|Verizon|338050|Digicel",
+            "338180|LIME|338180|LIME",
+            "34001||34001|F-Orange",
+            "34001||34001|fOrange",
+            "37203|NATCOM|37203|Natcom",
+            "374129||37412|TSTT",
+            "37413|DIGICEL|374130|DIGICEL",
+            "40001|AZE - AZERCELL GSM|40001|AZE - AZERCELL GSM",
+            "40001|Azercell|40001|AZE - AZERCELL GSM",
+            "40001|SimSim|40001|AZE - AZERCELL GSM",
+            "40002|CIN Kart|40002|BAKCELL",
+            "40002|Cin|40002|BAKCELL",
+            "40004|Nar|40004|Nar",
+            "40101||25099|Beeline",
+            "40102|ACTIV|40102|KZ KCELL",
+            "40401|Vodafone IN|40401|Vodafone IN",
+            "40402|Airtel|40402|airtel",
+            "40402|airtel|40402|airtel",
+            "40402|airtel|40402|£airtel",
+            "40403|airtel|40403|airtel",
+            "40404|!dea|40411|IDEA",
+            "40404|!dea|40411|INA-IDEA",
+            "40404|!dea|40411|Vodafone In",
+            "40404|Idea|40411|IDEA",
+            "40405|Hutch|40405|Vodafone IN",
+            "40405|Vodafone IN|40405|Vodafone IN",
+            "40405|Vodafone IN|40405|Vodafone In",
+            "40405||40405|Vodafone IN",
+            "40407|!dea|40407|!dea",
+            "40407|!dea|40407|IDEA",
+            "40407|IDEA|40407|IDEA",
+            "40407|Idea|40407|IDEA",
+            "40410|AirTel|40410|Airtel Delhi",
+            "40410|Airtel|40410|IND airtel",
+            "40410|airtel|40410|Airtel",
+            "40410|airtel|40410|Airtel Delhi",
+            "40410|airtel|40470|AIRTEL",
+            "40411|Hutch|40411|Hutch",
+            "40411|Hutch|40411|Vodafone IN",
+            "40411|Vodafone IN|40401|Vodafone IN",
+            "40411|Vodafone IN|40411|VODAFONEIN",
+            "40411|Vodafone IN|40411|Vodafone Delhi",
+            "40411|Vodafone IN|40411|Vodafone IN",
+            "40411|Vodafone IN|40420|Vodafone IN",
+            "40411|Vodafone|40411|Vodafone",
+            "40411|uninor|405752|Vodafone IN",
+            "40411||40411|VODAFONE IN",
+            "40412|!dea|40411|Vodafone In",
+            "40412|!dea|40412|!dea",
+            "40412|!dea|40412|IDEA Harayana",
+            "40412|IDEA|40412|IDEA Harayana",
+            "40413|Vodafone IN|40407|Vodafone",
+            "40413|Vodafone IN|40407|Vodafone IN",
+            "40413|Vodafone IN|40413|Vodafone IN",
+            "40413|Vodafone IN|40427|Vodafone IN",
+            "40413|Vodafone IN|40443|Vodafone IN",
+            "40414|!dea|40414|!dea",
+            "40414|!dea|40414|IDEA",
+            "40414|Idea|40414|IDEA",
+            "40414|Spice|40414|IDEA",
+            "40415|Vodafone IN|40415|Vodafone IN",
+            "40416|Airtel|40416|Airtel",
+            "40416|airtel|40416|airtel",
+            "40417|AIRCEL|40417|AIRCEL",
+            "40419|!dea|40419|IDEA",
+            "40419|IDEA|40419|IDEA",
+            "40419|Idea - Kerala|40419|IDEA",
+            "40419|Idea|40419|IDEA",
+            "40420|Hutch|40420|Vodafone IN",
+            "40420|International|40420|Vodafone IN",
+            "40420|Orange|40420|Orange",
+            "40420|Orange|40420|VODAFONE IN",
+            "40420|Vodafone - Mumbai|40420|VODAFONE IN",
+            "40420|Vodafone IN|40420|VODAFONE IN",
+            "40420|Vodafone IN|40420|Vodafone",
+            "40420|Vodafone IN|40420|Vodafone IN",
+            "40420|Vodafone IN|40420|Vodafone Mumbai",
+            "40420|Vodafone IN|40427|Vodafone IN",
+            "40422|!dea|40411|IDEA",
+            "40422|!dea|40422|!dea",
+            "40422|!dea|40422|IDEA",
+            "40422|!dea|40422|IDEA Maharashtra",
+            "40422|!dea|40470|INA-Idea",
+            "40422|!dea|405799|IDEA",
+            "40422|IDEA|40422|IDEA",
+            "40422|IDEA|40422|IDEA Maharashtra",
+            "40422|Idea - Maharashtra|40422|IDEA",
+            "40422|Idea|40422|IDEA",
+            "40422|Vodafone IN|40422|!dea",
+            "40422||40422|IDEA",
+            "40424|!dea|40424|!dea",
+            "40424|!dea|40424|IDEA",
+            "40424|IDEA|40424|IDEA",
+            "40424|Vodafone IN|40424|!dea",
+            "40424||40424|!dea",
+            "40427|BPL Mobile|40427|Vodafone IN",
+            "40427|Hutch|40427|Vodafone IN",
+            "40427|Vodafone IN|40427|Vodafone",
+            "40427|Vodafone IN|40427|Vodafone IN",
+            "40427|Vodafone IN|40427|Vodafone Maharashtra",
+            "40427|Vodafone IN|405751|Vodafone IN",
+            "40427||40427|Vodafone IN",
+            "40430|Hutch|40430|Hutch",
+            "40430|Hutch|40430|Vodafone IN",
+            "40430|Vodafone IN|40430|Vodafone",
+            "40430|Vodafone IN|40430|Vodafone IN",
+            "40431|Airtel|40431|Airtel Kolkata",
+            "40431|airtel|40431|Airtel",
+            "40431|airtel|40431|Airtel Kolkata",
+            "40431|airtel|40431|IND airtel",
+            "40431|airtel|40431|airtel",
+            "40435|AIRCEL|40435|Aircel",
+            "40440|Airtel|40440|Airtel",
+            "40440|Airtel|40494|Airtel T.N.",
+            "40440|airtel|40440|Airtel",
+            "40440|airtel|40440|Airtel Chennai",
+            "40440|airtel|40440|IND airtel",
+            "40440|airtel|40440|£airtel",
+            "40441|AIRCEL|40441|Aircel Chennai",
+            "40442|AIRCEL|40442|AIRCEL",
+            "40442|AIRCEL|40442|Aircel",
+            "40442|AIRCEL|40442|Aircel T.N.",
+            "40443|BPL Mobile|40443|Vodafone IN",
+            "40443|Hutch|40443|Vodafone IN",
+            "40443|Vodafone IN|40443|Vodafone IN",
+            "40443|Vodafone IN|40443|Vodafone T.N.",
+            "40443|Vodafone IN|40484|Vodafone IN",
+            "40443|Vodafone IN|40486|Vodafone IN",
+            "40443||40443|Vodafone IN",
+            "40444|!dea|40444|Idea",
+            "40444|!dea|40445|!dea",
+            "40444|Spice|40444|Idea",
+            "40445|Airtel|40445|IND airtel",
+            "40445|Airtel|40445|airtel",
+            "40446|Vodafone IN|40419|IDEA",
+            "40446|Vodafone IN|40419|Vodafone",
+            "40446|Vodafone IN|40446|Vodafone IN",
+            "40449|airtel|40449|Airtel",
+            "40449|airtel|40449|Airtel A.P.",
+            "40449|airtel|40449|IND airtel",
+            "40455|BSNL MOBILE|40455|Cellone U.P.(E)",
+            "40456|!dea|40456|IDEA",
+            "40457|BSNL 3G|40457|CellOne",
+            "40457|BSNL 3G|40457|Cellone Gujrat",
+            "40457|CellOne|40457|Cellone Gujrat",
+            "40458|BSNL MOBILE|40458|BSNL MOBILE",
+            "40458|CellOne|40458|CellOne",
+            "40459|BSNL MOBILE|40459|BSNL",
+            "40460|Vodafone IN|40401|Vodafone IN",
+            "40460|Vodafone IN|40405|Vodafone IN",
+            "40460|Vodafone IN|40460|Vodafone",
+            "40460|Vodafone IN|40460|Vodafone IN",
+            "40460||40460|Vodafone",
+            "40466|BSNL MOBILE|40466|CellOne",
+            "40467|Reliance|40467|Reliance",
+            "40469|DOLPHIN|40469|Dolphin",
+            "40470|Airtel|40470|Airtel",
+            "40470|Airtel|40470|Airtel INA",
+            "40470|Airtel|40470|INA-airtel",
+            "40470|CellOne|40470|AirTel",
+            "40470|airtel|40470|Airtel Rajasthan",
+            "40470|airtel|40470|IND airtel",
+            "40470|airtel|40470|Vodafone",
+            "40470|airtel|40470|airtel",
+            "40470|airtel|40492|IND airtel",
+            "40471|BSNL MOBILE|40471|404-71",
+            "40471|BSNL MOBILE|40471|BSNL MOBILE",
+            "40471|BSNL MOBILE|40471|CellOne",
+            "40472|BSNL MOBILE|40472|Cellone Kerala",
+            "40472|BSNL Mobile|40472|BSNL Mobile",
+            "40472|BSNL Mobile|40472|CellOne",
+            "40472|CellOne|40472|Cellone Kerala",
+            "40473|BSNL MOBILE|40473|BSNL MOBILE",
+            "40473|BSNL MOBILE|40473|CellOne",
+            "40473|BSNL Mobile|40473|Cellone A.P.",
+            "40476|BSNL MOBILE|40476|Cellone Orissa",
+            "40478|!dea|40478|!dea",
+            "40478|!dea|40478|IDEA",
+            "40478|!dea|40478|IDEA MP",
+            "40478|!dea||",
+            "40478|Idea|40478|IDEA",
+            "40478|Idea|40478|IDEA MP",
+            "40478|I¤ea|40478|IDEA",
+            "40478||40478|IDEA",
+            "40478||40478|Idea",
+            "40480|BSNL Mobile|40480|BSNL Mobile",
+            "40480||40466|CellOne",
+            "40484|Vodafone IN|40407|Vodafone",
+            "40484|Vodafone IN|40443|Vodafone IN",
+            "40484|Vodafone IN|40484|Vodafone Chennai",
+            "40484|Vodafone IN|40484|Vodafone IN",
+            "40484||40484|Vodafone IN",
+            "40485|Reliance|40567|Vodafone IN",
+            "40486|Hutch|40445|IND airtel",
+            "40486|Vodafone IN|40445|IND airtel",
+            "40486|Vodafone IN|40445|Vodafone",
+            "40486|Vodafone IN|40445|Vodafone IN",
+            "40486|Vodafone IN|40486|Vodafone IN",
+            "40486||40445|Vodafone",
+            "40487|!dea|40412|IDEA",
+            "40487|!dea|40487|!dea",
+            "40487|!dea|40487|IDEA",
+            "40487|Idea|40487|IDEA",
+            "40488|Vodafone IN|40401|Vodafone IN",
+            "40488|Vodafone IN|40414|Vodafone",
+            "40488|Vodafone IN|40488|Vodafone",
+            "40488|Vodafone IN|40488|Vodafone IN",
+            "40488|Vodafone IN|40488|Vodafone Punjab",
+            "40489|!dea|40489|IDEA",
+            "40489|!dea|40489|IDEA U.P.(E)",
+            "40490|AirTel|40490|AirTel",
+            "40490|AirTel|40490|IND airtel",
+            "40490|airtel|40490|AirTel",
+            "40490|airtel|40490|airtel",
+            "40491|AIRCEL|40491|AirTel",
+            "40491|AIRCEL|40491|Aircel",
+            "40491|Aircel|40491|Aircel Kolkata",
+            "40492|AirTel|40492|Airtel Mumbai",
+            "40492|Airtel Mumbai|40492|40492",
+            "40492|Airtel Mumbai|40492|Airtel Mumbai",
+            "40492|airtel|40492|IND airtel",
+            "40492|airtel|40492|Idea",
+            "40492|airtel|40492|airtel",
+            "40492||40492|AirTel",
+            "40493|airtel|40478|Airtel",
+            "40493|airtel|40493|AirTel",
+            "40493|airtel|40493|IND airtel",
+            "40494|airtel|40440|IND airtel",
+            "40494|airtel|40494|Airtel T.N.",
+            "40494|airtel|40494|IND airtel",
+            "40494|airtel|40494|airtel",
+            "40494|airtel|40495|Airtel Kerala",
+            "40495|Airtel|40495|AirTel",
+            "40495|Airtel|40495|Airtel Kerala",
+            "40495|Airtel|40495|IND airtel",
+            "40495|airtel|40495|Airtel Kerala",
+            "40495|airtel|40495|airtel",
+            "40495||40495|airtel",
+            "40496|airtel|40401|airtel",
+            "40496|airtel|40496|Airtel",
+            "40496|airtel|40496|IND airtel",
+            "40497|airtel|40470|AirTel",
+            "40497|airtel|40497|Airtel",
+            "40497|airtel|40497|Airtel U.P.(W)",
+            "40497|airtel|40497|IND airtel",
+            "40497|airtel|40497|airtel",
+            "40497|airtel|40554|Airtel UP East",
+            "40498|airtel|40498|airtel",
+            "405025|TATA DOCOMO|405025|TATA DOCOMO",
+            "405025||40407|IDEA",
+            "405030|TATA DOCOMO|405030|TATA DOCOMO",
+            "405031|TATA DOCOMO|405031|TATA DOCOMO",
+            "405034|TATA DOCOMO|405034|TATA DOCOMO",
+            "405035|TATA DOCOMO|405035|TATA DOCOMO",
+            "405036|TATA DOCOMO|405036|TATA DOCOMO",
+            "405037|TATA DOCOMO|405037|TATA DOCOMO",
+            "405038|TATA DOCOMO|405038|TATA DOCOMO",
+            "405039|TATA DOCOMO|405037|TATA DOCOMO",
+            "405041|TATA DOCOMO|405041|TATA DOCOMO",
+            "405042|TATA DOCOMO|405042|TATA DOCOMO",
+            "405044|TATA DOCOMO|405044|TATA DOCOMO",
+            "405045|TATA DOCOMO|405045|TATA DOCOMO",
+            "405045|TATA DOCOMO|405045|tata",
+            "405046|TATA DOCOMO|405046|TATA DOCOMO",
+            "40505|Reliance|40505|Reliance",
+            "40506|Reliance|40506|Reliance",
+            "40509|Reliance||",
+            "40520|Reliance|40520|Reliance",
+            "40551|airtel|40551|AirTel",
+            "40551|airtel|40551|IND airtel",
+            "40552|Airtel|40552|IND airtel",
+            "40552|airtel|40552|Airtel",
+            "40552|airtel|40552|Airtel Bihar",
+            "40554|airtel|40410|Airtel",
+            "40554|airtel|40554|Airtel UP East",
+            "40554|airtel|40554|IND airtel",
+            "40554|airtel|40554|airtel",
+            "40555|airtel|40555|airtel",
+            "40556|airtel|40556|Airtel",
+            "40566|Vodafone IN|40497|Airtel",
+            "40566|Vodafone IN|40497|Vodafone",
+            "40566|Vodafone IN|40566|Vodafone IN",
+            "40566||40566|Vodafone",
+            "40567|AIRCEL|40411|VODAFONE IN",
+            "40567|AIRCEL|40567|Vodafone IN",
+            "40567|Vodafone IN|40430|Vodafone In",
+            "40567|Vodafone IN|40567|Vodafone IN",
+            "40567|Vodafone IN|40567|Vodafone W.B. & A&N",
+            "40567|airtel|40411|VODAFONE IN",
+            "40567||405753|Vodafone IN",
+            "40570|!dea|40552|IDEA",
+            "405752|Vodafone IN|40405|Vodafone IN",
+            "405752|Vodafone IN|405752|Vodafone IN",
+            "405756|Vodafone IN|40478|VODAFONE",
+            "405756|Vodafone IN|405756|Vodafone IN",
+            "405799|!dea|40422|IDEA",
+            "405799|!dea|405799|",
+            "405799|!dea|405799|IDEA",
+            "405799|Idea|40492|Idea",
+            "405799|Idea|405799|IDEA",
+            "405799|Idea|405799|Idea",
+            "405800|AIRCEL|405800|AIRCEL",
+            "405800|Aircel|40566|Vodafone IN",
+            "405801|AIRCEL|405801|Aircel",
+            "405803|AIRCEL|40510|Reliance",
+            "405803|AIRCEL|405803|AIRCEL",
+            "405803|AIRCEL|405803|Aircel",
+            "405805|AIRCEL|405805|Aircel Mumbai",
+            "405806|AIRCEL|405043|AIRCEL",
+            "405806|AIRCEL|405806|AIRCEL",
+            "405810|AIRCEL|405810|AIRCEL",
+            "405818|uninor|405818|uninor",
+            "405845|Idea|405845|IDEA",
+            "405845|Idea|405845|IDEA Assam",
+            "405848|!dea|405848|Idea",
+            "405848|!dea|405850|IDEA",
+            "405850|!dea|405850|Idea",
+            "405852|Idea|405852|Idea",
+            "405876|uninor|405876|UNINOR",
+            "405879|uninor|405879|UNINOR",
+            "405929|uninor|405929|uninor",
+            "405932|Videocon|405752|Vodafone IN",
+            "41001|Mobilink|41001|410-01",
+            "41001|Mobilink|41001|Mobilink",
+            "41003|Ufone|41003|Ufone",
+            "41004|Verizon|41004|ZONG",
+            "41004|ZONG|41004|ZONG",
+            "41004|ZONG|41004|Zong",
+            "41004|Zong-Man Utd|41004|Zong",
+            "41006|Telenor|41006|Telenor Pakistan",
+            "41006||41006|Telenor",
+            "41006||41006|Telenor PK",
+            "41006||41006|Telenor Pakistan",
+            "41007|Warid|41007|Warid",
+            "41007|Warid|41007|WaridTel",
+            "41007||41007|Warid",
+            "41301|Mobitel |41301|Mobitel",
+            "41301|Mobitel|41301|Mobitel",
+            "41302|Dialog|41302|Dialog",
+            "41302|Dialog|41302|Dialog ",
+            "41302|Dialog|41302|Etisalat",
+            "41302|Dialog|41302|MTN Networks(Dialog) ",
+            "41302|Dialog|41302|SRI DIALOG",
+            "41302|Subscription 1|41302|SRI DIALOG",
+            "41303|Etisalat|41303|Etisalat",
+            "41305|Airtel|41305|AirTel,Etisalat",
+            "41305|Airtel|41305|airtel",
+            "41305|airtel|41305|SRI airtel",
+            "41305|airtel|41305|airtel",
+            "41308|Hutch|41308|Hutch",
+            "41501||41501|alfa",
+            "41601|zain JO|41601|Zain JO",
+            "41601|zain JO|41601|zain JO",
+            "41902|zain KW|41902|zain KW",
+            "41903|KT WATANIYA|41903|Ooredoo",
+            "41903|Ooredoo|41903|Ooredoo",
+            "41904|VIVA|41904|KT, VIVA",
+            "41904|VIVA|41904|VIVA",
+            "41904|VIVA|41904|VIVA KW",
+            "42001|STC|42001|SA Al Jawal",
+            "42001|STC|42001|STC",
+            "42001||42001|Al jawal",
+            "42003|mobily|42003|Mobily-KSA",
+            "42003|mobily|42003|mobily",
+            "42203|nawras|42203|nawras",
+            "42402|etisalat|42402|ETISALAT",
+            "42403|du|42403|du",
+            "42501|012 Mobile|42501|012 Mobile",
+            "42501|012 Mobile|42501|ORANGE",
+            "42501|orange|42501|ORANGE",
+            "42501|orange|42501|ORANGE IL",
+            "42501|orange|42501|Orange-IL",
+            "42502|Cellcom|42502|425 02",
+            "42502|Cellcom|42502|CH",
+            "42502|Cellcom|42502|Cellcom",
+            "42502|Cellcom|42502|Cellcom IL",
+            "42502|Cellcom|42502|Cellcom Israel",
+            "42502|Cellcom|42502|IL Cellcom",
+            "42503|Pelephone|42503|IL Pelephone",
+            "42503|Pelephone|42503|Pelephone",
+            "42503|Rami Levy|42503|IL Pelephone",
+            "42503|Rami Levy|42503|Pelephone",
+            "42507|HOT mobile|42501|HOT mobile",
+            "42507|HOT mobile|42507|HOT mobile",
+            "42508|GOLAN T|42502|IL Cellcom",
+            "42514|YouPhone|42501|YouPhone",
+            "42514|YouPhone|42503|YouPhone IL",
+            "42701|Ooredoo|42701|Ooredoo",
+            "42702|Vodafone Qatar|42702|Vodafone Qatar",
+            "42702||42702|Vodafone Qatar",
+            "42902|NCELL|42902|Ncell",
+            "42902|Ncell|42902|42902",
+            "43235|Irancell|43235|MTN Irancell",
+            "43405|UCell|43405|UCell",
+            "43705|MegaCom|43705|MEGACOM",
+            "44000|Y!mobile|44000|Y!mobile",
+            "44000|Y!mobile|44020|SoftBank",
+            "44010||null|null",
+            "44020|SoftBank|44020|SoftBank",
+            "44020|Vodafone|44020|SoftBank",
+            "44020|Y!mobile|44020|SoftBank",
+            "45000|2400 2924|45000|LGE Lab",
+            "45005|SKTelecom|45005|",
+            "45005|SKTelecom|45005|KOR SK Telecom",
+            "45005|SKTelecom|45005|SKTelecom",
+            "45005||45005|SKTelecom",
+            "45006|LGU+|45006|",
+            "45006|LGU+|45006|LG U+",
+            "45008|KTF|45008|olleh",
+            "45008|KT|45008|olleh",
+            "45008|Verizon|45008|olleh",
+            "45008||45008|KT",
+            "45008||45008|olleh",
+            "45201|MOBIFONE|45201|VMS(Mobiphone)",
+            "45201|MOBIFONE|45201|VN MobiFone",
+            "45201|Mobifone|45201|VMS(Mobiphone)",
+            "45201|null|45201|MOBIFONE",
+            "45201||45201|Mobifone",
+            "45201||45201|VN MOBIFONE",
+            "45201||45201|VN MobiFone",
+            "45201||45201|Vietnam Mobile Telecom Services Company",
+            "45202|VINAPHONE|45202|VINAPHONE",
+            "45202|VINAPHONE|45202|VN VINAPHONE",
+            "45202|VINAPHONE|45202|Vietnam Telecoms Services Company",
+            "45202||45202|VN VINAPHONE",
+            "45202||45202|Vietnam Telecoms Services Company",
+            "45202||45202|Vinaphone",
+            "45204|VIETTEL|45204|Viettel",
+            "45204|VIETTEL|45204|Viettel Mobile",
+            "45205|Vietnamobile|45205|Vietnamobile",
+            "45400|CSL Hemat|45400|CSL Hemat",
+            "45400|CSL|45400|CSL",
+            "45400|CSL|45400|CSL Hemat",
+            "45400|csl.|45400|csl.",
+            "45400|one2free|45400|CSL",
+            "45400|one2free|45400|one2free",
+            "45403||45403|3",
+            "45403||45403|3 HK",
+            "45406||45406|SmarTone HK",
+            "45406||45406|SmarToneVodafone",
+            "45406||50501|Telstra Mobile",
+            "45412|CMHK|45412|CMHK",
+            "45412|CMHK|45413|CMHK",
+            "45412|Kabayan|45413|Kabayan",
+            "45412|PEOPLES|45412|China Mobile HK",
+            "45412|Rekanan|45412|Rekanan",
+            "45412|Rekanan|45413|Rekanan",
+            "45419|PCCW-HKT|45419|PCCW-HKT",
+            "45419|csl.|45419|csl.",
+            "45601|Cellcard|45601|CamGSM ",
+            "45601||45601|CamGSM ",
+            "45606|Smart|45606|smart",
+            "46000|CMCC|46000|CMCC",
+            "46000||46000|CHINA MOBILE",
+            "46000||46000|CMCC",
+            "46001|null|46001|CHN-CUGSM,null",
+            "46001||46001|CHN-UNICOM",
+            "46001||46001|CU",
+            "46002|CMCC|46000|CHINA MOBILE",
+            "46002|CMCC|46000|CMCC",
+            "46002||46000|CHINA MOBILE",
+            "46002||46000|CMCC",
+            "46002||46000|China Mobile",
+            "46692||46692|Chunghwa Telecom",
+            "46697||46697|TW Mobile",
+            "46697||46697|TWM",
+            "47001|BGD-GP|47001|GrameenPhone",
+            "47001|BGD-GP|47001|Grameenphone",
+            "47001||47001|GrameenPhone",
+            "47001||47001|Grameenphone",
+            "47002|AKTEL|47002|Robi",
+            "47002|Robi|47002|BGD ROBI AXIATA",
+            "47002|Robi|47002|Robi",
+            "47003|Banglalink|47003|Banglalink",
+            "47003|Banglalink||",
+            "47004|Teletalk 3G|47004|Teletalk",
+            "47202|Ooredoo|47202|Ooredoo",
+            "50212|Maxis|50212|MY MAXIS",
+            "50212|null|50212|MY MAXIS",
+            "50212||50212|MY MAXIS",
+            "50212||50212|Maxis",
+            "50213||50219|CELCOM",
+            "50216|Clixster|50216|Clixster",
+            "50216|DiGi|50216| DiGi ",
+            "50216|DiGi|50216|DiGi",
+            "50216|DiGi|50216|DiGi Telecommunications",
+            "50216|DiGi|50216|MY DiGi",
+            "50216|DiGi|50216|MY MAXIS",
+            "50216||50216| DiGi ",
+            "50218||50212|U Mobile",
+            "50218||50218|U Mobile",
+            "50219|ALTEL|50219|ALTEL",
+            "50219|ALTEL|50219|MY CELCOM",
+            "50219|Celcom|50219|Celcom Malaysia Sdn Bhd",
+            "50219|Celcom|50219|MY CELCOM",
+            "50219|MERCHANTRADE|50219|",
+            "50219|MERCHANTRADE|50219|MERCHANTRADE",
+            "50219|MERCHANTRADE|50219|MY CELCOM",
+            "50219|MY XOX|50219|MY XOX",
+            "50219|REDtone|50219|MY CELCOM",
+            "50219|REDtone|50219|REDtone",
+            "50219|TuneTalk|50219|MY CELCOM",
+            "50219|TuneTalk|50219|MY MAXIS",
+            "50219|TuneTalk|50219|TuneTalk",
+            "50219|redONE|50219|MY CELCOM",
+            "50219|redONE|50219|redONE",
+            "50219||50216|MY CELCOM",
+            "50219||50219|CELCOM",
+            "50219||50219|MY CELCOM",
+            "50219||50219|MY CELCOM,null",
+            "50219||50219|MY MAXIS",
+            "50219||50219|U Mobile",
+            "50501| |50501|Telstra",
+            "50501| |50501|Telstra Mobile",
+            "50501|ALDImobile|50501|ALDImobile",
+            "50501|ALDImobile|50501|Telstra Mobile",
+            "50501|BOOST|50501|BOOST",
+            "50501|BOOST|50501|Telstra",
+            "50501|BOOST|50501|Telstra Mobile",
+            "50501|Telstra|50501|Telstra",
+            "50501|Telstra|50501|Telstra Mobile",
+            "50501||50501|Telstra Mobile",
+            "50502|TPG|50502|Optus",
+            "50502|TPG|50502|TPG",
+            "50502|TPG|50502|YES OPTUS",
+            "50502|Virgin Mobile|50502|Virgin",
+            "50502|Virgin Mobile|50502|Virgin Mobile",
+            "50502|Virgin Mobile|50502|YES OPTUS",
+            "50502|YES OPTUS|50502|Optus",
+            "50502|YES OPTUS|50502|YES OPTUS",
+            "50502|amaysim|50502|YES OPTUS",
+            "50502|amaysim|50502|amaysim",
+            "50502||50502|Optus",
+            "50502||50502|YES OPTUS",
+            "50503|Lebara|50503|Vodafone AU",
+            "50503|Lebara|50503|vodafone AU",
+            "50503|PennyTel|50503|vodafone AU",
+            "50503|Think|50503|Vodafone AU",
+            "50503|TransACT|50503|Vodafone AU",
+            "50503|Vodafone AU|50503|vodafone AU",
+            "50503||50503|Vodafone",
+            "50503||50503|Vodafone ",
+            "50503||50503|Vodafone AU",
+            "50503||50503|Vodafone AU,null",
+            "50503||50503|Vodafone AU,vodafone AU",
+            "50503||50503|Vodafone Australia",
+            "51001|INDOSAT|51001| ",
+            "51001|INDOSAT|51001|INDOSAT",
+            "51001|INDOSAT|51001|Indosat@",
+            "51001|MENTARI|51001|INDOSAT",
+            "51001|MENTARI|51001|MENTARI",
+            "51001||51001|INDOSAT",
+            "51008|AXIS+|51011|AXIS+",
+            "51008|AXIS+|51011|XL",
+            "51008|AXIS|51008|XL",
+            "51008|AXIS|51008|axis",
+            "51009|smartfren|00000|smartfren",
+            "51009|smartfren|51009|Indikator Roaming Mati",
+            "51009|smartfren|51009|smartfren",
+            "51009||51009|smartfren",
+            "51010|IND TELKOMSEL|51010|TELKOMSEL",
+            "51010|T-Sel|51010|IND-TELKOMSEL",
+            "51010|T-Sel|51010|T-Sel",
+            "51010|T-Sel|51010|TELKOMSEL",
+            "51010|TELKOMSEL|51010|IND-TELKOMSEL",
+            "51010|TELKOMSEL|51010|TELKOMSEL",
+            "51010|XL Axiata|51010|TELKOMSEL",
+            "51010||51010|IND TELKOMSEL",
+            "51010||51010|IND-TELKOMSEL",
+            "51010||51010|TELKOMSEL",
+            "51010||51010|TELKOMSEL IND",
+            "51010||51010|TSEL",
+            "51011|Axis|51011|Axis",
+            "51011|Axis|51011|IND XL",
+            "51011|Axis|51011|XL",
+            "51011|XL Axiata|51011|IND XL",
+            "51011|XL Axiata|51011|IND-XL",
+            "51011|XL Axiata|51011|XL",
+            "51011|XL Axiata|51011|XL Axiata",
+            "51011|XL Axiata|51011|XL IND",
+            "51011|XL Axiata||",
+            "51011|XL STAR|51011|IND XL",
+            "51011|XL STAR|51011|XL",
+            "51011|XL STAR|51011|XL STAR",
+            "51011|XL|51011|IND XL",
+            "51011|XL|51011|XL",
+            "51011||51011|XL",
+            "51011||51011|XL Axiata",
+            "51028|mobile-8|51009|mobile-8",
+            "51028|smartfren|51009|smartfren",
+            "51028||51009|Smartfren",
+            "51028|||",
+            "51089|3|51089|3",
+            "51089||51089|3",
+            "51502|ABS-CBN|51502|Globe Telecom",
+            "51503|SMART Buddy|51503|SMART",
+            "51503|SMART Buddy|51503|SMART Buddy",
+            "51503|SMART GOLD 3G|51503|Smart",
+            "51503|SMART Prepaid|51503|SMART",
+            "51503|SMART Prepaid|51503|SMART Prepaid",
+            "51503|SMART Prepaid|51503|SUN",
+            "51503|Talk N Text|51503|SMART",
+            "51503|Talk N Text|51503|Talk N Text",
+            "51505|SUN|51503|SMART",
+            "51505|SUN|51505|PH Sun Cellular",
+            "51505|SUN|51505|SUN",
+            "52000|TRUE-H|52000|TH 3G+",
+            "52000|TRUE-H|52000|TRUE-H",
+            "52000|TRUE-H|52099|TRUE-H",
+            "52000||52000|True Move",
+            "52003|AIS 2100|52001|AIS",
+            "52003|AIS|52001|AIS",
+            "52003|AIS|52001|TH GSM",
+            "52003|AIS|52003|52003",
+            "52003|AIS|52003|AIS",
+            "52003|AIS|52003|AIS 2100",
+            "52003|AIS|52003|AIS 2100 3G",
+            "52003|AIS|52003|AIS 3G",
+            "52003|AIS|52003|AIS2100",
+            "52003||52001|TH GSM",
+            "52003||52003|AIS",
+            "52004|TRUE-H|52004|True-H 2100",
+            "52005|DTAC|52005|DTAC",
+            "52005|DTAC|52018|DTAC",
+            "52005||52005|DTAC",
+            "52005||52018|DTAC",
+            "52005||52018|dtac",
+            "52015||null|null",
+            "52018||52018|DTAC",
+            "52501|SingTel|52501|4G SingTel",
+            "52501|SingTel|52501|525 01",
+            "52501|SingTel|52501|SingTel",
+            "52503|M1-3GSM|52503|SGP-M1",
+            "52503||52503|M1",
+            "52503||52503|SGP-M1",
+            "52503|||",
+            "52505|StarHub|52505|STARHUB",
+            "52505|StarHub|52505|StarHub",
+            "53001|vodafone NZ|53001|vodafone NZ",
+            "53005|Skinny|53005|Skinny",
+            "53005|Skinny|53005|Spark",
+            "53005|Skinny|53005|Spark NZ",
+            "53005|Spark NZ|53005|Spark NZ",
+            "53005|Spark NZ|53005|Telecom NZ",
+            "53005|Telecom NZ|53005|Spark NZ",
+            "53005|Telecom NZ|53005|Telecom NZ",
+            "53005|slingshot|53005|Telecom NZ",
+            "53024|2degrees|53024|2degrees",
+            "54201|Vodafone|54201|Vodafone Fiji",
+            "54201||54201|FJ VODAFONE",
+            "54900|DIGICEL|54900|WSM-DIGICEL",
+            "60202|vodafone|60202|Vodafone",
+            "60203|etisalat|60203|etisalat",
+            "60302|Djezzy|60302|Djezzy",
+            "60303|Ooredoo|60303|Ooredoo",
+            "60303|ooredoo|60303|Ooredoo@",
+            "60400|Meditel|60400|MOR MEDITEL",
+            "60401|Maroc Telecom|60401|MOR IAM",
+            "60502|TUNTEL|60502|TUNTEL",
+            "60801|ORANGE SN|60801|Orange_Senegal",
+            "61203|Orange|61203|Orange CI",
+            "61701|CELLPLUS |61701|ORANGE",
+            "61701|Orange|61701|Orange",
+            "62120|Airtel NG|62120|Airtel",
+            "62120|Airtel NG|62120|Airtel NG",
+            "62130||62130|",
+            "62130||62130|MTN - NG",
+            "62130||62130|MTN NG",
+            "62130||62130|MTN Nigeria",
+            "62130||62130|MTN-NG",
+            "62160|etisalat|62160|ETISALAT",
+            "63902|Safaricom|63902|Safaricom",
+            "63903|Airtel KE|63903|AIRTEL",
+            "64005|Airtel TZ|64005|AIRTEL",
+            "64304|Vodacom|64304|VodaCom-MZ",
+            "64700|Orange re|64700|Orange re",
+            "64702|ONLY|64702|ONLY",
+            "64710||64710|SFR REUNION",
+            "64710||64710|SFR RU",
+            "64901|MTC NAM|64901|MTC",
+            "64901|MTC NAM|64901|MTC NAMIBIA",
+            "64903|TN MOBILE|64903|TN mobile",
+            "65501||65501|VodaCom-SA",
+            "65501||65501|Vodacom SA",
+            "65501||65501|Vodacom-SA",
+            "65502|8.ta|65502|8ta",
+            "65502|TelkomSA|65502|8.ta",
+            "65502|TelkomSA|65502|8ta",
+            "65502|TelkomSA|65502|TelkomSA",
+            "65507| Cell C |65501|VodaCom-SA",
+            "65507| Cell C |65507| Cell C ",
+            "65507| Cell C |65507|cell c",
+            "65507| Cell C|65507|RSA CELL C",
+            "65507|Cell C|65501|VodaCom-SA",
+            "65507|Cell C|65507|Cell C",
+            "65507|Cell C|65507|RSA CELL C",
+            "65510| Cell C|65510|MTN-SA",
+            "65510|,|65510|MTN SA,Vodacom SA",
+            "65510||65510|MTN",
+            "65510||65510|MTN Group",
+            "65510||65510|MTN SA",
+            "65510||65510|MTN-SA",
+            "70401|Claro|70401|Claro",
+            "70402|TIGO|70402|TIGO",
+            "708001|Claro HND|708001|CLARO",
+            "708020|TIGO|70802|TIGO",
+            "70802|TIGO|70802|TIGO",
+            "71021||71021|CLARO",
+            "71201|Kolbi ICE|71201|ICE",
+            "71204|movistar|71204|Movistar",
+            "71606|movistar|71606|movistar",
+            "71610|Claro|71610|Claro",
+            "72207|Movistar|72207|Movistar",
+            "722310|Claro AR|310410|AT&T",
+            "722310|Claro AR|722310|Claro AR",
+            "722341|Personal|72234|Personal",
+            "722341|Personal|72234|femto",
+            "72234|Personal|72234|Personal",
+            "72402|TIM|72402|TIM",
+            "72402|TIM|72402|TIM 21",
+            "72402|TIM|72402|TIM 31",
+            "72402||72402|TIM 91",
+            "72403|TIM|72403|TIM",
+            "72403|TIM|72403|TIM 19",
+            "72403|TIM|72404|TIM",
+            "72404|TIM|72404|TIM",
+            "72404|TIM|72404|TIM 41",
+            "72404|TIM|72404|TIM 45",
+            "72404|TIM|72404|TIM BRASIL",
+            "72405|Claro BR|72405|VIVO,CLARO BR",
+            "72406|VIVO|72406|VIVO",
+            "72406|VIVO|72406|VIVO,Oi",
+            "72410|VIVO|72410|VIVO",
+            "72411|VIVO|72411|VIVO",
+            "72411||72411|VIVO",
+            "72431|Oi|72431|Oi",
+            "72431|Oi|72431|Oi,TIM",
+            "72431||72431|Oi",
+            "72439|Nextel|72439|Nextel",
+            "73002|movistar|73002|movistar",
+            "732101|Claro|732101|Claro",
+            "73404|movistar|73404|movistar",
+            "73406|MOVILNET|73406|MOVILNET",
+            "73801|Digicel||",
+            "74000|Movistar|74000|Movistar",
+            "74404|TIGO|74404|TIGO",
+            "74801|Antel|74801|ANTEL",
+            "74801|Antel|74801|Antel",
+            "74807|Movistar|74807|Telefonica Moviles Uruguay",
+            "74807|movistar|74807|movistar",
+            "74810|Claro UY|74810|Claro UY",
+            "|Boost Mobile|311870|Boost Mobile",
+            "|Sprint|00000|Sprint",
+            "|Sprint|310000|Sprint",
+            "|Sprint|31000|Boost Mobile",
+            "|Sprint|31000|Sprint",
+            "|Sprint|310120|Roaming Indicator Off",
+            "|Sprint|310120|Sprint",
+            "|Sprint|310120|Virgin Mobile",
+            "|Sprint|31070|Sprint",
+            "|TATA DOCOMO|40402|IND airtel",
+            "|Verizon|310004| ",
+            "|Verizon|31000|",
+            "|Verizon|31000| ",
+            "|Verizon|31000|Verizon Wireless",
+            "|Verizon|31007|",
+            "|Verizon|311480|",
+            "|Verizon|311480|Verizon Wireless",
+            "||000000|Roaming Indicator Off",
+            "||26001|Plus",
+            "||310004|",
+            "||31000|",
+            "||31000|Roaming Indicator Off",
+            "||31000|Sprint",
+            "||310120|Sprint",
+            "||310260|MetroPCS",
+            "||311480|Verizon Wireless",
+            "||311870|Boost Mobile",
+            "||51009|smartfren",
+            "|||",
+            "||| ",
+            "|||Sprint",
+        };
+
+        static final int[] REPORT_COUNTS = {
+            31, 2, 1, 3, 2, 2, 7, 4,
+            1, 1, 2, 1, 1, 1, 1, 1,
+            2, 1, 13, 1, 1, 3, 1, 1,
+            1, 1, 3, 2, 24, 1, 3, 1,
+            4, 2, 6, 3, 590, 1, 1, 1,
+            1, 1, 1, 1, 1, 1, 1, 2,
+            3, 1, 7, 4, 1, 35, 7, 12,
+            4, 4, 5, 1, 15, 1, 2, 4,
+            1, 3, 1, 1, 488, 1, 119, 1,
+            3, 1, 1, 9, 1, 1, 3, 271,
+            3, 39, 1, 2, 1, 425, 1, 1,
+            3, 3, 1, 1, 1, 2, 1, 5,
+            85, 35, 1, 106, 1, 24, 313, 2,
+            1, 2, 1, 1, 1, 1, 4, 3,
+            5, 3, 2, 2, 9, 76, 3, 3,
+            4, 13, 4, 2, 1, 1, 1, 20,
+            1, 3, 1, 1, 11, 1, 2, 1,
+            1, 5, 1, 1, 2, 5, 1, 1,
+            2, 13, 1, 3, 1, 9, 30, 5,
+            1, 18, 8, 1, 20, 1, 10, 2,
+            51, 2, 1, 1, 1, 41, 1, 1,
+            1, 13, 1, 1, 3, 2, 1, 10,
+            1, 1, 9, 1, 1, 1, 6, 1,
+            41, 29, 1, 1, 23, 2, 1, 5,
+            1, 9, 23, 1, 16, 37, 32, 45,
+            9, 1, 183, 3, 2, 1, 1, 7,
+            7, 3, 14, 2, 281, 1, 16, 7,
+            198, 7, 1, 1, 1, 5, 1, 176,
+            32, 9, 63, 12, 1, 6, 6, 1,
+            38, 5, 5, 2, 1, 2, 4, 1,
+            1, 1, 2, 1, 5, 1, 1, 1,
+            1, 1, 13, 4, 1, 1, 1, 1,
+            1, 8, 1, 11, 1, 1, 1, 1,
+            1, 1, 5, 2, 1, 3, 11, 1,
+            1, 3, 17, 7, 1, 5, 4, 1,
+            1, 4, 4, 1, 1, 3, 1, 1,
+            1, 4, 1, 1, 3, 2, 1, 1,
+            1, 2, 1, 1, 1, 2, 1, 2,
+            4, 1, 3, 2, 1, 1, 29, 52,
+            2, 15, 1, 2, 1, 1, 1, 1,
+            1, 1, 1, 5, 1, 1, 1, 88,
+            1, 1, 18, 2, 1, 1, 1, 1,
+            1, 7, 4, 1, 1, 93, 1, 1,
+            1, 2, 2, 2, 6, 1, 1, 3,
+            1, 3, 1, 2, 1, 1, 14, 1,
+            1, 1, 1, 2, 1, 1, 4, 1,
+            1, 56, 1, 1, 10, 7, 1, 5,
+            2, 1, 2, 1, 28, 2, 1, 1,
+            2, 1, 1, 1, 1, 1, 1, 6,
+            1, 1, 1, 1, 1, 1, 2, 1,
+            3, 4, 71, 2, 2, 8, 3, 16,
+            11, 1, 1, 1, 6, 2, 4, 5,
+            2, 12, 3, 31, 2, 1, 3, 3,
+            2, 1, 1, 1, 1, 4, 1, 1,
+            1, 1, 3, 1, 14, 6, 1, 157,
+            1, 1, 1, 1, 1, 1, 2, 1,
+            10, 1, 1, 1, 1, 4, 2, 4,
+            1, 1, 2, 2, 1, 1, 2, 1,
+            1, 1, 1, 1, 1, 1, 1, 1,
+            2, 1, 1, 57, 1, 1, 3, 1,
+            5, 2, 2, 2, 2, 1, 1, 1,
+            4, 3, 6, 1, 142, 3, 1, 7,
+            4, 2, 1, 1, 16, 2, 6, 4,
+            5, 1, 2, 17, 2, 1, 4, 2,
+            1, 1, 2, 2, 1, 1, 3, 2,
+            3, 8, 1, 10, 1, 1, 2, 1,
+            1, 29, 2, 32, 1, 2, 6, 1,
+            1, 2, 1, 1, 3, 2, 1, 1,
+            3895, 127, 29, 688, 2, 1, 1, 1,
+            1, 1, 36, 4, 5, 1, 3, 1436,
+            5, 4, 4, 1, 22, 4, 3, 2,
+            111, 2, 1, 1, 201, 1, 3, 1,
+            1, 338, 10, 1, 928, 1, 11, 4,
+            1, 1, 1, 8, 536, 5, 1, 2,
+            1, 9, 2, 15, 24, 2, 1, 2,
+            1, 7, 1, 1, 1, 1, 10, 12,
+            1, 5, 67, 1, 495, 1, 107, 321,
+            1, 2, 1, 1, 1, 6, 1, 1,
+            1, 433, 35, 113, 2, 2, 1, 2,
+            2, 9, 1, 2, 3, 3, 2, 3,
+            2, 16, 2, 164, 1, 8, 75, 1,
+            1, 1, 1, 1, 1, 1, 1, 1,
+            1, 5, 9, 1, 2, 2, 2, 1,
+            1, 1, 1, 3, 2, 1, 1, 1,
+            2, 5, 3, 1, 2, 5, 1, 2,
+            1, 83, 28, 11, 6, 2, 2, 33,
+            1, 2, 174, 22, 223, 63, 1, 5,
+            6, 30, 1, 1, 1, 1, 1, 9,
+            46, 3, 3, 38, 1, 4, 1, 1,
+            4, 5, 9, 7, 13, 3, 1, 2,
+            4, 5, 2, 15, 5, 1, 9, 4,
+            1, 3, 1, 12, 1, 1, 130, 1,
+            1, 4, 12, 1, 2, 1, 1, 12,
+            3196, 1, 1, 3, 63, 14, 2, 10,
+            4, 2, 26, 4, 10, 1, 8, 1,
+            1, 1, 13, 36, 2, 17, 2, 1,
+            120, 4, 1, 1, 3, 9, 2, 32,
+            1, 1, 4031, 1, 2, 1, 3, 2,
+            1, 5, 6, 3, 16, 1, 1, 2,
+            1, 4, 6, 4, 2, 22, 2, 1,
+            7, 2, 1, 18, 1, 18, 817, 6,
+            1, 1, 17, 1, 1, 3, 1, 2,
+            1, 5, 5, 137, 1, 9, 2, 1,
+            2, 2, 3, 1, 3, 2, 4, 61,
+            18, 8, 1, 2, 6, 775, 128, 260,
+            6096, 16, 34, 1, 2, 5, 12, 272,
+            50, 1, 13, 10266, 111, 2, 3, 72,
+            94, 16, 1, 1, 1, 2, 9, 1,
+            1, 3, 1, 2, 3, 3, 2, 1,
+            1, 1, 1, 1, 1, 1, 1, 1,
+            2, 1, 1, 3, 2, 3, 2, 3,
+            1, 373, 2, 17, 5, 8, 2, 1,
+            4, 3, 36, 1, 3, 1, 1, 1,
+            99, 9, 2, 6279, 56, 2, 3, 1,
+            110, 4, 774, 1, 3, 63, 7, 1,
+            9, 6, 1, 1, 1, 1, 2, 2,
+            1, 3, 2, 1, 3, 1, 1, 2,
+            15, 1, 6, 6, 3, 1, 1, 2,
+            16, 1, 2, 4, 3, 1, 1, 1,
+            1, 1, 2, 8, 1, 19, 70, 1,
+            1, 1, 2, 1, 2, 1, 1, 10,
+            1, 6, 1, 1, 4, 1, 6, 39,
+            2, 1, 15, 1, 1, 6, 3, 1,
+            1, 5, 13, 1, 1, 3, 13, 1,
+            1, 1, 1, 2, 3, 3, 11, 1,
+            1, 1, 1, 68, 1, 109, 2, 1,
+            226, 16, 6, 1023, 79, 4, 2, 1,
+            1, 1, 629, 9, 4, 10, 5, 325,
+            1, 1, 1, 38, 1, 12, 5, 2,
+            1, 3634, 5, 1, 2, 1, 18, 1,
+            179, 1, 8, 3, 1, 1, 2, 1,
+            5, 42, 5, 82, 4, 1, 1, 1,
+            5, 2, 243, 1, 22, 73, 3, 1,
+            6177, 1, 61, 1, 33, 2, 1, 1,
+            34, 3, 480, 14, 5, 16, 466, 3,
+            1, 1, 34, 2, 18, 324, 4, 33,
+            1, 5, 3, 276, 2, 22, 1, 77,
+            8, 1, 7, 358, 1, 1, 1, 1,
+            32, 6, 6, 9, 413, 29, 1, 1,
+            1, 1, 1, 2, 2, 1, 17, 10,
+            2, 2, 3745, 98, 10, 1, 3, 1,
+            4, 1, 2, 1, 1, 1, 2, 77,
+            1, 7, 8, 7, 1, 2, 2, 2,
+            14, 1, 1, 26, 4, 1, 8, 2,
+            2, 1, 4, 1, 1, 2, 1, 4,
+            6, 1, 1, 3, 7, 1, 1, 1,
+            1, 3, 1, 1, 1, 2, 1, 9,
+            1, 1, 1, 1, 1, 1, 2, 1,
+            38, 2, 1, 3, 1, 1, 1, 13,
+            10, 2, 1, 1, 6, 1, 2, 1,
+            82, 1, 1, 1, 1, 2, 1, 1,
+            1, 5, 1, 14, 1, 1, 1, 1,
+            1, 1, 20, 1, 1, 1, 4, 1,
+            1, 4, 3, 2, 1, 7, 1, 1,
+            9, 109, 1, 2, 1, 1, 34, 1,
+            1, 1, 4, 1, 1, 7, 1, 4,
+            1, 11, 1, 1, 1, 1, 1, 1,
+            49, 1, 4, 1, 1, 1, 1, 11,
+            2, 1, 1, 2, 1, 1, 5, 2,
+            1, 1, 2, 1, 1, 2, 2, 1,
+            1, 1, 18, 3, 3, 1, 2, 4,
+            2, 1, 2, 23, 1, 1, 2, 6,
+            5, 7, 1, 5, 1, 1, 1, 4,
+            1, 1, 1, 1, 1, 8, 1, 1,
+            2, 2, 4, 1, 1, 1, 1, 1,
+            1, 18, 2, 1, 1, 3, 1, 1,
+            1, 1, 1, 1, 1, 1, 1, 21,
+            6, 1, 10, 2, 1, 1, 2, 1,
+            1, 1, 2, 1, 19, 1, 1, 1,
+            5, 8, 1, 12, 1, 1, 1, 6,
+            1, 1, 1, 1, 4, 3, 5, 1,
+            1, 1, 3, 2, 1, 1, 1, 3,
+            1, 1, 2, 1, 13, 1, 3, 2,
+            1, 1, 2, 6, 11, 1, 1, 2,
+            4, 1, 1, 1, 1, 3, 1, 1,
+            3, 3, 1, 12, 1, 2, 2, 1,
+            2, 2, 9, 1, 2, 2, 1, 1,
+            1, 1, 3, 5, 1, 2, 1, 2,
+            1, 1, 3, 1, 3, 4, 1, 1,
+            2, 1, 1, 2, 4, 1, 2, 4,
+            1, 1, 1, 1, 10, 1, 1, 1,
+            1, 1, 2, 1, 8, 1, 1, 4,
+            3, 2, 1, 1, 1, 1, 1, 1,
+            1, 1, 4, 1, 1, 1, 1, 1,
+            1, 1, 4, 3, 4, 1, 1, 1,
+            1, 11, 1, 1, 15, 1, 1, 1,
+            14, 20, 1, 3, 5, 1, 2, 7,
+            9, 13, 1, 1, 29, 1, 2, 1,
+            5, 2, 2, 1, 1, 2, 2, 13,
+            1, 1, 3, 5, 1, 2, 1, 1,
+            1, 3, 1, 1, 14, 35, 3, 46,
+            10, 8, 3, 16, 18, 4, 2, 2,
+            5, 43, 1, 1, 8, 15, 1, 8,
+            1, 3, 7, 2, 1, 1, 1, 1,
+            1, 4, 2, 1, 95, 65, 14, 1,
+            1, 1, 29, 20, 1, 6, 3, 11,
+            1, 1, 41, 1, 3, 1, 1, 7,
+            5, 1, 1, 4, 2, 1, 2, 1,
+            1, 5, 9, 3, 3, 1, 2, 1,
+            1, 3, 3, 1, 13, 3, 1, 2,
+            4, 1, 1, 1, 1, 1, 1, 1,
+            1, 3, 3, 1, 1, 1, 3, 1,
+            2, 2, 1, 2, 1, 2, 4, 1,
+            1, 3, 24, 10, 1, 1, 3, 20,
+            1, 1, 1, 2, 1, 216, 2, 2,
+            1, 50, 17, 1, 7, 1, 3, 11,
+            46, 2, 5, 3, 1, 4, 1, 26,
+            3, 1, 1, 13, 1, 3, 1, 8,
+            1, 5, 208, 1, 1, 1, 1, 4,
+            1, 15, 3, 3, 25, 61, 161, 1,
+            6, 1, 2, 2, 1, 1, 4, 13,
+            3, 7, 1, 3, 1, 2, 1, 2,
+            1, 2, 2, 1, 177, 2, 1, 3,
+            4, 39, 1, 2, 1, 1, 1, 4,
+            2, 2, 3, 2, 44, 3, 1, 1,
+            1, 7, 1, 24, 1, 2, 16, 234,
+            2, 1, 1, 6, 27, 38, 1, 161,
+            14, 5, 1, 1, 1, 1, 3, 11,
+            1, 3, 2, 19, 3, 4, 2, 1,
+            1, 12, 3, 1, 18, 5, 1, 8,
+            2, 1, 2, 3, 2, 1, 1, 1,
+            1, 8, 5, 1, 115, 9, 2, 3,
+            1, 1, 2, 1, 1, 1, 10, 5,
+            8, 1, 9, 10, 2, 49, 7, 1,
+            6, 1, 10, 5, 1, 1, 1, 10,
+            32, 3, 3, 5, 1, 8, 3, 1,
+            1, 1, 2, 1, 1, 1, 1, 1,
+            1, 4, 1, 1, 1, 1, 2, 1,
+            4, 3, 1, 2, 4, 39, 1, 2,
+            1, 4, 1, 2, 3, 1, 5, 1,
+            7, 1, 2, 1, 2, 4, 1, 1,
+            3, 4, 1, 1, 5, 1, 1, 1,
+            1, 1, 8, 71, 1, 12, 1, 2,
+            2, 1, 1, 2, 2, 8, 11, 1,
+            15, 1, 1, 4, 9, 1, 2, 1,
+            2, 1, 1, 9, 1, 1, 1, 1,
+            2, 1, 4, 9, 3, 2, 1, 1,
+            1, 2, 1, 5, 2, 1, 1, 1,
+            2, 1, 1, 1, 3, 2, 1, 1,
+            1, 7, 1, 34, 1, 2, 1, 3,
+            6, 4, 1, 1, 6, 1, 1, 1,
+            1, 4, 2, 4, 2, 2, 1, 1,
+            2, 5, 1, 1,
+        };
+
+        //Seconds since the epoch, UTC.
+        static final int[] LAST_REPORTS = {
+            1427882644, 1413228105, 1412523899, 1426955507, 1427508795, 1424300613, 1426980139, 1428196172,
+            1411019522, 1420566421, 1422649963, 1423423830, 1410042845, 1414190148, 1424449139, 1419187135,
+            1419208792, 1414250120, 1425588009, 1412611812, 1421419269, 1426096745, 1425036512, 1417207745,
+            1418809878, 1428236960, 1426696033, 1420054233, 1428100953, 1425564362, 1427477658, 1416307387,
+            1423092559, 1420148050, 1424526080, 1426106787, 1428471071, 1422732124, 1416250631, 1421342690,
+            1427351984, 1419184387, 1425414160, 1423729544, 1427102611, 1424194344, 1420229038, 1422716366,
+            1427147031, 1415905643, 1425421661, 1423601816, 1426002755, 1428319246, 1424863166, 1427630145,
+            1424542224, 1424010937, 1426103055, 1416914943, 1427750231, 1415547547, 1425644067, 1428424694,
+            1408899901, 1427988525, 1424704121, 1426939484, 1428509688, 1416954643, 1428329215, 1415134794,
+            1427475788, 1420118115, 1422099102, 1427653974, 1426745504, 1413030510, 1428415664, 1428508140,
+            1426012754, 1428227364, 1417032084, 1423589525, 1428308392, 1428434304, 1426442344, 1420150631,
+            1427467293, 1421270329, 1416743441, 1415551521, 1416858280, 1420869549, 1417020108, 1425907768,
+            1428039153, 1427970076, 1423038738, 1428430277, 1418579362, 1428047465, 1428511612, 1419846275,
+            1417085751, 1420918513, 1425314951, 1418388636, 1414091008, 1411224899, 1424953280, 1426712335,
+            1426353181, 1425937588, 1425987279, 1423048813, 1428174908, 1428306024, 1422359268, 1427559486,
+            1412273059, 1428491653, 1425648041, 1425231010, 1413811400, 1426187667, 1423900917, 1427905459,
+            1426608116, 1425397323, 1417109410, 1426587821, 1428154899, 1426005499, 1410980108, 1426848715,
+            1418302936, 1424973684, 1426249776, 1420036091, 1420123812, 1422720430, 1413896627, 1428137203,
+            1422809033, 1424521948, 1414684863, 1427108256, 1424899133, 1425733649, 1428354607, 1427362079,
+            1418039881, 1427881492, 1420034073, 1422374900, 1427464450, 1422977652, 1428131987, 1422129091,
+            1428266926, 1423726678, 1428164445, 1418488665, 1418919875, 1428419817, 1427568268, 1420189697,
+            1418041533, 1426508557, 1425570673, 1425913547, 1426628130, 1428431434, 1423585326, 1426752802,
+            1415198011, 1421482904, 1421393567, 1427810536, 1422123977, 1424679742, 1428408640, 1416937524,
+            1428213535, 1426861264, 1414601637, 1427100928, 1427212092, 1426876744, 1422987131, 1427307838,
+            1417535079, 1427707098, 1428004157, 1415544425, 1427969275, 1428264272, 1428230118, 1428158581,
+            1426842865, 1421524192, 1428420684, 1421326708, 1419715285, 1423953837, 1426341272, 1428504693,
+            1427624553, 1428488274, 1427920140, 1426098954, 1428427492, 1425560895, 1427826302, 1428501920,
+            1428393240, 1426440874, 1428480227, 1421005633, 1415009225, 1425765184, 1426282651, 1428433103,
+            1428497787, 1423782212, 1427479460, 1427624638, 1415979975, 1423908599, 1426184977, 1408350563,
+            1427394025, 1427044434, 1426610297, 1422639222, 1422150211, 1422130148, 1426868842, 1419961321,
+            1412420757, 1411108613, 1423748146, 1424898355, 1423857842, 1421262949, 1412320810, 1427452727,
+            1413568787, 1415431923, 1426600818, 1426143988, 1410149041, 1421426398, 1423651864, 1415794977,
+            1428217825, 1426604154, 1411646427, 1425902440, 1417472867, 1428315049, 1417678141, 1416335126,
+            1414243389, 1427117090, 1425324898, 1417962511, 1426617248, 1425746716, 1426054556, 1410933750,
+            1420021480, 1427797777, 1427227255, 1425115742, 1412106321, 1425313655, 1425683470, 1425932534,
+            1422314594, 1419350393, 1426022352, 1421261497, 1406115529, 1423087829, 1423005272, 1428184902,
+            1424291970, 1419068591, 1417112505, 1427654984, 1426964453, 1423489834, 1413394877, 1411634103,
+            1427382191, 1425213545, 1418028703, 1417122580, 1419886315, 1423665001, 1412340288, 1425197117,
+            1416635591, 1417251939, 1426010053, 1421163202, 1415111798, 1413028533, 1428390703, 1428413924,
+            1421051683, 1425740760, 1422811478, 1424589222, 1422378544, 1422441450, 1421221225, 1421681857,
+            1403715047, 1423827593, 1413338731, 1424517674, 1420045732, 1417549932, 1412801403, 1428514275,
+            1416736493, 1418393626, 1427307185, 1428508924, 1425813557, 1421747546, 1423764688, 1417368236,
+            1425546666, 1425823098, 1425042749, 1422620683, 1416549856, 1428305907, 1425801257, 1415703548,
+            1418724647, 1423337578, 1428087497, 1419438712, 1428497158, 1425361107, 1417627099, 1418290042,
+            1426072641, 1426895278, 1424968130, 1421245525, 1421077737, 1426849771, 1428505508, 1428256901,
+            1414253711, 1414241903, 1421943774, 1427126116, 1420922476, 1426794706, 1425502625, 1419871364,
+            1425092085, 1428481064, 1418997538, 1422213677, 1427398633, 1427723167, 1416322716, 1428489602,
+            1424987612, 1424677476, 1422531324, 1416689737, 1423245567, 1425292941, 1413826466, 1423933251,
+            1414861336, 1413808486, 1422104923, 1424543306, 1422435640, 1428234880, 1420135420, 1427114397,
+            1421344299, 1428301179, 1417778770, 1416406132, 1415903907, 1417194774, 1423328107, 1410202008,
+            1423314085, 1423047262, 1428508922, 1420108529, 1423248024, 1428078193, 1427106255, 1428489318,
+            1427817736, 1419851232, 1425758071, 1421845753, 1427799456, 1423415284, 1428344864, 1428331278,
+            1425718796, 1428258267, 1426274652, 1427981930, 1423420340, 1420550025, 1424197948, 1427981653,
+            1423413250, 1415293863, 1420107262, 1425224893, 1426114026, 1424729774, 1420648392, 1424072227,
+            1427386631, 1416328947, 1427975668, 1418125663, 1427884650, 1427789573, 1427726470, 1428503505,
+            1421589343, 1426273344, 1420574266, 1425294140, 1421905191, 1427658519, 1422300954, 1410875632,
+            1428330757, 1419098536, 1419964679, 1421496954, 1420226264, 1428312305, 1422600861, 1421478825,
+            1427178588, 1426864225, 1425031367, 1421863464, 1419538579, 1425212411, 1417625853, 1420986557,
+            1416242919, 1421827372, 1417983837, 1418252386, 1427402998, 1418924456, 1416844622, 1419522286,
+            1421929200, 1427538665, 1426012880, 1427458558, 1424522662, 1424636074, 1422342863, 1418150432,
+            1426706596, 1419522219, 1427485257, 1424100069, 1423322665, 1427125930, 1427997832, 1426143114,
+            1422633356, 1428421520, 1428431230, 1427600935, 1428436027, 1425508993, 1423154314, 1426382239,
+            1428185927, 1425929839, 1422866543, 1414246827, 1428094391, 1414674830, 1426515689, 1420636986,
+            1426608887, 1423559024, 1413992619, 1427828102, 1414932959, 1417284655, 1426891680, 1426322836,
+            1418413909, 1425736907, 1426869863, 1427454239, 1421245296, 1420213836, 1427539015, 1419183080,
+            1427237770, 1425235388, 1417513117, 1424290291, 1424849723, 1419840214, 1424285822, 1404778095,
+            1424028119, 1427623754, 1424883448, 1426256925, 1424535321, 1423900946, 1422700411, 1419279936,
+            1425493590, 1415465777, 1421637031, 1425395325, 1422984371, 1428463745, 1410437726, 1419139644,
+            1428513576, 1428369930, 1428284666, 1428514258, 1423863130, 1424375970, 1421346569, 1422913688,
+            1415856147, 1410489226, 1427241151, 1424489252, 1424883980, 1416411211, 1425587090, 1428432443,
+            1426163521, 1427815240, 1423526496, 1408133432, 1428002040, 1426631094, 1422821034, 1427554829,
+            1428343651, 1417453559, 1419356050, 1411934005, 1428326096, 1425427947, 1422538543, 1425044799,
+            1425213460, 1428507217, 1427233052, 1420756370, 1428512418, 1418352635, 1425801242, 1423620131,
+            1418417235, 1416340272, 1425857617, 1427421523, 1428502963, 1415645342, 1421552838, 1414712792,
+            1415154909, 1426288344, 1423956561, 1427611854, 1426260769, 1427081536, 1424821074, 1427047975,
+            1407112862, 1427215109, 1422575243, 1424738797, 1419434440, 1416628164, 1428450416, 1425783023,
+            1423969866, 1428274854, 1426891161, 1418782394, 1428509817, 1425699755, 1428438157, 1428488635,
+            1412457946, 1428272589, 1406428933, 1414694873, 1423816191, 1428434424, 1415189505, 1426268998,
+            1428352684, 1428455997, 1428367462, 1428514714, 1425069619, 1426626684, 1406635518, 1417883241,
+            1428196952, 1423265017, 1418427762, 1425940697, 1424795579, 1412803516, 1424949986, 1420167292,
+            1421433975, 1426877746, 1426811585, 1428462174, 1414873726, 1428360006, 1428336130, 1408411034,
+            1427398248, 1421093328, 1415414704, 1428003904, 1407275237, 1425578335, 1420245688, 1422558939,
+            1405773180, 1428059920, 1427068225, 1418059560, 1425418838, 1425426499, 1412335273, 1409022181,
+            1413290613, 1419663239, 1415730478, 1424475449, 1423785701, 1426633162, 1417651763, 1419526144,
+            1417394270, 1427940406, 1414496320, 1418521076, 1425267133, 1424898893, 1428492301, 1428169896,
+            1427075349, 1428514960, 1428366283, 1428191016, 1423815404, 1413597262, 1414334540, 1426872520,
+            1427608107, 1427588133, 1428464397, 1428216851, 1428328894, 1428498133, 1421163234, 1420903475,
+            1426708572, 1426958454, 1424485687, 1416168547, 1427074663, 1420512933, 1423607539, 1426285926,
+            1428177288, 1424637618, 1414779891, 1428356079, 1427424594, 1428004697, 1425337443, 1426668070,
+            1417990805, 1424311401, 1427836760, 1422753832, 1427976889, 1412003489, 1425353323, 1418786008,
+            1428008779, 1418525740, 1428409838, 1426161397, 1423761743, 1412356849, 1423969438, 1423433128,
+            1417904837, 1426889469, 1421839083, 1426555010, 1407630852, 1412468067, 1426985801, 1422460437,
+            1414029879, 1427750220, 1428242157, 1425533227, 1417825431, 1416099136, 1427203169, 1425398890,
+            1428512700, 1414291520, 1404289702, 1418312773, 1427664544, 1425630540, 1418610949, 1422150789,
+            1423273558, 1425135442, 1427761455, 1419362584, 1421470992, 1421357783, 1427515525, 1423459270,
+            1417921956, 1428259498, 1425593567, 1427119546, 1419530936, 1425757618, 1425410592, 1424135774,
+            1428459098, 1418068102, 1422648612, 1421980271, 1421124885, 1428011243, 1419450510, 1428429209,
+            1421539936, 1425099077, 1428513652, 1413159978, 1425252658, 1427576246, 1428274903, 1418533141,
+            1422370590, 1428457225, 1419049738, 1428420887, 1426117901, 1425045344, 1413087374, 1425503671,
+            1416779658, 1425943740, 1427929419, 1419319267, 1413597970, 1427043614, 1423604602, 1423665979,
+            1427678747, 1420060285, 1424816871, 1428432115, 1408406929, 1426973635, 1428509794, 1421621045,
+            1427919319, 1421537606, 1427935862, 1411923844, 1411373401, 1424110777, 1426268870, 1413887933,
+            1416162627, 1423027792, 1420950082, 1428510326, 1415558918, 1428431884, 1422221941, 1426592310,
+            1428161074, 1419640788, 1423861609, 1413691778, 1427403190, 1422325209, 1418840976, 1428460110,
+            1428279805, 1427038339, 1426605333, 1425643525, 1424896969, 1428410757, 1428467658, 1428449961,
+            1428514125, 1426437321, 1428293767, 1424494971, 1417474539, 1427736720, 1428470330, 1428450224,
+            1427940297, 1404703715, 1426507078, 1428514863, 1428427806, 1422386624, 1426091442, 1428239789,
+            1428510256, 1427774761, 1424892187, 1424140672, 1412784873, 1414285817, 1427590158, 1413643602,
+            1422030077, 1421283764, 1412878798, 1425315076, 1426124659, 1422466302, 1427152972, 1424115290,
+            1411469773, 1424047526, 1417734128, 1415912204, 1416249498, 1420600899, 1419544078, 1420976305,
+            1420123447, 1423858790, 1419633281, 1420187983, 1419512969, 1420124476, 1420076418, 1419358736,
+            1401421298, 1428263884, 1426184291, 1427406752, 1414812778, 1426877676, 1414862713, 1428509930,
+            1418330299, 1426453015, 1428100884, 1413598862, 1422223265, 1415338547, 1424115229, 1426953652,
+            1428503366, 1428428675, 1416673075, 1428510541, 1427672513, 1412814439, 1414296002, 1425666178,
+            1428421019, 1426609863, 1428506484, 1415066358, 1412872338, 1428422211, 1424462021, 1427655557,
+            1424806909, 1427604119, 1421756678, 1411322586, 1418241104, 1426788043, 1425041902, 1416875240,
+            1415919415, 1419179697, 1412160357, 1416593024, 1423608151, 1414898296, 1418850582, 1419428927,
+            1427307661, 1410715238, 1423698873, 1428336123, 1427494603, 1422628492, 1424194268, 1426375579,
+            1428332993, 1428094658, 1424208315, 1419994463, 1428015664, 1424817568, 1425911322, 1415538578,
+            1416026517, 1414503003, 1427329838, 1428104692, 1405183593, 1427749081, 1427946907, 1413034326,
+            1426283512, 1427725720, 1419146049, 1427586685, 1417921566, 1417464660, 1423952513, 1424901200,
+            1422649833, 1423195175, 1415806986, 1411673048, 1427199203, 1421680383, 1428100461, 1428378822,
+            1421973996, 1419381780, 1428360067, 1422633577, 1425050051, 1424965822, 1428354323, 1428338760,
+            1426265517, 1424585260, 1426908856, 1427150297, 1408480843, 1426379237, 1428502865, 1426376895,
+            1425253728, 1426734642, 1403455834, 1426568545, 1427757296, 1422915746, 1427689968, 1428083917,
+            1426483797, 1421714424, 1420159933, 1428273110, 1406304259, 1428499013, 1426622667, 1417636536,
+            1428506568, 1426780165, 1424759466, 1428506189, 1428172241, 1427723935, 1424540875, 1413687751,
+            1420398738, 1410616772, 1428461307, 1428169227, 1422041022, 1426115214, 1427292126, 1428442812,
+            1407524811, 1414872397, 1407889706, 1428453220, 1421627442, 1427478938, 1423441846, 1418776386,
+            1413310064, 1428507070, 1424747733, 1417916396, 1427637456, 1423682189, 1428495156, 1424300547,
+            1428470731, 1423503888, 1426223628, 1422406082, 1405342416, 1413407691, 1415903075, 1411076726,
+            1428328511, 1428016688, 1426039892, 1428375236, 1426914566, 1410467383, 1411542108, 1409972897,
+            1427984637, 1425336821, 1428456541, 1420138687, 1427489483, 1428178551, 1422674571, 1427568172,
+            1428511645, 1428027659, 1428453526, 1427515177, 1428345660, 1422494285, 1428071121, 1403136475,
+            1428465300, 1425768968, 1428513087, 1426359377, 1424907148, 1428495183, 1428513027, 1420311580,
+            1417044054, 1424409888, 1428197462, 1426815359, 1426819181, 1428507774, 1426968730, 1428497142,
+            1423747570, 1422258164, 1421952139, 1428496565, 1421741714, 1428097855, 1418507349, 1428342244,
+            1428329831, 1428188885, 1426367182, 1428453806, 1426877137, 1422500224, 1411962728, 1423628889,
+            1427763398, 1417531509, 1427137299, 1426944821, 1428493505, 1428071227, 1416701323, 1411244810,
+            1426635070, 1427472214, 1426706330, 1426170995, 1419643072, 1417240814, 1428165136, 1427224688,
+            1427944719, 1426802960, 1428512199, 1428503753, 1426297802, 1426886984, 1426775113, 1407164802,
+            1426628908, 1426132566, 1411500870, 1411485495, 1421172687, 1411138907, 1425237424, 1428422024,
+            1411178668, 1428497956, 1428451769, 1427990169, 1424519827, 1427483759, 1428494851, 1413805807,
+            1428445645, 1426512686, 1420416913, 1427840043, 1416606186, 1424506519, 1426181747, 1417098447,
+            1425101112, 1412124317, 1425538881, 1428234833, 1412450341, 1428012130, 1418823006, 1425304789,
+            1427482722, 1414429950, 1421971516, 1427341111, 1428206057, 1422869453, 1418380072, 1421951749,
+            1425488923, 1419056854, 1424026309, 1427307170, 1420645666, 1416985075, 1419052886, 1423908698,
+            1422271891, 1425538212, 1426830127, 1415252913, 1422412966, 1414457949, 1417410377, 1427271614,
+            1428057388, 1420879608, 1421909572, 1420371790, 1428426721, 1413819867, 1419522192, 1427454272,
+            1425477764, 1423855387, 1419409381, 1423556165, 1428119283, 1412194787, 1426940994, 1425060090,
+            1428426623, 1426172462, 1420968894, 1414242734, 1421835723, 1424093369, 1423899753, 1424438666,
+            1426046378, 1425604294, 1425662158, 1427939577, 1402641892, 1424431527, 1417842442, 1422271698,
+            1412122985, 1405668387, 1428125125, 1425622839, 1425626806, 1425707034, 1427305406, 1422867323,
+            1426304622, 1428512887, 1427090560, 1423041137, 1421428758, 1428198830, 1413305363, 1427787088,
+            1418410038, 1427799116, 1423898947, 1426262762, 1419772856, 1425722910, 1427114887, 1424406382,
+            1427512628, 1419305418, 1427597821, 1421280178, 1422350062, 1428142014, 1424766512, 1419486007,
+            1419407906, 1428148580, 1420048785, 1423868792, 1417832842, 1410186062, 1420030522, 1422109547,
+            1428159530, 1412145706, 1420212182, 1419526470, 1415859346, 1405338062, 1418751327, 1428040807,
+            1423889531, 1426028850, 1414419694, 1411200326, 1421075203, 1414941521, 1423909772, 1422616399,
+            1415040094, 1428131196, 1422178931, 1421305636, 1415362453, 1423105798, 1424246336, 1422096082,
+            1417458974, 1428285147, 1428243931, 1426064920, 1422780787, 1424788120, 1425722678, 1420973400,
+            1424855904, 1411612275, 1420507904, 1428056597, 1423190032, 1423507409, 1423657051, 1426685911,
+            1425552301, 1425569757, 1428390844, 1422970271, 1415282229, 1418799110, 1426056420, 1426688382,
+            1407201878, 1424465216, 1421278001, 1427638910, 1426600189, 1425289481, 1426779809, 1425797765,
+            1423529883, 1427515926, 1427036293, 1419487830, 1417932539, 1420088363, 1408419744, 1425371382,
+            1419493808, 1427018004, 1422902521, 1423741309, 1422891135, 1424706833, 1425809245, 1424009599,
+            1424411025, 1421169475, 1420716893, 1423644976, 1421321749, 1425618666, 1424609546, 1427532400,
+            1427538257, 1420076629, 1426354753, 1425365258, 1420000561, 1419055081, 1423114158, 1426898247,
+            1427593152, 1424255855, 1419578977, 1426170143, 1427872421, 1404371926, 1417440410, 1418393224,
+            1427276523, 1425640479, 1419857154, 1428043284, 1423491903, 1423500389, 1426259394, 1426784862,
+            1411640177, 1417251593, 1418976490, 1407388837, 1426067442, 1426930849, 1427330343, 1425626714,
+            1419335465, 1411717981, 1422272926, 1425229373, 1415626248, 1425310450, 1423376287, 1428054519,
+            1426568937, 1425558522, 1427457531, 1416905545, 1428497683, 1418494031, 1425905409, 1418040879,
+            1412138395, 1426010616, 1424093586, 1428158670, 1427891128, 1426745934, 1424964135, 1419330818,
+            1423821605, 1418646557, 1422254517, 1418148979, 1423896893, 1426232973, 1423900185, 1426060680,
+            1423971538, 1427349710, 1426770267, 1426844127, 1403545722, 1419423837, 1425785591, 1420090615,
+            1415896756, 1423070981, 1428216888, 1420551773, 1423457243, 1426607106, 1425460801, 1412471539,
+            1412193249, 1407250678, 1428367208, 1419775545, 1414524667, 1426750243, 1424856816, 1425030859,
+            1418389789, 1424305025, 1425909006, 1413680822, 1428053615, 1426770904, 1416035841, 1417680951,
+            1424365003, 1416568018, 1422956895, 1426031712, 1419418644, 1418825488, 1427565226, 1427557465,
+            1422281937, 1421754963, 1412371843, 1423899102, 1428159094, 1425537445, 1422928492, 1425025873,
+            1423414808, 1427386465, 1420651258, 1421678298, 1426954571, 1427462738, 1427917060, 1422181247,
+            1425920151, 1421345186, 1413292477, 1413976712, 1416895496, 1420951070, 1413578509, 1411225163,
+            1418150884, 1421868502, 1427443644, 1424714325, 1427863304, 1427041928, 1415715378, 1428149334,
+            1424691215, 1414424259, 1426828909, 1420429328, 1427406365, 1421366991, 1413729835, 1420528535,
+            1422120022, 1428350673, 1408720054, 1424442757, 1427081833, 1425412886, 1425562965, 1428413718,
+            1427335399, 1428046568, 1427286911, 1426476326, 1427136242, 1415831469, 1422900501, 1427005490,
+            1422289042, 1427897567, 1421318198, 1415595279, 1427953478, 1417693651, 1426178570, 1419438325,
+            1426875911, 1426351562, 1425474652, 1427040712, 1427646084, 1417870038, 1421667358, 1426839195,
+            1406782877, 1410122982, 1428194872, 1427294022, 1427871073, 1427271371, 1425405150, 1424865943,
+            1423311635, 1424350357, 1414161679, 1422213962, 1423923999, 1427917784, 1415956190, 1427879320,
+            1426925238, 1425997519, 1422012492, 1427707332, 1427281782, 1426860519, 1420313836, 1415551859,
+            1420655276, 1428401595, 1415620844, 1425474100, 1427452591, 1428271874, 1415710675, 1427701018,
+            1419449962, 1425602630, 1427770112, 1414658363, 1416587340, 1422265221, 1423868350, 1427907976,
+            1412870952, 1426846500, 1428363861, 1418182271, 1428331959, 1428323762, 1428256702, 1421658818,
+            1421374489, 1417232159, 1427938614, 1427375670, 1422876347, 1427928697, 1427420427, 1426514615,
+            1420610134, 1427959745, 1428038461, 1410534875, 1415753814, 1409981279, 1413376199, 1427262287,
+            1425774540, 1413628889, 1422605010, 1425905545, 1425666487, 1411726934, 1423268432, 1418888519,
+            1427808912, 1420513141, 1426561089, 1416883154, 1415457310, 1416797270, 1425903047, 1427433185,
+            1418372460, 1427256262, 1427366117, 1414550069, 1427188597, 1425816119, 1413606895, 1422265357,
+            1426779422, 1426754709, 1410502466, 1413725411, 1414421773, 1422162688, 1426502954, 1424305110,
+            1410249131, 1423056999, 1426391551, 1426332581, 1411615293, 1426547750, 1425260252, 1421116905,
+            1427960736, 1425014633, 1423707316, 1418025746, 1413147188, 1427426125, 1426424021, 1418364306,
+            1423400203, 1418918587, 1420823484, 1426143904, 1420728756, 1414834961, 1418964661, 1427809555,
+            1412588092, 1425831308, 1413182543, 1423421665, 1416267349, 1428465972, 1413825784, 1427197548,
+            1414836008, 1427944824, 1427467038, 1422683722, 1428429597, 1417421254, 1424273914, 1427384513,
+            1428384082, 1422248697, 1427079609, 1426058706, 1426294561, 1426910606, 1422263544, 1427034778,
+            1423790055, 1424219710, 1421660522, 1427850611, 1418781523, 1419480248, 1420524018, 1428460986,
+            1413293495, 1426649053, 1428507780, 1423111483, 1424627626, 1418730576, 1415347366, 1421011598,
+            1412648890, 1426648674, 1428456255, 1425113062, 1427463169, 1428299017, 1428190130, 1413608845,
+            1412249914, 1405493004, 1412838495, 1419411066, 1418204795, 1425884710, 1420086375, 1427618147,
+            1414491942, 1422973027, 1413770618, 1414483335, 1418268866, 1420696604, 1419494087, 1422940491,
+            1411384552, 1424472349, 1420184772, 1427868884, 1428195762, 1428452828, 1412422242, 1428396283,
+            1415066059, 1428222271, 1423119192, 1425193321, 1428068631, 1421791676, 1419941990, 1425737231,
+            1412948155, 1411141727, 1422056974, 1416621720, 1428306117, 1424951436, 1424434518, 1415970122,
+            1426049220, 1426123579, 1413535783, 1427606749, 1417524010, 1426677518, 1426920543, 1428489753,
+            1421724126, 1417920971, 1419762983, 1427270200, 1428307386, 1428139832, 1417499870, 1428504885,
+            1428472431, 1421467872, 1423132782, 1427094497, 1424838826, 1417755373, 1422617613, 1425458512,
+            1418204261, 1426579138, 1423959893, 1428290459, 1426762268, 1427166048, 1426656295, 1423293628,
+            1423270952, 1427795139, 1426737210, 1419203227, 1428025977, 1427416318, 1417450008, 1424381901,
+            1428325280, 1415452582, 1423643543, 1423881155, 1422860180, 1405766470, 1426993109, 1426513140,
+            1418978791, 1425985316, 1428321467, 1425398277, 1428318116, 1427611322, 1428216791, 1426834091,
+            1418363502, 1417319764, 1427027039, 1422003339, 1408247673, 1419474695, 1427960035, 1427002454,
+            1424660788, 1412347949, 1427787958, 1426954621, 1424268829, 1428309566, 1425822765, 1426753881,
+            1424224911, 1422434651, 1427014273, 1426667775, 1414131195, 1423197689, 1426120852, 1428012272,
+            1428371822, 1426122625, 1416603865, 1421723463, 1421534590, 1427941628, 1425152868, 1415214631,
+            1421118827, 1424449020, 1426981217, 1416302848, 1425481154, 1425347212, 1425896835, 1421021264,
+            1428506250, 1424949889, 1414158538, 1420101194, 1421939399, 1421507038, 1420546879, 1424354613,
+            1428227824, 1427887489, 1417499764, 1427996666, 1421704555, 1428509729, 1421938666, 1425193458,
+            1425644205, 1421982650, 1427349676, 1427462954, 1427271004, 1422178999, 1425235359, 1423919966,
+            1426750595, 1422380018, 1427657240, 1417623038, 1412862110, 1424937752, 1420803527, 1428067694,
+            1425467562, 1426942417, 1424715052, 1419677244, 1427991421, 1424154714, 1422435877, 1416040028,
+            1428006866, 1424423545, 1427454781, 1428391433, 1410411115, 1428085333, 1425743004, 1426791820,
+            1427655526, 1424958099, 1427313384, 1422063911, 1427145996, 1426627397, 1427907336, 1416678567,
+            1427497313, 1414687700, 1420932307, 1426943101, 1426922490, 1418778267, 1428015413, 1412024604,
+            1424080567, 1414559748, 1423915350, 1427205727, 1417420607, 1416572123, 1417648646, 1425481956,
+            1423288397, 1420048914, 1426605689, 1428322721, 1422996017, 1424102843, 1421608040, 1424715213,
+            1410303117, 1415222756, 1428164421, 1423708018, 1427058849, 1423432826, 1415370344, 1416601435,
+            1417058565, 1420223178, 1426890967, 1424292129, 1426419439, 1425686919, 1419814440, 1421611407,
+            1427045262, 1421189206, 1425341602, 1428321233, 1421934232, 1422982493, 1425111731, 1414186007,
+            1426369070, 1426791358, 1411692967, 1419546312, 1425097543, 1428231510, 1416722825, 1428077237,
+            1427761524, 1426014443, 1418419762, 1426016888, 1424180786, 1422135203, 1424123587, 1426018934,
+            1427986118, 1428457794, 1406037003, 1419526360,
+        };
+    }
+}
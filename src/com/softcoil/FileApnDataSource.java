@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Serves a dataset downloaded by {@link ApnDatasetUpdater}.
+ *
+ * The file is read into memory the first time a lookup needs it. Until a dataset has been downloaded,
+ * or if the file cannot be read, lookups are answered by the fallback source instead. A
+ * downloaded dataset is a complete table so it replaces the fallback rather than layering on
+ * top of it; that way entries removed on the server stay removed.
+ */
+public class FileApnDataSource implements ApnDataSource {
+
+    private final File file;
+    private final ApnDataSource fallback;
+    private volatile ApnDataSource current;
+    private volatile Integer headerVersion;
+
+    /**
+     * @param file The dataset file.
+     * @param fallback The source to use until the file exists, usually an EmbeddedApnDataSource.
+     */
+    public FileApnDataSource(File file, ApnDataSource fallback) {
+        this.file = file;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public ApnParameters get(String key) {
+        return load().get(key);
+    }
+
+    /**
+     * Only reads the header of the file if the dataset has not been loaded yet, so the version
+     * can be checked against cached resolutions without loading the data.
+     */
+    @Override
+    public int getVersion() {
+        ApnDataSource source = current;
+        if(source != null) return source.getVersion();
+
+        Integer version = headerVersion;
+        if(version == null) {
+            version = readVersion();
+            headerVersion = version;
+        }
+        return version;
+    }
+
+    @Override
+    public Iterable<String> keys() {
+        return load().keys();
+    }
+
+    /**
+     * Start serving a newly downloaded dataset.
+     */
+    void set(ApnDataset dataset) {
+        current = dataset;
+    }
+
+    private ApnDataSource load() {
+        ApnDataSource source = current;
+        if(source == null) {
+            synchronized(this) {
+                source = current;
+                if(source == null) {
+                    source = read();
+                    current = source;
+                }
+            }
+        }
+        return source;
+    }
+
+    private int readVersion() {
+        if(file.exists()) {
+            try {
+                DataInputStream in = new DataInputStream(new FileInputStream(file));
+                try {
+                    if(in.readInt() == ApnDataset.MAGIC) return in.readInt();
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                //Unreadable, so the fallback will be served.
+            }
+        }
+
+        return fallback.getVersion();
+    }
+
+    private ApnDataSource read() {
+        if(file.exists()) {
+            try {
+                long start = System.nanoTime();
+                InputStream in = new BufferedInputStream(new FileInputStream(file));
+                try {
+                    ApnDataset dataset = ApnDataset.read(in);
+                    ApnEventListener listener = ApnEventListener.getListener();
+                    if(listener != null) {
+                        listener.onDatasetLoaded("file", dataset.getVersion(), dataset.size(), System.nanoTime() - start);
+                    }
+                    return dataset;
+                } finally {
+                    in.close();
+                }
+            } catch (IOException e) {
+                //Serve the fallback, the next update will replace the file.
+            }
+        }
+
+        return fallback;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock free histogram of durations with fixed power of two buckets: bucket i counts durations
+ * from 2^i up to 2^(i+1) nanoseconds. Recording is a single uncontended atomic increment, as each
+ * thread increments its own stripe of buckets, so it is cheap enough to leave on permanently.
+ * Percentiles read from a snapshot are accurate to within a factor of two.
+ */
+public class LatencyHistogram {
+
+    public static final int BUCKETS = 40;
+
+    private final Striped buckets = new Striped(BUCKETS);
+
+    /**
+     * @param nanos The duration to record.
+     */
+    public void record(long nanos) {
+        buckets.increment(bucket(nanos));
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(buckets.sum());
+    }
+
+    static int bucket(long nanos) {
+        if(nanos <= 1) return 0;
+        return Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * The counts of a histogram at one point in time.
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+
+        Snapshot(long[] counts) {
+            this.counts = counts;
+            long total = 0;
+            for(long c : counts) total += c;
+            this.count = total;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @param bucket A bucket between 0 and BUCKETS - 1.
+         * @return How many durations fell between 2^bucket and 2^(bucket+1) nanoseconds.
+         */
+        public long getBucketCount(int bucket) {
+            return counts[bucket];
+        }
+
+        /**
+         * @param percentile A percentile between 0 and 100.
+         * @return The upper bound in nanoseconds of the bucket holding that percentile, or 0 if
+         * nothing has been recorded.
+         */
+        public long getPercentileNanos(double percentile) {
+            if(count == 0) return 0;
+            long rank = (long) Math.ceil(count * percentile / 100.0);
+            long seen = 0;
+            for(int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if(seen >= rank && seen > 0) return 1L << (i + 1);
+            }
+            return 1L << BUCKETS;
+        }
+    }
+
+    /**
+     * A set of counters striped by thread so that threads on different cores rarely touch the
+     * same cache line.
+     */
+    static class Striped {
+        //Keep each stripe a multiple of a 64 byte cache line apart.
+        private static final int LINE = 8;
+
+        private final int counters;
+        private final int stride;
+        private final int mask;
+        private final AtomicLongArray cells;
+
+        Striped(int counters) {
+            int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+            stripes = Math.min(64, stripes);
+            this.counters = counters;
+            this.stride = (counters + LINE - 1) / LINE * LINE;
+            this.mask = stripes - 1;
+            this.cells = new AtomicLongArray(stripes * stride);
+        }
+
+        void increment(int counter) {
+            cells.getAndIncrement(index(counter));
+        }
+
+        void add(int counter, long delta) {
+            cells.getAndAdd(index(counter), delta);
+        }
+
+        /**
+         * Bump a counter without an atomic read-modify-write. Another thread sharing the stripe
+         * may occasionally lose an update, so use this only where that does not matter.
+         *
+         * @return The counter's new value.
+         */
+        long tick(int counter) {
+            int index = index(counter);
+            long value = cells.get(index) + 1;
+            cells.lazySet(index, value);
+            return value;
+        }
+
+        private int index(int counter) {
+            return ((int) Thread.currentThread().getId() & mask) * stride + counter;
+        }
+
+        long[] sum() {
+            long[] totals = new long[counters];
+            for(int stripe = 0; stripe <= mask; stripe++) {
+                for(int i = 0; i < counters; i++) {
+                    totals[i] += cells.get(stripe * stride + i);
+                }
+            }
+            return totals;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Consults several data sources in priority order and answers with the first match. Every layer
+ * answers from its own index so a lookup costs at most one probe per layer. Example:<br/>
+ *  <pre>
+ *  ApnDefaults.setDataSource(new LayeredApnDataSource(
+ *          overrides,
+ *          updater.getDataSource()));
+ *  </pre>
+ *
+ * Report counts for a key come from the first layer that has the key and keeps report counts.
+ */
+public class LayeredApnDataSource implements ApnDataSource, ApnReportStats {
+
+    private final ApnDataSource[] layers;
+
+    /**
+     * @param layers The sources to consult, highest priority first.
+     */
+    public LayeredApnDataSource(ApnDataSource... layers) {
+        this.layers = layers.clone();
+    }
+
+    @Override
+    public ApnParameters get(String key) {
+        for(ApnDataSource layer : layers) {
+            ApnParameters apnParameters = layer.get(key);
+            if(apnParameters != null) return apnParameters;
+        }
+        return null;
+    }
+
+    @Override
+    public int getReportCount(String key) {
+        ApnReportStats stats = reportStats(key);
+        return stats != null ? stats.getReportCount(key) : 0;
+    }
+
+    @Override
+    public long getLastReportMillis(String key) {
+        ApnReportStats stats = reportStats(key);
+        return stats != null ? stats.getLastReportMillis(key) : 0;
+    }
+
+    private ApnReportStats reportStats(String key) {
+        for(ApnDataSource layer : layers) {
+            if(layer instanceof ApnReportStats && layer.get(key) != null) return (ApnReportStats) layer;
+        }
+        return null;
+    }
+
+    /**
+     * @return A hash of the layers' versions, enough to notice that one of them changed. Use
+     * {@link #versions} where two different sets of versions must never look the same.
+     */
+    @Override
+    public int getVersion() {
+        int version = 17;
+        for(ApnDataSource layer : layers) {
+            version = 31 * version + layer.getVersion();
+        }
+        return version;
+    }
+
+    /**
+     * @return The version of each layer of the source, in priority order, with nested layered
+     * sources flattened, or just the source's version if it is not layered.
+     */
+    static int[] versions(ApnDataSource source) {
+        List<Integer> versions = new ArrayList<Integer>();
+        addVersions(source, versions);
+        int[] result = new int[versions.size()];
+        for(int i = 0; i < result.length; i++) result[i] = versions.get(i);
+        return result;
+    }
+
+    private static void addVersions(ApnDataSource source, List<Integer> versions) {
+        if(source instanceof LayeredApnDataSource) {
+            for(ApnDataSource layer : ((LayeredApnDataSource) source).layers) addVersions(layer, versions);
+        } else {
+            versions.add(source.getVersion());
+        }
+    }
+
+    @Override
+    public Iterable<String> keys() {
+        Set<String> keys = new LinkedHashSet<String>();
+        for(ApnDataSource layer : layers) {
+            for(String key : layer.keys()) keys.add(key);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves a dataset straight out of a memory mapped file, so a large table costs no heap until
+ * its entries are actually used.
+ *
+ * The file holds an open addressing hash table followed by the records it points at:
+ * <pre>
+ *  int     magic ('APNM')
+ *  int     dataset version
+ *  int     entry count
+ *  int     slot count, a power of two
+ *  slots   key hash, record offset (0 for an empty slot)
+ *  records key, then the ApnParameters as written by ApnDataset
+ * </pre>
+ *
+ * Keys and strings use the modified UTF-8 of DataOutputStream.writeUTF. A lookup hashes the key,
+ * probes the slots and compares the key against the record in place, so a miss allocates
+ * nothing. Parameters are decoded on the first hit of each entry and kept for later hits.
+ *
+ * An ApnResolver probes it directly, so the heap cost stays at the entries used. An indexed
+ * ApnResolver, such as the one an ApnBatchResolver resolves with, indexes every entry on its first
+ * lookup instead, which decodes the whole file.
+ */
+public class MappedApnDataSource implements ApnDataSource {
+
+    static final int MAGIC = 0x41504E4D;
+
+    private static final int HEADER_SIZE = 16;
+
+    private final ByteBuffer buffer;
+    private final int version;
+    private final int mask;
+    private final ApnParameters[] decoded;
+
+    public MappedApnDataSource(File file) throws IOException {
+        long start = System.nanoTime();
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+        } finally {
+            raf.close();
+        }
+
+        if(buffer.getInt(0) != MAGIC) throw new IOException("Not a mapped APN dataset");
+        version = buffer.getInt(4);
+        int slots = buffer.getInt(12);
+        if(Integer.bitCount(slots) != 1) throw new IOException("Corrupt mapped APN dataset");
+        mask = slots - 1;
+        decoded = new ApnParameters[slots];
+
+        ApnEventListener listener = ApnEventListener.getListener();
+        if(listener != null) listener.onDatasetLoaded("mapped", version, buffer.getInt(8), System.nanoTime() - start);
+    }
+
+    @Override
+    public ApnParameters get(String key) {
+        int hash = hash(key);
+        for(int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int position = HEADER_SIZE + slot * 8;
+            int offset = buffer.getInt(position + 4);
+            if(offset == 0) return null;
+
+            if(buffer.getInt(position) == hash && keyEquals(offset, key)) {
+                ApnParameters apnParameters = decoded[slot];
+                if(apnParameters == null) {
+                    apnParameters = readParameters(offset + 2 + (buffer.getShort(offset) & 0xFFFF));
+                    //Racing threads decode equal, immutable values so either one may win.
+                    decoded[slot] = apnParameters;
+                }
+                return apnParameters;
+            }
+        }
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public Iterable<String> keys() {
+        List<String> keys = new ArrayList<String>(buffer.getInt(8));
+        for(int slot = 0; slot <= mask; slot++) {
+            int offset = buffer.getInt(HEADER_SIZE + slot * 8 + 4);
+            if(offset != 0) keys.add(readString(offset));
+        }
+        return keys;
+    }
+
+    /**
+     * Write a data source in the mapped format.
+     */
+    public static void write(ApnDataSource source, File file) throws IOException {
+        List<String> keys = new ArrayList<String>();
+        for(String key : source.keys()) keys.add(key);
+
+        int slots = Integer.highestOneBit(Math.max(2, keys.size() * 2 - 1)) << 1;
+        int[] table = new int[slots * 2];
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream recordData = new DataOutputStream(records);
+        int base = HEADER_SIZE + slots * 8;
+
+        for(String key : keys) {
+            int offset = base + recordData.size();
+            recordData.writeUTF(key);
+            ApnDataset.writeParameters(recordData, source.get(key));
+
+            int hash = hash(key);
+            int slot = hash & (slots - 1);
+            while(table[slot * 2 + 1] != 0) slot = (slot + 1) & (slots - 1);
+            table[slot * 2] = hash;
+            table[slot * 2 + 1] = offset;
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(source.getVersion());
+            out.writeInt(keys.size());
+            out.writeInt(slots);
+            for(int value : table) out.writeInt(value);
+            records.writeTo(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Compare the key with the modified UTF-8 string at offset without decoding it.
+     */
+    private boolean keyEquals(int offset, String key) {
+        int length = buffer.getShort(offset) & 0xFFFF;
+        int position = offset + 2;
+        int end = position + length;
+
+        for(int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if(c >= 0x0001 && c <= 0x007F) {
+                if(position >= end || buffer.get(position++) != (byte) c) return false;
+            } else if(c <= 0x07FF) {
+                if(position + 1 >= end
+                        || buffer.get(position++) != (byte) (0xC0 | (c >> 6))
+                        || buffer.get(position++) != (byte) (0x80 | (c & 0x3F))) return false;
+            } else {
+                if(position + 2 >= end
+                        || buffer.get(position++) != (byte) (0xE0 | (c >> 12))
+                        || buffer.get(position++) != (byte) (0x80 | ((c >> 6) & 0x3F))
+                        || buffer.get(position++) != (byte) (0x80 | (c & 0x3F))) return false;
+            }
+        }
+
+        return position == end;
+    }
+
+    private String readString(int offset) {
+        int length = buffer.getShort(offset) & 0xFFFF;
+        StringBuilder sb = new StringBuilder(length);
+        int position = offset + 2;
+        int end = position + length;
+
+        while(position < end) {
+            int b = buffer.get(position++) & 0xFF;
+            if(b < 0x80) {
+                sb.append((char) b);
+            } else if(b < 0xE0) {
+                sb.append((char) (((b & 0x1F) << 6) | (buffer.get(position++) & 0x3F)));
+            } else {
+                int b2 = buffer.get(position++) & 0x3F;
+                sb.append((char) (((b & 0x0F) << 12) | (b2 << 6) | (buffer.get(position++) & 0x3F)));
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private ApnParameters readParameters(int offset) {
+        int flags = buffer.get(offset++) & 0xFF;
+
+        String mmscUrl = null;
+        if((flags & ApnDataset.FLAG_MMSC_URL) != 0) {
+            mmscUrl = readString(offset);
+            offset += 2 + (buffer.getShort(offset) & 0xFFFF);
+        }
+
+        String proxyAddress = null;
+        if((flags & ApnDataset.FLAG_PROXY_ADDRESS) != 0) {
+            proxyAddress = readString(offset);
+            offset += 2 + (buffer.getShort(offset) & 0xFFFF);
+        }
+
+        Integer proxyPort = (flags & ApnDataset.FLAG_PROXY_PORT) != 0 ? buffer.getInt(offset) : null;
+
+        return new ApnParameters(mmscUrl, proxyAddress, proxyPort);
+    }
+}
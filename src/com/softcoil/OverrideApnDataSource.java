@@ -0,0 +1,210 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * APN parameters set by the user or the operator of a device fleet, keyed by the same SIM and
+ * network fingerprint as the rest of the data (see {@link ApnDefaults#getCarrierKey}). Put this
+ * layer first in a {@link LayeredApnDataSource} so its entries win over every other source;
+ * ApnDefaults does that by default with {@link ApnDefaults#getOverrides}.
+ *
+ * When given a file the overrides are read from it on first use and written back, in the
+ * ApnDataset binary format, after every change. Push many overrides at once with
+ * {@link #putAll} so the file is only written once. The file is written on the thread making the
+ * change but outside the lock, so lookups never wait on it.
+ */
+public class OverrideApnDataSource implements ApnDataSource {
+
+    private final File file;
+    private volatile ConcurrentHashMap<String, ApnParameters> overrides;
+
+    //Read on every lookup, so without the lock. Changes are made under the lock.
+    private volatile int version;
+
+    //Held while the file is written, so lookups and further changes never wait on the disk.
+    private final Object fileLock = new Object();
+    private int fileVersion;
+
+    /**
+     * Overrides that only live as long as the process.
+     */
+    public OverrideApnDataSource() {
+        this(null);
+    }
+
+    /**
+     * @param file Where the overrides are persisted, or null to keep them in memory only.
+     */
+    public OverrideApnDataSource(File file) {
+        this.file = file;
+        if(file == null) overrides = new ConcurrentHashMap<String, ApnParameters>();
+    }
+
+    @Override
+    public ApnParameters get(String key) {
+        return load().get(key);
+    }
+
+    @Override
+    public int getVersion() {
+        load();
+        return version;
+    }
+
+    @Override
+    public Iterable<String> keys() {
+        return load().keySet();
+    }
+
+    /**
+     * @param key A full or fallback key.
+     * @param apnParameters The parameters to use for that key, or null to remove its override.
+     */
+    public void put(String key, ApnParameters apnParameters) throws IOException {
+        if(apnParameters == null) {
+            remove(key);
+            return;
+        }
+
+        ApnDataset snapshot;
+        synchronized(this) {
+            load().put(key, apnParameters);
+            snapshot = changed();
+        }
+        write(snapshot);
+    }
+
+    /**
+     * Add or replace many overrides at once, for instance a bulk push from a device management
+     * server. Example:<br/>
+     *  <pre>
+     *  ApnDefaults.getOverrides(context).putAll(ApnDataset.read(pushedFile));
+     *  </pre>
+     */
+    public void putAll(ApnDataSource source) throws IOException {
+        ApnDataset snapshot;
+        synchronized(this) {
+            Map<String, ApnParameters> map = load();
+            for(String key : source.keys()) {
+                ApnParameters apnParameters = source.get(key);
+                if(apnParameters != null) map.put(key, apnParameters);
+                else map.remove(key);
+            }
+            snapshot = changed();
+        }
+        write(snapshot);
+    }
+
+    public void remove(String key) throws IOException {
+        ApnDataset snapshot;
+        synchronized(this) {
+            if(load().remove(key) == null) return;
+            snapshot = changed();
+        }
+        write(snapshot);
+    }
+
+    public void clear() throws IOException {
+        ApnDataset snapshot;
+        synchronized(this) {
+            load().clear();
+            snapshot = changed();
+        }
+        write(snapshot);
+    }
+
+    private ConcurrentHashMap<String, ApnParameters> load() {
+        ConcurrentHashMap<String, ApnParameters> map = overrides;
+        if(map == null) {
+            synchronized(this) {
+                map = overrides;
+                if(map == null) {
+                    map = new ConcurrentHashMap<String, ApnParameters>();
+                    if(file.exists()) {
+                        try {
+                            long start = System.nanoTime();
+                            InputStream in = new BufferedInputStream(new FileInputStream(file));
+                            try {
+                                ApnDataset dataset = ApnDataset.read(in);
+                                for(String key : dataset.keys()) map.put(key, dataset.get(key));
+                                version = dataset.getVersion();
+
+                                ApnEventListener listener = ApnEventListener.getListener();
+                                if(listener != null) {
+                                    listener.onDatasetLoaded("overrides", version, dataset.size(), System.nanoTime() - start);
+                                }
+                            } finally {
+                                in.close();
+                            }
+                        } catch (IOException e) {
+                            //An unreadable file is treated as no overrides, the next change replaces it.
+                        }
+                    }
+                    overrides = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Bump the version after a change. Called with the lock held.
+     *
+     * @return The overrides as they now are, to write to the file, or null if there is no file.
+     */
+    private ApnDataset changed() {
+        version++;
+        if(file == null) return null;
+        return new ApnDataset(version, new HashMap<String, ApnParameters>(overrides));
+    }
+
+    /**
+     * Write the overrides to the file, outside the lock. A snapshot older than the one already
+     * written is skipped, so racing changes cannot leave an older file behind.
+     */
+    private void write(ApnDataset snapshot) throws IOException {
+        if(snapshot == null) return;
+        synchronized(fileLock) {
+            if(snapshot.getVersion() <= fileVersion) return;
+
+            File temp = new File(file.getPath() + ".tmp");
+            OutputStream out = new BufferedOutputStream(new FileOutputStream(temp));
+            try {
+                snapshot.write(out);
+            } finally {
+                out.close();
+            }
+
+            if(!temp.renameTo(file)) {
+                temp.delete();
+                throw new IOException("Could not replace " + file);
+            }
+            fileVersion = snapshot.getVersion();
+        }
+    }
+}
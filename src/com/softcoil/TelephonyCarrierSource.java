@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.telephony.PhoneStateListener;
+import android.telephony.ServiceState;
+import android.telephony.TelephonyManager;
+
+/**
+ * Reports carrier changes from the TelephonyManager: a service state change for the serving
+ * network, and the SIM state broadcast for SIM swaps. The four telephony values are read once per
+ * change instead of on every lookup.
+ *
+ * PhoneStateListener callbacks arrive on the thread that started the source, which must have a
+ * Looper, so start it from the main thread.
+ */
+public class TelephonyCarrierSource extends ApnCarrierSource {
+
+    //Not in the public SDK but broadcast by every release.
+    static final String ACTION_SIM_STATE_CHANGED = "android.intent.action.SIM_STATE_CHANGED";
+
+    private final Context context;
+    private final TelephonyManager tm;
+    private PhoneStateListener phoneStateListener;
+    private BroadcastReceiver simReceiver;
+
+    public TelephonyCarrierSource(Context context) {
+        this.context = context.getApplicationContext();
+        this.tm = (TelephonyManager) this.context.getSystemService(Context.TELEPHONY_SERVICE);
+    }
+
+    @Override
+    public synchronized void start(final Listener listener) {
+        stop();
+
+        phoneStateListener = new PhoneStateListener() {
+            @Override
+            public void onServiceStateChanged(ServiceState serviceState) {
+                report(listener);
+            }
+        };
+        simReceiver = new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                report(listener);
+            }
+        };
+
+        tm.listen(phoneStateListener, PhoneStateListener.LISTEN_SERVICE_STATE);
+        context.registerReceiver(simReceiver, new IntentFilter(ACTION_SIM_STATE_CHANGED));
+        report(listener);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if(phoneStateListener != null) {
+            tm.listen(phoneStateListener, PhoneStateListener.LISTEN_NONE);
+            phoneStateListener = null;
+        }
+        if(simReceiver != null) {
+            context.unregisterReceiver(simReceiver);
+            simReceiver = null;
+        }
+    }
+
+    private void report(Listener listener) {
+        listener.onCarrierChanged(tm.getSimOperator(), tm.getSimOperatorName(),
+                tm.getNetworkOperator(), tm.getNetworkOperatorName());
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Exports a dataset as apns-conf.xml or as JSON lines, for teams that want the data in a
+ * standard format. Run it with runTool.sh:
+ * <pre>
+ *  ./runTool.sh ApnConfExporter --format xml --out apns-conf.xml
+ *  ./runTool.sh ApnConfExporter --format jsonl --dataset downloaded.apnd | gzip > apns.jsonl.gz
+ * </pre>
+ *
+ * Entries are written one at a time as the data source's keys are walked, through a StAX writer
+ * for XML, so nothing but the dataset itself is held in memory however large it is.
+ *
+ * In XML each entry is an MMS apn element. The SIM operator name of a full key becomes an SPN
+ * MVNO match, the way AOSP tells carriers sharing an MCCMNC apart. apns-conf has no place for the
+ * network operator, so it goes in a comment before the element along with the key's report
+ * count and last report time. Keys without a valid SIM MCCMNC cannot be expressed and are left
+ * out of the XML.
+ *
+ * Each JSON line is an object with the four parts of the key, the raw parameters, and the report
+ * count and last report time. Report counts are only written for data sources that keep them
+ * (see ApnReportStats), such as the embedded table; a downloaded dataset has none, so they are
+ * left out rather than written as zero. Options:
+ * <pre>
+ *  --format xml|jsonl   the output format, xml by default
+ *  --dataset file       export a downloaded dataset instead of the embedded table
+ *  --out file           write to a file instead of stdout
+ * </pre>
+ */
+public class ApnConfExporter {
+
+    public static final String FORMAT_XML = "xml";
+    public static final String FORMAT_JSON_LINES = "jsonl";
+
+    private final SimpleDateFormat timestamps;
+
+    private int exported;
+    private int skipped;
+
+    public ApnConfExporter() {
+        timestamps = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
+        timestamps.setTimeZone(TimeZone.getTimeZone("UTC"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String format = FORMAT_XML;
+        String datasetFile = null;
+        String outFile = null;
+        for(int i = 0; i < args.length; i++) {
+            if(args[i].equals("--format")) format = args[++i];
+            else if(args[i].equals("--dataset")) datasetFile = args[++i];
+            else if(args[i].equals("--out")) outFile = args[++i];
+            else throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+        if(!format.equals(FORMAT_XML) && !format.equals(FORMAT_JSON_LINES)) {
+            throw new IllegalArgumentException("Unknown format " + format);
+        }
+
+        ApnDataSource source;
+        if(datasetFile == null) {
+            source = new EmbeddedApnDataSource();
+        } else {
+            InputStream in = new BufferedInputStream(new FileInputStream(datasetFile));
+            try {
+                source = ApnDataset.read(in);
+            } finally {
+                in.close();
+            }
+        }
+
+        ApnConfExporter exporter = new ApnConfExporter();
+        OutputStream out = outFile != null ? new FileOutputStream(outFile) : System.out;
+        try {
+            if(format.equals(FORMAT_XML)) exporter.writeXml(source, out);
+            else exporter.writeJsonLines(source, out);
+        } finally {
+            if(outFile != null) out.close();
+        }
+
+        System.err.println(String.format("%,d entries exported, %,d left out", exporter.exported, exporter.skipped));
+    }
+
+    /**
+     * Write the data source as apns-conf.xml.
+     */
+    public void writeXml(ApnDataSource source, OutputStream out) throws IOException {
+        try {
+            XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(
+                    new BufferedWriter(new OutputStreamWriter(out, "UTF-8"), 1 << 16));
+            xml.writeStartDocument("utf-8", "1.0");
+            xml.writeCharacters("\n");
+            xml.writeComment(" Exported from ApnDefaults dataset version " + source.getVersion() + " ");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("apns");
+            xml.writeAttribute("version", "8");
+            xml.writeCharacters("\n");
+
+            ApnReportStats stats = source instanceof ApnReportStats ? (ApnReportStats) source : null;
+            for(String key : source.keys()) {
+                ApnParameters apnParameters = source.get(key);
+                String[] parts = parts(key);
+                String simOperator = parts[0];
+                if(apnParameters == null || ApnMccMnc.encode(simOperator) == ApnMccMnc.INVALID) {
+                    skipped++;
+                    continue;
+                }
+
+                String safeKey = xmlText(key);
+                while(safeKey.contains("--")) safeKey = safeKey.replace("--", "- -");
+                StringBuffer comment = new StringBuffer(" ").append(safeKey);
+                if(stats != null) appendReports(comment.append(" ("), stats, key).append(')');
+                comment.append(' ');
+                xml.writeCharacters("\n  ");
+                xml.writeComment(comment.toString());
+                xml.writeCharacters("\n  ");
+
+                String simOperatorName = parts[1];
+                xml.writeEmptyElement("apn");
+                xml.writeAttribute("carrier", xmlText(carrier(parts)));
+                xml.writeAttribute("mcc", simOperator.substring(0, 3));
+                xml.writeAttribute("mnc", simOperator.substring(3));
+                xml.writeAttribute("apn", "mms");
+                if(apnParameters.mmscUrl != null) xml.writeAttribute("mmsc", xmlText(apnParameters.mmscUrl));
+                if(apnParameters.proxyAddress != null) xml.writeAttribute("mmsproxy", xmlText(apnParameters.proxyAddress));
+                if(apnParameters.proxyPort != null) xml.writeAttribute("mmsport", apnParameters.proxyPort.toString());
+                xml.writeAttribute("type", "mms");
+                if(simOperatorName != null && simOperatorName.trim().length() != 0) {
+                    xml.writeAttribute("mvno_type", "spn");
+                    xml.writeAttribute("mvno_match_data", xmlText(simOperatorName));
+                }
+                exported++;
+            }
+
+            xml.writeCharacters("\n");
+            xml.writeEndElement();
+            xml.writeCharacters("\n");
+            xml.writeEndDocument();
+            xml.flush();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Write the data source as one JSON object per line.
+     */
+    public void writeJsonLines(ApnDataSource source, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, "UTF-8"), 1 << 16);
+        StringBuffer line = new StringBuffer(256);
+        ApnReportStats stats = source instanceof ApnReportStats ? (ApnReportStats) source : null;
+        for(String key : source.keys()) {
+            ApnParameters apnParameters = source.get(key);
+            if(apnParameters == null) {
+                skipped++;
+                continue;
+            }
+
+            String[] parts = parts(key);
+            line.setLength(0);
+            line.append('{');
+            appendJson(line, "key", key).append(',');
+            appendJson(line, "sim_operator", parts[0]).append(',');
+            appendJson(line, "sim_operator_name", parts[1]).append(',');
+            appendJson(line, "network_operator", parts[2]).append(',');
+            appendJson(line, "network_operator_name", parts[3]).append(',');
+            appendJson(line, "mmsc_url", apnParameters.mmscUrl).append(',');
+            appendJson(line, "proxy_address", apnParameters.proxyAddress).append(',');
+            line.append("\"proxy_port\":").append(apnParameters.proxyPort);
+
+            if(stats != null) {
+                int reportCount = stats.getReportCount(key);
+                line.append(",\"report_count\":").append(reportCount).append(',');
+                appendJson(line, "last_report", reportCount > 0
+                        ? timestamps.format(new Date(stats.getLastReportMillis(key))) : null);
+            }
+            line.append("}\n");
+
+            writer.write(line.toString());
+            exported++;
+        }
+        writer.flush();
+    }
+
+    /**
+     * @return The four parts of a full key, or the SIM MCCMNC and three nulls for a bare key.
+     */
+    private static String[] parts(String key) {
+        String[] parts = key.split("\\|", -1);
+        return parts.length == 4 ? parts : new String[] { key, null, null, null };
+    }
+
+    private static String carrier(String[] parts) {
+        for(String name : new String[] { parts[1], parts[3] }) {
+            if(name != null && name.trim().length() != 0) return name.trim();
+        }
+        return parts[0];
+    }
+
+    /**
+     * XML 1.0 cannot carry most control characters even escaped, and some operator names
+     * contain them, so they are replaced.
+     */
+    static String xmlText(String value) {
+        StringBuffer sb = null;
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean allowed = c >= 0x20 ? c < 0xFFFE : c == '\t' || c == '\n' || c == '\r';
+            if(allowed && sb == null) continue;
+            if(sb == null) sb = new StringBuffer(value.substring(0, i));
+            sb.append(allowed ? c : '\uFFFD');
+        }
+        return sb != null ? sb.toString() : value;
+    }
+
+    private StringBuffer appendReports(StringBuffer sb, ApnReportStats stats, String key) {
+        int reportCount = stats.getReportCount(key);
+        if(reportCount == 0) return sb.append("Report Count: 0");
+        return sb.append("Report Count: ").append(reportCount)
+                .append(", Last Report: ").append(timestamps.format(new Date(stats.getLastReportMillis(key))));
+    }
+
+    private static StringBuffer appendJson(StringBuffer sb, String name, String value) {
+        sb.append('"').append(name).append("\":");
+        if(value == null) return sb.append("null");
+
+        sb.append('"');
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch(c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                default:
+                    if(c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+            }
+        }
+        return sb.append('"');
+    }
+}
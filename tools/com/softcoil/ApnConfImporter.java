@@ -0,0 +1,373 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Imports the MMS APNs of an AOSP apns-conf.xml into the dataset format, as bare SIM MCCMNC
+ * entries merged with a crowdsourced dataset. Run it with runTool.sh:
+ * <pre>
+ *  ./runTool.sh ApnConfImporter --conf apns-full-conf.xml --out merged.apnd
+ * </pre>
+ *
+ * The file is read with StAX one element at a time, so memory grows with the number of distinct
+ * MCCMNCs rather than with the file. An apn element is imported when it has an MMSC and its type
+ * is missing, "*" or includes "mms". MVNO entries share their host's MCCMNC and are skipped
+ * unless --include-mvno is given. Where the file has several MMS APNs for one MCCMNC the first
+ * one wins.
+ *
+ * Conflicts with the crowdsourced data are resolved as follows:
+ * <ul>
+ *  <li>A bare entry already in the dataset is kept, since those were checked by hand, unless
+ *  --prefer-conf is given.</li>
+ *  <li>Otherwise, when full keys for the MCCMNC were reported, the imported entry is compared with
+ *  the most reported parameters among them. If they disagree and those parameters have at least
+ *  --min-reports reports, the reports win and no bare entry is added.</li>
+ *  <li>Anything else is added.</li>
+ * </ul>
+ * Parameters are compared ignoring case and a trailing slash on the MMSC URL and the default
+ * proxy port. Options:
+ * <pre>
+ *  --conf file          the apns-conf.xml to import
+ *  --dataset file       merge into a downloaded dataset instead of the embedded table
+ *  --out file           where to write the merged dataset
+ *  --version n          version of the merged dataset, one more than the base by default
+ *  --prefer-conf        replace bare entries that disagree with the file
+ *  --include-mvno       import MVNO entries too
+ *  --min-reports n      reports needed for crowdsourced parameters to win, 10 by default
+ * </pre>
+ */
+public class ApnConfImporter {
+
+    public static final int DEFAULT_MIN_REPORTS = 10;
+
+    //Finding the StAX implementation is slow, so it is done once.
+    private static final XMLInputFactory FACTORY = XMLInputFactory.newInstance();
+
+    static {
+        FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        FACTORY.setProperty(XMLInputFactory.IS_COALESCING, false);
+    }
+
+    private final ApnDataSource base;
+    private boolean preferConf;
+    private boolean includeMvno;
+    private int minReports = DEFAULT_MIN_REPORTS;
+
+    //What the crowd reported most for each SIM MCCMNC, and how often.
+    private Map<String, ApnParameters> reported;
+    private Map<String, Integer> reportedCounts;
+
+    private final Map<String, ApnParameters> imported = new TreeMap<String, ApnParameters>();
+    private final Stats stats = new Stats();
+
+    public ApnConfImporter(ApnDataSource base) {
+        this.base = base;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String confFile = null;
+        String datasetFile = null;
+        String outFile = null;
+        Integer version = null;
+        boolean preferConf = false;
+        boolean includeMvno = false;
+        int minReports = DEFAULT_MIN_REPORTS;
+        for(int i = 0; i < args.length; i++) {
+            if(args[i].equals("--conf")) confFile = args[++i];
+            else if(args[i].equals("--dataset")) datasetFile = args[++i];
+            else if(args[i].equals("--out")) outFile = args[++i];
+            else if(args[i].equals("--version")) version = Integer.parseInt(args[++i]);
+            else if(args[i].equals("--prefer-conf")) preferConf = true;
+            else if(args[i].equals("--include-mvno")) includeMvno = true;
+            else if(args[i].equals("--min-reports")) minReports = Integer.parseInt(args[++i]);
+            else throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+        if(confFile == null) throw new IllegalArgumentException("--conf is required");
+
+        ApnDataset base;
+        if(datasetFile == null) {
+            base = ApnDataset.embedded();
+        } else {
+            InputStream in = new BufferedInputStream(new FileInputStream(datasetFile));
+            try {
+                base = ApnDataset.read(in);
+            } finally {
+                in.close();
+            }
+        }
+
+        ApnConfImporter importer = new ApnConfImporter(base);
+        importer.setPreferConf(preferConf);
+        importer.setIncludeMvno(includeMvno);
+        importer.setMinReports(minReports);
+
+        long start = System.nanoTime();
+        InputStream in = new BufferedInputStream(new FileInputStream(confFile), 1 << 16);
+        try {
+            importer.read(in);
+        } finally {
+            in.close();
+        }
+        ApnDataset merged = importer.merge(version != null ? version : base.getVersion() + 1);
+        long nanos = System.nanoTime() - start;
+
+        if(outFile != null) {
+            OutputStream out = new BufferedOutputStream(new FileOutputStream(outFile));
+            try {
+                merged.write(out);
+            } finally {
+                out.close();
+            }
+        }
+
+        System.out.println(importer.getStats());
+        System.out.println(String.format("%,d entries in the base, %,d in the merged dataset, %.1fms",
+                base.size(), merged.size(), nanos / 1e6));
+    }
+
+    public void setPreferConf(boolean preferConf) {
+        this.preferConf = preferConf;
+    }
+
+    public void setIncludeMvno(boolean includeMvno) {
+        this.includeMvno = includeMvno;
+    }
+
+    public void setMinReports(int minReports) {
+        this.minReports = minReports;
+    }
+
+    public Stats getStats() {
+        return stats;
+    }
+
+    /**
+     * Read the MMS APNs of an apns-conf.xml. May be called for several files; earlier files win.
+     */
+    public void read(InputStream in) throws IOException {
+        try {
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+            try {
+                while(reader.hasNext()) {
+                    if(reader.next() == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals("apn")) {
+                        readApn(reader);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed apns-conf: " + e.getMessage(), e);
+        }
+    }
+
+    private void readApn(XMLStreamReader reader) {
+        stats.apns++;
+
+        String mcc = null;
+        String mnc = null;
+        String type = null;
+        String mmsc = null;
+        String mmsProxy = null;
+        String mmsPort = null;
+        String mvnoType = null;
+        for(int i = 0; i < reader.getAttributeCount(); i++) {
+            String name = reader.getAttributeLocalName(i);
+            String value = reader.getAttributeValue(i).trim();
+            if(name.equals("mcc")) mcc = value;
+            else if(name.equals("mnc")) mnc = value;
+            else if(name.equals("type")) type = value;
+            else if(name.equals("mmsc")) mmsc = value;
+            else if(name.equals("mmsproxy")) mmsProxy = value;
+            else if(name.equals("mmsport")) mmsPort = value;
+            else if(name.equals("mvno_type")) mvnoType = value;
+        }
+
+        if(mmsc == null || mmsc.length() == 0 || !isMmsType(type)) return;
+        stats.mmsApns++;
+
+        if(mvnoType != null && mvnoType.length() != 0 && !includeMvno) {
+            stats.mvnoSkipped++;
+            return;
+        }
+
+        String key = mcc != null && mnc != null ? mcc + mnc : null;
+        if(ApnMccMnc.encode(key) == ApnMccMnc.INVALID) {
+            stats.invalid++;
+            return;
+        }
+
+        ApnParameters apnParameters = new ApnParameters(mmsc,
+                mmsProxy != null && mmsProxy.length() != 0 ? mmsProxy : null, parsePort(mmsPort));
+        ApnParameters previous = imported.get(key);
+        if(previous == null) {
+            imported.put(key, apnParameters);
+        } else if(!sameSettings(previous, apnParameters)) {
+            stats.confConflicts++;
+        }
+    }
+
+    /**
+     * Merge what has been read into the base dataset.
+     */
+    public ApnDataset merge(int version) {
+        Map<String, ApnParameters> entries = new HashMap<String, ApnParameters>();
+        for(String key : base.keys()) entries.put(key, base.get(key));
+        if(reported == null) collectReports();
+
+        for(Map.Entry<String, ApnParameters> entry : imported.entrySet()) {
+            String key = entry.getKey();
+            ApnParameters apnParameters = entry.getValue();
+
+            ApnParameters existing = base.get(key);
+            if(existing != null) {
+                if(sameSettings(existing, apnParameters)) {
+                    stats.agreed++;
+                } else if(preferConf) {
+                    entries.put(key, apnParameters);
+                    stats.replaced++;
+                } else {
+                    stats.keptBare++;
+                }
+                continue;
+            }
+
+            ApnParameters crowd = reported.get(key);
+            if(crowd != null && !sameSettings(crowd, apnParameters) && reportedCounts.get(key) >= minReports) {
+                stats.keptReported++;
+                continue;
+            }
+
+            entries.put(key, apnParameters);
+            if(crowd != null && sameSettings(crowd, apnParameters)) stats.agreed++;
+            stats.added++;
+        }
+
+        return new ApnDataset(version, entries);
+    }
+
+    /**
+     * Find the most reported parameters of each SIM MCCMNC's full keys.
+     */
+    private void collectReports() {
+        Map<String, Map<ApnParameters, Integer>> counts = new HashMap<String, Map<ApnParameters, Integer>>();
+        for(String key : base.keys()) {
+            int end = key.indexOf('|');
+            if(end < 0) continue;
+            String simOperator = key.substring(0, end);
+            if(!imported.containsKey(simOperator)) continue;
+
+            Map<ApnParameters, Integer> byParameters = counts.get(simOperator);
+            if(byParameters == null) {
+                byParameters = new HashMap<ApnParameters, Integer>();
+                counts.put(simOperator, byParameters);
+            }
+            ApnParameters apnParameters = base.get(key);
+            Integer previous = byParameters.get(apnParameters);
+            byParameters.put(apnParameters, (previous != null ? previous : 0) + EmbeddedApnReportStats.reportCount(key));
+        }
+
+        reported = new HashMap<String, ApnParameters>();
+        reportedCounts = new HashMap<String, Integer>();
+        for(Map.Entry<String, Map<ApnParameters, Integer>> entry : counts.entrySet()) {
+            ApnParameters best = null;
+            int bestCount = -1;
+            for(Map.Entry<ApnParameters, Integer> candidate : entry.getValue().entrySet()) {
+                if(candidate.getValue() > bestCount) {
+                    best = candidate.getKey();
+                    bestCount = candidate.getValue();
+                }
+            }
+            reported.put(entry.getKey(), best);
+            reportedCounts.put(entry.getKey(), bestCount);
+        }
+    }
+
+    static boolean isMmsType(String type) {
+        if(type == null || type.length() == 0) return true;
+        for(String part : type.split(",")) {
+            part = part.trim();
+            if(part.equals("mms") || part.equals("*")) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether both point at the same MMSC and proxy, matched as ApnReverseIndex matches
+     * them.
+     */
+    static boolean sameSettings(ApnParameters a, ApnParameters b) {
+        return ApnReverseIndex.normalizeMmscUrl(a.getMmscUrl()).equals(ApnReverseIndex.normalizeMmscUrl(b.getMmscUrl()))
+                && ApnReverseIndex.normalizeProxyAddress(a.getProxyAddress())
+                        .equals(ApnReverseIndex.normalizeProxyAddress(b.getProxyAddress()))
+                && equal(a.getProxyPort(), b.getProxyPort());
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static Integer parsePort(String port) {
+        if(port == null || port.length() == 0) return null;
+        try {
+            return Integer.valueOf(port);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * What an import found and did.
+     */
+    public static class Stats {
+        int apns;
+        int mmsApns;
+        int mvnoSkipped;
+        int invalid;
+        int confConflicts;
+        int added;
+        int agreed;
+        int replaced;
+        int keptBare;
+        int keptReported;
+
+        @Override
+        public String toString() {
+            return String.format("%,d APNs, %,d with MMS: %,d MVNO skipped, %,d invalid MCCMNC, "
+                            + "%,d disagreeing duplicates in the file%n"
+                            + "%,d added, %,d agreed with the dataset, %,d bare entries replaced, "
+                            + "%,d bare entries kept, %,d kept for reported full keys",
+                    apns, mmsApns, mvnoSkipped, invalid, confConflicts, added, agreed, replaced, keptBare, keptReported);
+        }
+    }
+}
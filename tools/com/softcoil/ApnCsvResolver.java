@@ -0,0 +1,441 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Resolves a CSV or TSV export of telephony fingerprints in bulk. Run it with runTool.sh:
+ * <pre>
+ *  ./runTool.sh ApnCsvResolver --in fingerprints.csv --out resolved.csv --header
+ *  zcat fingerprints.tsv.gz | ./runTool.sh ApnCsvResolver --tsv --columns 3,4,1,2 > resolved.tsv
+ * </pre>
+ *
+ * Each output row is the input row followed by the MMSC URL, proxy address, proxy port and the
+ * tier that matched (full_key, fuzzy_name, sim_mccmnc or none; invalid for rows missing a column). By default
+ * the SIM MCCMNC, SIM operator name, network MCCMNC and network name are the first four columns;
+ * --columns gives their zero based positions instead. Options:
+ * <pre>
+ *  --in file            read from a file instead of stdin
+ *  --out file           write to a file instead of stdout
+ *  --tsv                tab separated, same as --delimiter tab
+ *  --delimiter c        field delimiter, ',' by default
+ *  --header             the first row is a header, copied with the new column names added
+ *  --columns a,b,c,d    positions of the four fingerprint columns
+ *  --no-fallback        do not fall back on the SIM MCCMNC
+ *  --dataset file       resolve against a downloaded dataset instead of the embedded table
+ *  --threads n          worker threads, one per core by default
+ *  --chunk-bytes n      bytes of input per unit of work, 1MB by default
+ * </pre>
+ *
+ * Input is read in large blocks through a channel and cut into chunks at line ends. Chunks are
+ * parsed, resolved and formatted on the worker threads, and written in input order by a writer
+ * thread, with a bounded queue between them so memory stays flat however big the input is. If a
+ * chunk fails to resolve or the output fails to write, the job stops and the tool exits with that
+ * error. Quoted fields may contain delimiters and doubled quotes but not line breaks. A summary is
+ * printed to stderr.
+ */
+public class ApnCsvResolver {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ApnResolver resolver;
+    private final char delimiter;
+    private final int[] columns;
+    private final boolean fallBack;
+
+    ApnCsvResolver(ApnResolver resolver, char delimiter, int[] columns, boolean fallBack) {
+        this.resolver = resolver;
+        this.delimiter = delimiter;
+        this.columns = columns;
+        this.fallBack = fallBack;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String inFile = null;
+        String outFile = null;
+        char delimiter = ',';
+        boolean header = false;
+        int[] columns = { 0, 1, 2, 3 };
+        boolean fallBack = true;
+        String datasetFile = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunkBytes = 1 << 20;
+        for(int i = 0; i < args.length; i++) {
+            if(args[i].equals("--in")) inFile = args[++i];
+            else if(args[i].equals("--out")) outFile = args[++i];
+            else if(args[i].equals("--tsv")) delimiter = '\t';
+            else if(args[i].equals("--delimiter")) delimiter = parseDelimiter(args[++i]);
+            else if(args[i].equals("--header")) header = true;
+            else if(args[i].equals("--columns")) columns = parseColumns(args[++i]);
+            else if(args[i].equals("--no-fallback")) fallBack = false;
+            else if(args[i].equals("--dataset")) datasetFile = args[++i];
+            else if(args[i].equals("--threads")) threads = Integer.parseInt(args[++i]);
+            else if(args[i].equals("--chunk-bytes")) chunkBytes = Integer.parseInt(args[++i]);
+            else throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+
+        ApnDataSource source;
+        if(datasetFile == null) {
+            source = new EmbeddedApnDataSource();
+        } else {
+            InputStream in = new BufferedInputStream(new FileInputStream(datasetFile));
+            try {
+                source = ApnDataset.read(in);
+            } finally {
+                in.close();
+            }
+        }
+
+        ReadableByteChannel in = inFile == null
+                ? Channels.newChannel(System.in)
+                : FileChannel.open(Paths.get(inFile), StandardOpenOption.READ);
+        WritableByteChannel out = outFile == null
+                ? Channels.newChannel(System.out)
+                : FileChannel.open(Paths.get(outFile), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+
+        long start = System.nanoTime();
+        Summary summary;
+        try {
+            summary = new ApnCsvResolver(new ApnResolver(source, true), delimiter, columns, fallBack)
+                    .run(in, out, header, threads, chunkBytes);
+        } finally {
+            in.close();
+            out.close();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.println(String.format("%,d rows, %,d bytes in %.2fs (%.1f MB/s): %,d full_key, %,d fuzzy_name, %,d sim_mccmnc, %,d none, %,d invalid",
+                summary.rows, summary.bytes, seconds, summary.bytes / seconds / 1e6,
+                summary.tiers[tierSlot(ApnLookupMetrics.TIER_FULL_KEY)],
+                summary.tiers[tierSlot(ApnLookupMetrics.TIER_FUZZY_NAME)],
+                summary.tiers[tierSlot(ApnLookupMetrics.TIER_SIM_MCCMNC)],
+                summary.tiers[tierSlot(ApnLookupMetrics.TIER_NONE)],
+                summary.tiers[tierSlot(INVALID)]));
+    }
+
+    //Tier reported for rows that are missing a fingerprint column.
+    private static final int INVALID = -2;
+
+    private static int tierSlot(int tier) {
+        return tier + 2;
+    }
+
+    private static String tierName(int tier) {
+        return tier == INVALID ? "invalid" : ApnFlightRecorder.tierName(tier);
+    }
+
+    Summary run(ReadableByteChannel in, final WritableByteChannel out, boolean header, int threads,
+                int chunkBytes) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        final BlockingQueue<Future<Chunk>> pending = new ArrayBlockingQueue<Future<Chunk>>(threads * 2);
+        final Summary summary = new Summary();
+        //The first error of a chunk or of writing, which ends the job.
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while(true) {
+                        Chunk chunk = pending.take().get();
+                        if(chunk == null) return;
+                        ByteBuffer buffer = ByteBuffer.wrap(chunk.output);
+                        while(buffer.hasRemaining()) out.write(buffer);
+                        summary.add(chunk);
+                    }
+                } catch (ExecutionException e) {
+                    failure.compareAndSet(null, e.getCause());
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }, "ApnCsvResolver writer");
+        writer.start();
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(chunkBytes);
+            boolean first = header;
+            while(failure.get() == null) {
+                int read = in.read(buffer);
+                if(read >= 0 && buffer.hasRemaining()) continue;
+
+                int end = read < 0 ? buffer.position() : lastLineEnd(buffer);
+                if(end < 0) {
+                    //A single line longer than the buffer, make room for the rest of it.
+                    ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+                    buffer.flip();
+                    larger.put(buffer);
+                    buffer = larger;
+                    continue;
+                }
+
+                byte[] bytes = new byte[end];
+                buffer.flip();
+                buffer.get(bytes);
+                buffer.compact();
+
+                if(first && end > 0) {
+                    first = false;
+                    int headerEnd = firstLineEnd(bytes);
+                    if(!enqueue(pending, workers.submit(headerTask(bytes, headerEnd)), failure)) break;
+                    byte[] rest = new byte[bytes.length - headerEnd];
+                    System.arraycopy(bytes, headerEnd, rest, 0, rest.length);
+                    bytes = rest;
+                }
+                if(bytes.length > 0 && !enqueue(pending, workers.submit(chunkTask(bytes)), failure)) break;
+                if(read < 0) break;
+            }
+        } finally {
+            //A null chunk tells the writer the input is done.
+            enqueue(pending, workers.submit(new Callable<Chunk>() {
+                @Override
+                public Chunk call() {
+                    return null;
+                }
+            }), failure);
+            writer.join();
+
+            if(failure.get() != null) {
+                //The writer has stopped taking chunks, so drop the ones still queued.
+                for(Future<Chunk> chunk : pending) chunk.cancel(true);
+                pending.clear();
+                workers.shutdownNow();
+            } else {
+                workers.shutdown();
+            }
+        }
+
+        Throwable cause = failure.get();
+        if(cause instanceof Exception) throw (Exception) cause;
+        if(cause instanceof Error) throw (Error) cause;
+        return summary;
+    }
+
+    /**
+     * Queue a chunk for the writer, waiting for room unless the job has failed.
+     *
+     * @return False if the job failed first, in which case the chunk is cancelled.
+     */
+    private static boolean enqueue(BlockingQueue<Future<Chunk>> pending, Future<Chunk> chunk,
+                                   AtomicReference<Throwable> failure) throws InterruptedException {
+        while(!pending.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            if(failure.get() != null) {
+                chunk.cancel(true);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Callable<Chunk> chunkTask(final byte[] bytes) {
+        return new Callable<Chunk>() {
+            @Override
+            public Chunk call() {
+                return resolve(bytes);
+            }
+        };
+    }
+
+    private Callable<Chunk> headerTask(final byte[] bytes, final int end) {
+        return new Callable<Chunk>() {
+            @Override
+            public Chunk call() {
+                int length = end > 0 && bytes[end - 1] == '\n' ? end - 1 : end;
+                String line = trimLineEnd(new String(bytes, 0, length, UTF_8));
+                StringBuilder sb = new StringBuilder(line);
+                for(String name : new String[] { "mmsc_url", "proxy_address", "proxy_port", "tier" }) {
+                    sb.append(delimiter).append(name);
+                }
+                Chunk chunk = new Chunk();
+                chunk.output = sb.append('\n').toString().getBytes(UTF_8);
+                chunk.bytes = end;
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * Parse, resolve and format every line of a chunk.
+     */
+    Chunk resolve(byte[] bytes) {
+        String text = new String(bytes, UTF_8);
+        StringBuilder sb = new StringBuilder(text.length() + text.length() / 2);
+        ApnParameters[] result = new ApnParameters[1];
+        List<String> fields = new ArrayList<String>();
+        Chunk chunk = new Chunk();
+        chunk.bytes = bytes.length;
+
+        int lineStart = 0;
+        while(lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if(lineEnd < 0) lineEnd = text.length();
+            String line = trimLineEnd(text.substring(lineStart, lineEnd));
+            lineStart = lineEnd + 1;
+            if(line.length() == 0) continue;
+
+            split(line, fields);
+            int tier;
+            if(fields.size() <= max(columns)) {
+                result[0] = null;
+                tier = INVALID;
+            } else {
+                tier = resolver.resolveInto(fields.get(columns[0]), fields.get(columns[1]),
+                        fields.get(columns[2]), fields.get(columns[3]), fallBack, result, 0);
+            }
+
+            ApnParameters apnParameters = result[0];
+            sb.append(line).append(delimiter);
+            if(apnParameters != null) {
+                appendField(sb, apnParameters.getMmscUrl());
+                sb.append(delimiter);
+                appendField(sb, apnParameters.getProxyAddress());
+                sb.append(delimiter);
+                if(apnParameters.getProxyPort() != null) sb.append(apnParameters.getProxyPort().intValue());
+            } else {
+                sb.append(delimiter).append(delimiter);
+            }
+            sb.append(delimiter).append(tierName(tier)).append('\n');
+
+            chunk.rows++;
+            chunk.tiers[tierSlot(tier)]++;
+        }
+
+        chunk.output = sb.toString().getBytes(UTF_8);
+        return chunk;
+    }
+
+    /**
+     * Split a line into fields, removing the quotes around quoted fields.
+     */
+    void split(String line, List<String> fields) {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for(int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if(quoted) {
+                if(c != '"') {
+                    field.append(c);
+                } else if(i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if(c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if(c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+    }
+
+    private void appendField(StringBuilder sb, String value) {
+        if(value == null) return;
+        if(value.indexOf(delimiter) < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            sb.append(value);
+            return;
+        }
+        sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static String trimLineEnd(String line) {
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    /**
+     * @return The length of the buffer's content up to and including its last line feed, or -1.
+     */
+    private static int lastLineEnd(ByteBuffer buffer) {
+        for(int i = buffer.position() - 1; i >= 0; i--) {
+            if(buffer.get(i) == '\n') return i + 1;
+        }
+        return -1;
+    }
+
+    private static int firstLineEnd(byte[] bytes) {
+        for(int i = 0; i < bytes.length; i++) {
+            if(bytes[i] == '\n') return i + 1;
+        }
+        return bytes.length;
+    }
+
+    private static int max(int[] values) {
+        int max = 0;
+        for(int value : values) max = Math.max(max, value);
+        return max;
+    }
+
+    private static char parseDelimiter(String value) {
+        if(value.equals("tab") || value.equals("\\t")) return '\t';
+        if(value.length() != 1) throw new IllegalArgumentException("Delimiter must be one character");
+        return value.charAt(0);
+    }
+
+    private static int[] parseColumns(String value) {
+        String[] parts = value.split(",");
+        if(parts.length != 4) throw new IllegalArgumentException("--columns needs four positions");
+        int[] columns = new int[4];
+        for(int i = 0; i < 4; i++) columns[i] = Integer.parseInt(parts[i].trim());
+        return columns;
+    }
+
+    static final class Chunk {
+        byte[] output;
+        long bytes;
+        int rows;
+        final long[] tiers = new long[ApnLookupMetrics.TIERS + 2];
+    }
+
+    static final class Summary {
+        long rows;
+        long bytes;
+        final long[] tiers = new long[ApnLookupMetrics.TIERS + 2];
+
+        void add(Chunk chunk) {
+            rows += chunk.rows;
+            bytes += chunk.bytes;
+            for(int i = 0; i < tiers.length; i++) tiers[i] += chunk.tiers[i];
+        }
+    }
+}
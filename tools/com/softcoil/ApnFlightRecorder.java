@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Turns library events into Java Flight Recorder events, so APN resolution and reporting show up
+ * in recordings next to the MMS traffic they feed. Install it once at startup on a server or
+ * desktop JVM:
+ * <pre>
+ *  ApnFlightRecorder.install();
+ * </pre>
+ * and enable the com.softcoil events in the recording settings, or record with
+ * settings=profile, which enables every event.
+ *
+ * Library events are delivered after the work is done, so each JFR event carries the measured
+ * time in its own duration field rather than in the JFR event duration. When the events are
+ * disabled in the recording each callback returns after one check, and nothing is allocated
+ * once the JIT has removed the unused event object.
+ */
+public class ApnFlightRecorder extends ApnEventListener {
+
+    public static void install() {
+        ApnEventListener.setListener(new ApnFlightRecorder());
+    }
+
+    @Override
+    public void onDatasetLoaded(String source, int version, int entries, long nanos) {
+        DatasetLoad event = new DatasetLoad();
+        if(!event.shouldCommit()) return;
+        event.source = source;
+        event.version = version;
+        event.entries = entries;
+        event.loadTime = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void onLookup(String simOperator, String networkOperator, int tier, long nanos) {
+        Lookup event = new Lookup();
+        if(!event.shouldCommit()) return;
+        event.simOperator = simOperator;
+        event.networkOperator = networkOperator;
+        event.tier = tierName(tier);
+        event.hit = tier != ApnLookupMetrics.TIER_NONE;
+        event.lookupTime = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void onReportStarted(String apnData) {
+        Report event = new Report();
+        if(!event.shouldCommit()) return;
+        event.outcome = "started";
+        event.commit();
+    }
+
+    @Override
+    public void onReportSent(int status, long nanos) {
+        Report event = new Report();
+        if(!event.shouldCommit()) return;
+        event.outcome = "sent";
+        event.status = status;
+        event.reportTime = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void onReportFailed(Exception e, long nanos) {
+        Report event = new Report();
+        if(!event.shouldCommit()) return;
+        event.outcome = "failed";
+        event.error = e.toString();
+        event.reportTime = nanos;
+        event.commit();
+    }
+
+    @Override
+    public void onReportTimedOut(long nanos) {
+        Report event = new Report();
+        if(!event.shouldCommit()) return;
+        event.outcome = "timeout";
+        event.reportTime = nanos;
+        event.commit();
+    }
+
+    static String tierName(int tier) {
+        switch(tier) {
+            case ApnLookupMetrics.TIER_CACHE: return "cache";
+            case ApnLookupMetrics.TIER_FULL_KEY: return "full_key";
+            case ApnLookupMetrics.TIER_SIM_MCCMNC: return "sim_mccmnc";
+            case ApnLookupMetrics.TIER_FUZZY_NAME: return "fuzzy_name";
+            default: return "none";
+        }
+    }
+
+    @Name("com.softcoil.DatasetLoad")
+    @Label("APN Dataset Load")
+    @Category({ "SoftCoil", "APN" })
+    @StackTrace(false)
+    static class DatasetLoad extends Event {
+        @Label("Source")
+        String source;
+
+        @Label("Version")
+        int version;
+
+        @Label("Entries")
+        int entries;
+
+        @Label("Load Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long loadTime;
+    }
+
+    @Name("com.softcoil.Lookup")
+    @Label("APN Lookup")
+    @Category({ "SoftCoil", "APN" })
+    @StackTrace(false)
+    static class Lookup extends Event {
+        @Label("SIM Operator")
+        String simOperator;
+
+        @Label("Network Operator")
+        String networkOperator;
+
+        @Label("Tier")
+        @Description("The tier that answered: cache, full_key, fuzzy_name, sim_mccmnc or none")
+        String tier;
+
+        @Label("Hit")
+        boolean hit;
+
+        @Label("Lookup Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long lookupTime;
+    }
+
+    @Name("com.softcoil.Report")
+    @Label("APN Report")
+    @Category({ "SoftCoil", "APN" })
+    static class Report extends Event {
+        @Label("Outcome")
+        @Description("started, sent, failed or timeout")
+        String outcome;
+
+        @Label("HTTP Status")
+        int status;
+
+        @Label("Error")
+        String error;
+
+        @Label("Report Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long reportTime;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports how much heap the loaded APN table retains, broken down by component and by MCC, so
+ * that alternative representations can be compared by number. Run it with runTool.sh:
+ * <pre>
+ *  ./runTool.sh ApnFootprint [--dataset file] [--top 20] [--no-compressed-oops] [--indexed]
+ * </pre>
+ *
+ * Without --dataset the embedded table is measured. With --indexed the lookup indexes an indexed
+ * ApnResolver builds are measured as well; the default resolver builds none. Sizes come from a model of the HotSpot
+ * 64 bit object layout (12 byte headers and 4 byte references with compressed oops, 16 and 8
+ * without, 8 byte alignment, compact strings), not from a heap dump, so they are estimates of the shallow
+ * sizes that add up to the retained size.
+ *
+ * Objects reachable more than once, such as string literals the compiler interned or cached
+ * Integers, are only counted the first time they are seen. The per MCC figures charge each
+ * object to the first entry that reaches it, in key order.
+ */
+public class ApnFootprint {
+
+    private static final String[] COMPONENTS = {
+            "HashMap", "table array", "nodes", "key strings", "key contents",
+            "ApnParameters", "value strings", "value contents", "boxed ports",
+            "lookup indexes", "index strings", "index string contents" };
+
+    private final int headerSize;
+    private final int referenceSize;
+    private final IdentityHashMap<Object, Boolean> seen = new IdentityHashMap<Object, Boolean>();
+    private final Map<String, Long> components = new LinkedHashMap<String, Long>();
+    private final Map<String, Long> byMcc = new HashMap<String, Long>();
+
+    ApnFootprint(boolean compressedOops) {
+        headerSize = compressedOops ? 12 : 16;
+        referenceSize = compressedOops ? 4 : 8;
+        for(String component : COMPONENTS) components.put(component, 0L);
+    }
+
+    public static void main(String[] args) throws Exception {
+        String datasetFile = null;
+        int top = 20;
+        boolean compressedOops = true;
+        boolean indexed = false;
+        for(int i = 0; i < args.length; i++) {
+            if(args[i].equals("--dataset")) datasetFile = args[++i];
+            else if(args[i].equals("--top")) top = Integer.parseInt(args[++i]);
+            else if(args[i].equals("--no-compressed-oops")) compressedOops = false;
+            else if(args[i].equals("--indexed")) indexed = true;
+            else throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+
+        ApnDataSource source;
+        Map<String, ApnParameters> map;
+        if(datasetFile == null) {
+            source = new EmbeddedApnDataSource();
+            map = EmbeddedApnDataSource.Table.APN_PARAMETERS_MAP;
+        } else {
+            InputStream in = new BufferedInputStream(new FileInputStream(datasetFile));
+            try {
+                source = ApnDataset.read(in);
+            } finally {
+                in.close();
+            }
+            map = field(source, "entries");
+        }
+
+        ApnFootprint footprint = new ApnFootprint(compressedOops);
+        footprint.measure(map);
+        if(indexed) footprint.measureIndexes(source);
+        footprint.print(map, top);
+    }
+
+    void measure(Map<String, ApnParameters> map) {
+        //HashMap: table, entrySet, keySet, values, size, modCount, threshold, loadFactor.
+        add("HashMap", null, map, object(4 * referenceSize + 4 * 4));
+
+        //The table is not reflectively accessible on current JDKs, so its capacity is derived the
+        //way HashMap grows it: the smallest power of two whose 0.75 load factor holds every entry.
+        int capacity = 16;
+        while(capacity * 3 / 4 < map.size()) capacity <<= 1;
+        add("table array", null, new Object(), array(capacity, referenceSize));
+
+        List<String> keys = new ArrayList<String>(map.keySet());
+        Collections.sort(keys);
+        Map<String, ApnParameters> ordered = new LinkedHashMap<String, ApnParameters>();
+        for(String key : keys) ordered.put(key, map.get(key));
+
+        for(Map.Entry<String, ApnParameters> entry : ordered.entrySet()) {
+            String mcc = entry.getKey().length() >= 3 ? entry.getKey().substring(0, 3) : entry.getKey();
+
+            //Node: hash, key, value, next.
+            add("nodes", mcc, entry, object(4 + 3 * referenceSize));
+            addString("key strings", "key contents", mcc, entry.getKey());
+
+            ApnParameters value = entry.getValue();
+            if(add("ApnParameters", mcc, value, object(3 * referenceSize))) {
+                addString("value strings", "value contents", mcc, value.mmscUrl);
+                addString("value strings", "value contents", mcc, value.proxyAddress);
+                if(value.proxyPort != null) add("boxed ports", mcc, value.proxyPort, object(4));
+            }
+        }
+    }
+
+    void measureIndexes(ApnDataSource source) throws ReflectiveOperationException {
+        ApnResolver resolver = new ApnResolver(source, true);
+        resolver.resolve("", "", "", "", true);
+        Object indexes = field(resolver, "indexes");
+
+        Object simIndex = field(indexes, "simIndex");
+        int[] codes = field(simIndex, "codes");
+        Object[] values = field(simIndex, "values");
+        add("lookup indexes", null, simIndex, object(2 * referenceSize + 8));
+        add("lookup indexes", null, codes, array(codes.length, 4));
+        add("lookup indexes", null, values, array(values.length, referenceSize));
+
+        Object fullIndex = field(indexes, "fullIndex");
+        if(fullIndex == null) return;
+        add("lookup indexes", null, fullIndex, object(6 * referenceSize + 4));
+        int[] hashes = field(fullIndex, "hashes");
+        add("lookup indexes", null, hashes, array(hashes.length, 4));
+        values = field(fullIndex, "values");
+        add("lookup indexes", null, values, array(values.length, referenceSize));
+        for(String name : new String[] { "simOperators", "simOperatorNames", "networkOperators", "networkOperatorNames" }) {
+            String[] parts = field(fullIndex, name);
+            add("lookup indexes", null, parts, array(parts.length, referenceSize));
+            for(String part : parts) addString("index strings", "index string contents", null, part);
+        }
+    }
+
+    private void addString(String objectComponent, String contentComponent, String mcc, String s) {
+        if(s == null) return;
+        //String: hash, coder, hashIsZero, value.
+        if(!add(objectComponent, mcc, s, object(4 + 1 + 1 + referenceSize))) return;
+
+        boolean latin1 = true;
+        for(int i = 0; i < s.length() && latin1; i++) latin1 = s.charAt(i) <= 0xFF;
+        add(contentComponent, mcc, new Object(), array(s.length(), latin1 ? 1 : 2));
+    }
+
+    /**
+     * Charge an object to a component and MCC unless it has been seen before.
+     *
+     * @return True if the object had not been seen before.
+     */
+    private boolean add(String component, String mcc, Object object, long bytes) {
+        if(seen.put(object, Boolean.TRUE) != null) return false;
+        components.put(component, components.get(component) + bytes);
+        if(mcc != null) {
+            Long total = byMcc.get(mcc);
+            byMcc.put(mcc, (total == null ? 0 : total) + bytes);
+        }
+        return true;
+    }
+
+    private long object(int fieldBytes) {
+        return align(headerSize + fieldBytes);
+    }
+
+    private long array(int length, int elementSize) {
+        return align(headerSize + 4 + (long) length * elementSize);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private void print(Map<String, ApnParameters> map, int top) {
+        int duplicates = 0;
+        Map<String, Boolean> distinct = new HashMap<String, Boolean>();
+        for(ApnParameters value : map.values()) {
+            if(distinct.put(value.mmscUrl + "|" + value.proxyAddress + "|" + value.proxyPort, Boolean.TRUE) != null) {
+                duplicates++;
+            }
+        }
+
+        long total = 0;
+        for(long bytes : components.values()) total += bytes;
+
+        System.out.printf("%,d entries, %,d distinct parameters (%,d duplicated ApnParameters objects)%n",
+                map.size(), distinct.size(), duplicates);
+        System.out.printf("Retained heap: %,d bytes%n", total);
+        for(Map.Entry<String, Long> component : components.entrySet()) {
+            System.out.printf("  %-16s %,10d bytes  %5.1f%%%n", component.getKey(), component.getValue(),
+                    100.0 * component.getValue() / total);
+        }
+
+        List<Map.Entry<String, Long>> mccs = new ArrayList<Map.Entry<String, Long>>(byMcc.entrySet());
+        Collections.sort(mccs, new Comparator<Map.Entry<String, Long>>() {
+            @Override
+            public int compare(Map.Entry<String, Long> a, Map.Entry<String, Long> b) {
+                return b.getValue().compareTo(a.getValue());
+            }
+        });
+
+        System.out.printf("Top %d of %d MCCs:%n", Math.min(top, mccs.size()), mccs.size());
+        for(Map.Entry<String, Long> mcc : mccs.subList(0, Math.min(top, mccs.size()))) {
+            System.out.printf("  %-6s %,10d bytes  %5.1f%%%n", mcc.getKey(), mcc.getValue(), 100.0 * mcc.getValue() / total);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T field(Object object, String name) throws ReflectiveOperationException {
+        for(Class<?> c = object.getClass(); c != null; c = c.getSuperclass()) {
+            try {
+                Field field = c.getDeclaredField(name);
+                field.setAccessible(true);
+                return (T) field.get(object);
+            } catch (NoSuchFieldException e) {
+                //Try the superclass.
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the fuzzy name tier against the embedded table and against names that normalize to more
+ * characters than they had, and exits with an error if any check fails. Run it with runTool.sh:
+ * <pre>
+ *  ./runTool.sh ApnFuzzyNameCheck
+ * </pre>
+ *
+ * The checks are:
+ * <ul>
+ *  <li>the index builds over the embedded table with Hangul full keys added, since NFD splits
+ *  each Hangul syllable into two or three jamo,</li>
+ *  <li>Hangul fingerprints resolve without error, with and without Hangul keys in the index, and
+ *  a respelled Hangul key finds its entry, and</li>
+ *  <li>every full key of the embedded table, with its names upper cased and punctuated, is looked
+ *  up without error. How many find their own parameters is reported, not checked, as some keys
+ *  differ only in spacing or punctuation and cannot be told apart.</li>
+ * </ul>
+ */
+public class ApnFuzzyNameCheck {
+
+    private static final ApnParameters HANGUL = new ApnParameters("http://mms.example.kr/", "10.0.0.1", 8080);
+
+    public static void main(String[] args) {
+        List<String> failures = new ArrayList<String>();
+
+        ApnDataset embedded = ApnDataset.embedded();
+        Map<String, ApnParameters> entries = new LinkedHashMap<String, ApnParameters>();
+        for(String key : embedded.keys()) entries.put(key, embedded.get(key));
+        entries.put("45005|SK텔레콤|45005|SK텔레콤", HANGUL);
+        entries.put("45005|한국|45005|한국", HANGUL);
+
+        ApnFuzzyNameIndex index = null;
+        try {
+            index = new ApnFuzzyNameIndex(new ApnDataset(embedded.getVersion(), entries));
+        } catch(RuntimeException e) {
+            failures.add("Building the index with Hangul keys threw " + e);
+        }
+
+        if(index != null) {
+            check(failures, index, "45005", "SK텔레콤", "45005", "SKTelecom", null);
+            check(failures, index, "45005", "한국", "45005", "한국", HANGUL);
+            check(failures, index, "45005", "SK 텔레콤", "45005", "SK-텔레콤", HANGUL);
+        }
+
+        ApnFuzzyNameIndex embeddedIndex = new ApnFuzzyNameIndex(embedded);
+        check(failures, embeddedIndex, "45005", "SK텔레콤", "45005", "SKTelecom", null);
+        check(failures, embeddedIndex, "45005", "한국", "45005", "한국", null);
+
+        int fullKeys = 0;
+        int found = 0;
+        for(String key : embedded.keys()) {
+            String[] parts = key.split("\\|", -1);
+            if(parts.length != 4) continue;
+            fullKeys++;
+            try {
+                ApnParameters apnParameters = embeddedIndex.get(parts[0], respell(parts[1]), parts[2], respell(parts[3]));
+                if(embedded.get(key).equals(apnParameters)) found++;
+            } catch(RuntimeException e) {
+                failures.add("Looking up a respelling of " + key + " threw " + e);
+            }
+        }
+
+        System.out.println(String.format("%,d respelled full keys looked up, %,d found their own parameters (%.1f%%)",
+                fullKeys, found, 100.0 * found / fullKeys));
+        for(String failure : failures) System.out.println("  FAIL " + failure);
+        System.exit(failures.isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Look up a fingerprint, failing on any error and, unless expected is null, on any result
+     * other than expected.
+     */
+    private static void check(List<String> failures, ApnFuzzyNameIndex index, String simOperator,
+                              String simOperatorName, String networkOperator, String networkOperatorName,
+                              ApnParameters expected) {
+        String key = simOperator + "|" + simOperatorName + "|" + networkOperator + "|" + networkOperatorName;
+        try {
+            ApnParameters apnParameters = index.get(simOperator, simOperatorName, networkOperator, networkOperatorName);
+            if(expected != null && !expected.equals(apnParameters)) {
+                failures.add(key + " resolved to " + apnParameters + " rather than " + expected);
+            }
+        } catch(RuntimeException e) {
+            failures.add(key + " threw " + e);
+        }
+    }
+
+    /**
+     * @return The name upper cased with a dot after its first character, a spelling devices
+     * commonly report.
+     */
+    private static String respell(String name) {
+        if(name.length() < 2) return name.toUpperCase();
+        return (name.substring(0, 1) + "." + name.substring(1)).toUpperCase();
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates EmbeddedApnReportStats from the report comments above each entry of
+ * EmbeddedApnDataSource. Run it with runTool.sh whenever the embedded table is regenerated:
+ * <pre>
+ *  ./runTool.sh ApnReportStatsGenerator
+ * </pre>
+ *
+ * The key literals are copied as they are written in the table, so whatever escapes they use
+ * carry over. Entries without a report comment, such as the hand written fallbacks, are left out
+ * and report a count of zero.
+ *
+ * It also writes TABLE_VERSION, a hash of every entry line of the table, which is the version of
+ * the embedded data. Regenerating after any change to the table therefore gives it a new version,
+ * and the resolution cache and updater never mistake it for the old one.
+ */
+public class ApnReportStatsGenerator {
+
+    private static final Pattern REPORT = Pattern.compile(
+            "^\\s*//.*\\(Report Count: (\\d+), Last Report: (\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2})\\)\\s*$");
+    private static final Pattern PUT = Pattern.compile("^\\s*put\\((\"(?:[^\"\\\\]|\\\\.)*\"),");
+
+    private static final int PER_LINE = 8;
+
+    public static void main(String[] args) throws Exception {
+        String in = "src/com/softcoil/EmbeddedApnDataSource.java";
+        String out = "src/com/softcoil/EmbeddedApnReportStats.java";
+        for(int i = 0; i < args.length; i++) {
+            if(args[i].equals("--in")) in = args[++i];
+            else if(args[i].equals("--out")) out = args[++i];
+            else throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        //Sorted on the key itself so the generated class can binary search it.
+        Map<String, String[]> stats = new TreeMap<String, String[]>();
+        int tableVersion = 0;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(in), "UTF-8"));
+        try {
+            String[] pending = null;
+            String line;
+            while((line = reader.readLine()) != null) {
+                Matcher report = REPORT.matcher(line);
+                if(report.matches()) {
+                    long seconds = format.parse(report.group(2)).getTime() / 1000;
+                    pending = new String[] { report.group(1), Long.toString(seconds) };
+                    continue;
+                }
+
+                Matcher put = PUT.matcher(line);
+                if(put.find()) {
+                    tableVersion = 31 * tableVersion + line.trim().hashCode();
+                    if(pending != null) stats.put(unquote(put.group(1)), new String[] { put.group(1), pending[0], pending[1] });
+                    pending = null;
+                } else if(line.trim().length() != 0) {
+                    pending = null;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(out), "UTF-8"));
+        try {
+            write(writer, stats, tableVersion);
+        } finally {
+            writer.close();
+        }
+        System.out.println("Wrote " + stats.size() + " entries and table version " + tableVersion + " to " + out);
+    }
+
+    private static void write(PrintWriter out, Map<String, String[]> stats, int tableVersion) {
+        out.print(LICENSE);
+        out.println("package com.softcoil;");
+        out.println();
+        out.println("import java.util.Arrays;");
+        out.println();
+        out.println("/**");
+        out.println(" * How often each key of the embedded table was reported and when it was last reported, taken");
+        out.println(" * from the comments in EmbeddedApnDataSource. Keys the table has no report comment for have a");
+        out.println(" * count of zero.");
+        out.println(" *");
+        out.println(" * Generated by tools/com/softcoil/ApnReportStatsGenerator, do not edit.");
+        out.println(" */");
+        out.println("final class EmbeddedApnReportStats {");
+        out.println();
+        out.println("    /**");
+        out.println("     * A hash of every entry of the embedded table as written, so it changes whenever the table");
+        out.println("     * does. This is EmbeddedApnDataSource.VERSION.");
+        out.println("     */");
+        out.println("    static final int TABLE_VERSION = " + tableVersion + ";");
+        out.println();
+        out.println("    private EmbeddedApnReportStats() {");
+        out.println("    }");
+        out.println();
+        out.println("    /**");
+        out.println("     * @return The number of reports for the key, or 0.");
+        out.println("     */");
+        out.println("    static int reportCount(String key) {");
+        out.println("        int index = Arrays.binarySearch(Table.KEYS, key);");
+        out.println("        return index >= 0 ? Table.REPORT_COUNTS[index] : 0;");
+        out.println("    }");
+        out.println();
+        out.println("    /**");
+        out.println("     * @return When the key was last reported in milliseconds since the epoch, or 0.");
+        out.println("     */");
+        out.println("    static long lastReportMillis(String key) {");
+        out.println("        int index = Arrays.binarySearch(Table.KEYS, key);");
+        out.println("        return index >= 0 ? Table.LAST_REPORTS[index] * 1000L : 0;");
+        out.println("    }");
+        out.println();
+        out.println("    /**");
+        out.println("     * Keeps the arrays out of memory until stats are first asked for.");
+        out.println("     */");
+        out.println("    static final class Table {");
+        out.println();
+        out.println("        //Sorted, for binary search.");
+        out.println("        static final String[] KEYS = {");
+        for(String[] entry : stats.values()) out.println("            " + entry[0] + ",");
+        out.println("        };");
+        out.println();
+        writeColumn(out, "REPORT_COUNTS", stats, 1, null);
+        out.println();
+        writeColumn(out, "LAST_REPORTS", stats, 2, "Seconds since the epoch, UTC.");
+        out.println("    }");
+        out.println("}");
+    }
+
+    private static void writeColumn(PrintWriter out, String name, Map<String, String[]> stats, int column,
+                                    String comment) {
+        if(comment != null) out.println("        //" + comment);
+        out.println("        static final int[] " + name + " = {");
+        int i = 0;
+        for(String[] entry : stats.values()) {
+            if(i % PER_LINE == 0) out.print("           ");
+            out.print(" " + entry[column] + ",");
+            if(++i % PER_LINE == 0) out.println();
+        }
+        if(i % PER_LINE != 0) out.println();
+        out.println("        };");
+    }
+
+    private static String unquote(String literal) {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 1; i < literal.length() - 1; i++) {
+            char c = literal.charAt(i);
+            if(c != '\\') {
+                sb.append(c);
+                continue;
+            }
+
+            char escaped = literal.charAt(++i);
+            switch(escaped) {
+                case 'n': sb.append('\n'); break;
+                case 't': sb.append('\t'); break;
+                case 'r': sb.append('\r'); break;
+                case 'u':
+                    sb.append((char) Integer.parseInt(literal.substring(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+                default: sb.append(escaped); break;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static final String LICENSE =
+            "/*\n"
+            + " * Copyright 2014 SoftCoil Development, LLC\n"
+            + " *\n"
+            + " * Licensed under the Apache License, Version 2.0 (the \"License\"); you may not use this file except\n"
+            + " * in compliance with the License. You may obtain a copy of the License at\n"
+            + " *\n"
+            + " * http://www.apache.org/licenses/LICENSE-2.0\n"
+            + " *\n"
+            + " * Unless required by applicable law or agreed to in writing, software distributed under the License\n"
+            + " * is distributed on an \"AS IS\" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express\n"
+            + " * or implied. See the License for the specific language governing permissions and limitations under\n"
+            + " * the License.\n"
+            + " */\n";
+}
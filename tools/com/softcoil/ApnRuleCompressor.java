@@ -0,0 +1,279 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Compresses the full keys of a dataset into an {@link ApnRuleSet} and checks that every key
+ * still resolves to the same parameters. Run it with runTool.sh:
+ * <pre>
+ *  ./runTool.sh ApnRuleCompressor --out rules.apnw
+ * </pre>
+ *
+ * Keys are compressed one SIM MCCMNC at a time. The parameters most of its keys share become a
+ * rule for the SIM MCCMNC with any names and network. Then, per network MCCMNC, a rule for the
+ * pair is added where it saves more exceptions than it costs. Keys that still resolve wrongly
+ * are kept as exact rules. A wildcard rule is only made when it replaces at least two keys.
+ * Bare SIM MCCMNC keys belong to the fallback tier and are left alone.
+ *
+ * Every full key of the dataset is then looked up in the rule set, and the tool exits with an
+ * error if any resolves differently. Options:
+ * <pre>
+ *  --dataset file       compress a downloaded dataset instead of the embedded table
+ *  --out file           where to write the rule set
+ *  --verbose            print every wildcard rule and the keys it replaced
+ * </pre>
+ */
+public class ApnRuleCompressor {
+
+    public static void main(String[] args) throws Exception {
+        String datasetFile = null;
+        String outFile = null;
+        boolean verbose = false;
+        for(int i = 0; i < args.length; i++) {
+            if(args[i].equals("--dataset")) datasetFile = args[++i];
+            else if(args[i].equals("--out")) outFile = args[++i];
+            else if(args[i].equals("--verbose")) verbose = true;
+            else throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+
+        ApnDataset dataset;
+        if(datasetFile == null) {
+            dataset = ApnDataset.embedded();
+        } else {
+            InputStream in = new BufferedInputStream(new FileInputStream(datasetFile));
+            try {
+                dataset = ApnDataset.read(in);
+            } finally {
+                in.close();
+            }
+        }
+
+        long start = System.nanoTime();
+        List<ApnRuleSet.Rule> rules = compress(dataset);
+        ApnRuleSet ruleSet = new ApnRuleSet(dataset.getVersion(), rules);
+        long compressNanos = System.nanoTime() - start;
+
+        int fullKeys = 0;
+        Map<String, ApnParameters> fullEntries = new HashMap<String, ApnParameters>();
+        for(String key : dataset.keys()) {
+            if(parts(key) == null) continue;
+            fullKeys++;
+            fullEntries.put(key, dataset.get(key));
+        }
+
+        List<String> mismatches = verify(dataset, ruleSet);
+
+        int[] byParts = new int[ApnRuleSet.ALL_PARTS + 1];
+        for(ApnRuleSet.Rule rule : rules) byParts[rule.getParts()]++;
+
+        long tableBytes = size(new ApnDataset(dataset.getVersion(), fullEntries));
+        long ruleBytes = size(ruleSet);
+
+        if(verbose) print(rules);
+
+        System.out.println(String.format("%,d full keys compressed to %,d rules (%.1f%%) in %.1fms",
+                fullKeys, rules.size(), 100.0 * rules.size() / fullKeys, compressNanos / 1e6));
+        System.out.println(String.format("  %,d SIM MCCMNC rules, %,d SIM and network MCCMNC rules, %,d exact rules",
+                byParts[ApnRuleSet.SIM_OPERATOR], byParts[ApnRuleSet.SIM_OPERATOR | ApnRuleSet.NETWORK_OPERATOR],
+                byParts[ApnRuleSet.ALL_PARTS]));
+        System.out.println(String.format("  %,d bytes as a dataset, %,d bytes as rules (%.1f%%)",
+                tableBytes, ruleBytes, 100.0 * ruleBytes / tableBytes));
+        System.out.println(String.format("  %,d full keys verified, %,d resolve differently", fullKeys, mismatches.size()));
+        for(String mismatch : mismatches) System.out.println("    " + mismatch);
+
+        if(outFile != null) {
+            OutputStream out = new BufferedOutputStream(new FileOutputStream(outFile));
+            try {
+                ruleSet.write(out);
+            } finally {
+                out.close();
+            }
+        }
+
+        if(!mismatches.isEmpty()) System.exit(1);
+    }
+
+    /**
+     * @return Rules equivalent to the dataset's full keys.
+     */
+    static List<ApnRuleSet.Rule> compress(ApnDataSource source) {
+        //Sorted so the output, and which parameters win a tie, never change between runs.
+        Map<String, List<String[]>> bySimOperator = new TreeMap<String, List<String[]>>();
+        for(String key : new TreeSet<String>(keys(source))) {
+            String[] parts = parts(key);
+            if(parts == null) continue;
+            List<String[]> group = bySimOperator.get(parts[0]);
+            if(group == null) {
+                group = new ArrayList<String[]>();
+                bySimOperator.put(parts[0], group);
+            }
+            group.add(parts);
+        }
+
+        List<ApnRuleSet.Rule> rules = new ArrayList<ApnRuleSet.Rule>();
+        for(Map.Entry<String, List<String[]>> entry : bySimOperator.entrySet()) {
+            compressGroup(source, entry.getKey(), entry.getValue(), rules);
+        }
+        return rules;
+    }
+
+    private static void compressGroup(ApnDataSource source, String simOperator, List<String[]> keys,
+                                      List<ApnRuleSet.Rule> rules) {
+        ApnParameters simWide = majority(source, keys, 2);
+        if(simWide != null) rules.add(new ApnRuleSet.Rule(simOperator, null, null, null, simWide));
+
+        Map<String, List<String[]>> byNetwork = new LinkedHashMap<String, List<String[]>>();
+        for(String[] parts : keys) {
+            List<String[]> group = byNetwork.get(parts[2]);
+            if(group == null) {
+                group = new ArrayList<String[]>();
+                byNetwork.put(parts[2], group);
+            }
+            group.add(parts);
+        }
+
+        for(Map.Entry<String, List<String[]>> entry : byNetwork.entrySet()) {
+            List<String[]> group = entry.getValue();
+
+            //What these keys resolve to so far, and the exceptions that leaves.
+            ApnParameters resolved = simWide;
+            int exceptions = differing(source, group, simWide);
+
+            ApnParameters network = majority(source, group, 2);
+            if(network != null && !network.equals(simWide) && 1 + differing(source, group, network) < exceptions) {
+                rules.add(new ApnRuleSet.Rule(simOperator, null, entry.getKey(), null, network));
+                resolved = network;
+            }
+
+            for(String[] parts : group) {
+                ApnParameters apnParameters = source.get(key(parts));
+                if(!apnParameters.equals(resolved)) {
+                    rules.add(new ApnRuleSet.Rule(parts[0], parts[1], parts[2], parts[3], apnParameters));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The parameters most of the keys have, if at least minCount keys have them.
+     */
+    private static ApnParameters majority(ApnDataSource source, List<String[]> keys, int minCount) {
+        Map<ApnParameters, Integer> counts = new LinkedHashMap<ApnParameters, Integer>();
+        for(String[] parts : keys) {
+            ApnParameters apnParameters = source.get(key(parts));
+            Integer count = counts.get(apnParameters);
+            counts.put(apnParameters, count != null ? count + 1 : 1);
+        }
+
+        ApnParameters best = null;
+        int bestCount = minCount - 1;
+        for(Map.Entry<ApnParameters, Integer> entry : counts.entrySet()) {
+            if(entry.getValue() > bestCount) {
+                best = entry.getKey();
+                bestCount = entry.getValue();
+            }
+        }
+        return best;
+    }
+
+    private static int differing(ApnDataSource source, List<String[]> keys, ApnParameters apnParameters) {
+        int count = 0;
+        for(String[] parts : keys) {
+            if(!source.get(key(parts)).equals(apnParameters)) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Look every full key up in the rule set.
+     *
+     * @return A description of each key that resolves differently.
+     */
+    static List<String> verify(ApnDataSource source, ApnRuleSet ruleSet) {
+        List<String> mismatches = new ArrayList<String>();
+        for(String key : source.keys()) {
+            String[] parts = parts(key);
+            if(parts == null) continue;
+
+            ApnParameters expected = source.get(key);
+            ApnParameters actual = ruleSet.get(parts[0], parts[1], parts[2], parts[3]);
+            if(actual == null || !actual.equals(expected)) {
+                mismatches.add(key + " expected " + ApnReporter.getApnData(expected)
+                        + " got " + (actual != null ? ApnReporter.getApnData(actual) : null));
+            }
+        }
+        return mismatches;
+    }
+
+    private static void print(List<ApnRuleSet.Rule> rules) {
+        for(ApnRuleSet.Rule rule : rules) {
+            if(rule.getParts() == ApnRuleSet.ALL_PARTS) continue;
+            System.out.println(rule + " -> " + ApnReporter.getApnData(rule.getApnParameters()));
+        }
+    }
+
+    private static List<String> keys(ApnDataSource source) {
+        List<String> keys = new ArrayList<String>();
+        for(String key : source.keys()) keys.add(key);
+        return keys;
+    }
+
+    /**
+     * @return The four parts of a full key, or null for a bare key.
+     */
+    private static String[] parts(String key) {
+        if(key.indexOf('|') < 0) return null;
+        String[] parts = key.split("\\|", -1);
+        return parts.length == 4 ? parts : null;
+    }
+
+    private static String key(String[] parts) {
+        return new StringBuffer()
+                .append(parts[0]).append('|')
+                .append(parts[1]).append('|')
+                .append(parts[2]).append('|')
+                .append(parts[3])
+                .toString();
+    }
+
+    private static long size(ApnDataset dataset) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dataset.write(out);
+        return out.size();
+    }
+
+    private static long size(ApnRuleSet ruleSet) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ruleSet.write(out);
+        return out.size();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import com.softcoil.ApnDefaults.ApnParameters;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The full key table as wildcard rules. Each rule gives any of the four key parts, SIM MCCMNC,
+ * SIM operator name, network MCCMNC and network name, or leaves it open, so one rule such as
+ * "40404, any name, any network" stands in for many keys that share parameters. Keys that differ
+ * from such a rule are kept as more specific rules.
+ *
+ * A lookup answers with the most specific rule that matches: the one giving the most parts, and
+ * among those the one giving the more significant parts, SIM MCCMNC first, then network MCCMNC,
+ * SIM operator name and network name. Rules are kept in one {@link ApnFullKeyIndex} per
+ * combination of given parts, probed in that order, so a lookup allocates nothing.
+ *
+ * A fingerprint no key matched exactly can still match a wildcard rule, where the plain table
+ * would have left it to the fallback tiers. Rule sets are built from a table by the
+ * ApnRuleCompressor tool, which checks that every key of the table resolves the same. They are
+ * kept with the tools for measuring how far the table compresses; the library does not resolve
+ * against them.
+ *
+ * The binary format is:
+ * <pre>
+ *  int     magic ('APNW')
+ *  int     version
+ *  int     rule count
+ *  rules   parts byte, the given parts, then the ApnParameters as written by ApnDataset
+ * </pre>
+ */
+public final class ApnRuleSet {
+
+    static final int MAGIC = 0x41504E57;
+
+    /**
+     * Bits of a rule's parts, set for each part the rule gives. Higher bits are more significant.
+     */
+    public static final int SIM_OPERATOR = 8;
+    public static final int NETWORK_OPERATOR = 4;
+    public static final int SIM_OPERATOR_NAME = 2;
+    public static final int NETWORK_OPERATOR_NAME = 1;
+    public static final int ALL_PARTS = 15;
+
+    //Stands in for the parts a rule leaves open. Operators and names never contain it.
+    private static final String ANY = "\u0000*";
+
+    private final int version;
+    private final List<Rule> rules;
+
+    //The part combinations in use, most specific first, and their rules.
+    private final int[] masks;
+    private final ApnFullKeyIndex[] indexes;
+
+    /**
+     * @throws IllegalArgumentException If two rules give the same parts.
+     */
+    public ApnRuleSet(int version, List<Rule> rules) {
+        this.version = version;
+        this.rules = Collections.unmodifiableList(new ArrayList<Rule>(rules));
+
+        int[] counts = new int[ALL_PARTS + 1];
+        for(Rule rule : rules) counts[rule.mask]++;
+
+        List<Integer> order = new ArrayList<Integer>();
+        for(int parts = Integer.bitCount(ALL_PARTS); parts > 0; parts--) {
+            for(int mask = ALL_PARTS; mask > 0; mask--) {
+                if(Integer.bitCount(mask) == parts && counts[mask] > 0) order.add(mask);
+            }
+        }
+
+        masks = new int[order.size()];
+        indexes = new ApnFullKeyIndex[order.size()];
+        ApnFullKeyIndex[] byMask = new ApnFullKeyIndex[ALL_PARTS + 1];
+        for(int i = 0; i < masks.length; i++) {
+            masks[i] = order.get(i);
+            indexes[i] = new ApnFullKeyIndex(counts[masks[i]]);
+            byMask[masks[i]] = indexes[i];
+        }
+
+        for(Rule rule : rules) {
+            ApnFullKeyIndex index = byMask[rule.mask];
+            if(index.get(part(rule.simOperator), part(rule.simOperatorName), part(rule.networkOperator),
+                    part(rule.networkOperatorName)) != null) {
+                throw new IllegalArgumentException("Duplicate rule " + rule);
+            }
+            index.put(part(rule.simOperator), part(rule.simOperatorName), part(rule.networkOperator),
+                    part(rule.networkOperatorName), rule.apnParameters);
+        }
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return The rules, in the order they were given.
+     */
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    /**
+     * @return The parameters of the most specific matching rule, or null.
+     */
+    public ApnParameters get(String simOperator, String simOperatorName, String networkOperator,
+                             String networkOperatorName) {
+        for(int i = 0; i < masks.length; i++) {
+            int mask = masks[i];
+            ApnParameters apnParameters = indexes[i].get(
+                    (mask & SIM_OPERATOR) != 0 ? simOperator : ANY,
+                    (mask & SIM_OPERATOR_NAME) != 0 ? simOperatorName : ANY,
+                    (mask & NETWORK_OPERATOR) != 0 ? networkOperator : ANY,
+                    (mask & NETWORK_OPERATOR_NAME) != 0 ? networkOperatorName : ANY);
+            if(apnParameters != null) return apnParameters;
+        }
+        return null;
+    }
+
+    private static String part(String part) {
+        return part != null ? part : ANY;
+    }
+
+    public static ApnRuleSet read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+
+        if(data.readInt() != MAGIC) throw new IOException("Not an APN rule set");
+
+        int version = data.readInt();
+        int count = ApnDataset.readCount(data, "APN rule set");
+
+        List<Rule> rules = new ArrayList<Rule>();
+        for(int i = 0; i < count; i++) {
+            int mask = data.readUnsignedByte();
+            if(mask == 0 || (mask & ~ALL_PARTS) != 0) {
+                throw new IOException("Corrupt APN rule set: rule " + i + " has parts " + mask);
+            }
+            String simOperator = (mask & SIM_OPERATOR) != 0 ? data.readUTF() : null;
+            String simOperatorName = (mask & SIM_OPERATOR_NAME) != 0 ? data.readUTF() : null;
+            String networkOperator = (mask & NETWORK_OPERATOR) != 0 ? data.readUTF() : null;
+            String networkOperatorName = (mask & NETWORK_OPERATOR_NAME) != 0 ? data.readUTF() : null;
+            rules.add(new Rule(simOperator, simOperatorName, networkOperator, networkOperatorName,
+                    ApnDataset.readParameters(data)));
+        }
+
+        try {
+            return new ApnRuleSet(version, rules);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt APN rule set: " + e.getMessage());
+        }
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(version);
+        data.writeInt(rules.size());
+        for(Rule rule : rules) {
+            data.writeByte(rule.mask);
+            if(rule.simOperator != null) data.writeUTF(rule.simOperator);
+            if(rule.simOperatorName != null) data.writeUTF(rule.simOperatorName);
+            if(rule.networkOperator != null) data.writeUTF(rule.networkOperator);
+            if(rule.networkOperatorName != null) data.writeUTF(rule.networkOperatorName);
+            ApnDataset.writeParameters(data, rule.apnParameters);
+        }
+        data.flush();
+    }
+
+    /**
+     * Parameters for every fingerprint that has the given parts. A null part matches anything, but
+     * a rule must give at least one part.
+     */
+    public static final class Rule {
+        private final String simOperator;
+        private final String simOperatorName;
+        private final String networkOperator;
+        private final String networkOperatorName;
+        private final ApnParameters apnParameters;
+        private final int mask;
+
+        public Rule(String simOperator, String simOperatorName, String networkOperator, String networkOperatorName,
+                    ApnParameters apnParameters) {
+            this.simOperator = simOperator;
+            this.simOperatorName = simOperatorName;
+            this.networkOperator = networkOperator;
+            this.networkOperatorName = networkOperatorName;
+            this.apnParameters = apnParameters;
+            this.mask = (simOperator != null ? SIM_OPERATOR : 0)
+                    | (simOperatorName != null ? SIM_OPERATOR_NAME : 0)
+                    | (networkOperator != null ? NETWORK_OPERATOR : 0)
+                    | (networkOperatorName != null ? NETWORK_OPERATOR_NAME : 0);
+            if(mask == 0) throw new IllegalArgumentException("A rule must give at least one part");
+        }
+
+        public String getSimOperator() {
+            return simOperator;
+        }
+
+        public String getSimOperatorName() {
+            return simOperatorName;
+        }
+
+        public String getNetworkOperator() {
+            return networkOperator;
+        }
+
+        public String getNetworkOperatorName() {
+            return networkOperatorName;
+        }
+
+        public ApnParameters getApnParameters() {
+            return apnParameters;
+        }
+
+        /**
+         * @return The parts the rule gives, as a combination of the part bits.
+         */
+        public int getParts() {
+            return mask;
+        }
+
+        @Override
+        public String toString() {
+            return new StringBuffer()
+                    .append(simOperator != null ? simOperator : "*").append('|')
+                    .append(simOperatorName != null ? simOperatorName : "*").append('|')
+                    .append(networkOperator != null ? networkOperator : "*").append('|')
+                    .append(networkOperatorName != null ? networkOperatorName : "*")
+                    .toString();
+        }
+    }
+}
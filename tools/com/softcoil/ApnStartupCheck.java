@@ -0,0 +1,308 @@
+/*
+ * Copyright 2014 SoftCoil Development, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.softcoil;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Measures what the library costs a process at startup and fails when that exceeds a budget, so
+ * dataset growth cannot silently slow down app starts. Run it with runTool.sh:
+ * <pre>
+ *  ./runTool.sh ApnStartupCheck --forks 20 --max-init-ms 80 --max-first-lookup-ms 120
+ * </pre>
+ *
+ * Every measurement is taken in a freshly forked JVM:
+ * <ul>
+ *  <li>class initialization time of ApnDefaults and of every dataset holder class, meaning any
+ *  class in the library whose initializer is larger than {@link #HOLDER_BYTECODE_THRESHOLD}, and</li>
+ *  <li>time from main to the first resolved lookup, the JVM equivalent of the first call to
+ *  getApnParameters.</li>
+ * </ul>
+ * It also reports the bytecode size of every large initializer. The JVM refuses methods over
+ * 64KB, so a table that keeps growing eventually stops compiling at all.
+ *
+ * ApnDefaults can only be initialized off device when an android.jar is on the class path;
+ * without one it is reported as unavailable and not checked.
+ */
+public class ApnStartupCheck {
+
+    static final int HOLDER_BYTECODE_THRESHOLD = 1024;
+
+    private static final String PACKAGE_PATH = "com/softcoil/";
+
+    public static void main(String[] args) throws Exception {
+        if(args.length == 2 && args[0].equals("--probe")) {
+            probe(args[1]);
+            return;
+        }
+
+        int forks = 10;
+        double maxInitMs = 100;
+        double maxFirstLookupMs = 150;
+        int maxMethodBytes = 60000;
+        for(int i = 0; i + 1 < args.length; i += 2) {
+            if(args[i].equals("--forks")) forks = Integer.parseInt(args[i + 1]);
+            else if(args[i].equals("--max-init-ms")) maxInitMs = Double.parseDouble(args[i + 1]);
+            else if(args[i].equals("--max-first-lookup-ms")) maxFirstLookupMs = Double.parseDouble(args[i + 1]);
+            else if(args[i].equals("--max-method-bytes")) maxMethodBytes = Integer.parseInt(args[i + 1]);
+            else throw new IllegalArgumentException("Unknown option " + args[i]);
+        }
+
+        List<String> failures = new ArrayList<String>();
+
+        System.out.println("Initializer bytecode:");
+        Map<String, Integer> initializers = largeInitializers();
+        for(Map.Entry<String, Integer> entry : initializers.entrySet()) {
+            System.out.printf("  %-60s %,8d bytes%n", entry.getKey(), entry.getValue());
+            if(entry.getValue() > maxMethodBytes) {
+                failures.add(entry.getKey() + " is " + entry.getValue() + " bytes, budget " + maxMethodBytes);
+            }
+        }
+
+        Map<String, List<Long>> samples = new TreeMap<String, List<Long>>();
+        Set<String> messages = new LinkedHashSet<String>();
+        for(int i = 0; i < forks; i++) {
+            fork("init", samples, messages);
+            fork("lookup", samples, messages);
+        }
+        for(String message : messages) System.out.println("  " + message);
+
+        System.out.println("Startup over " + forks + " forks (median / max):");
+        double totalInitMs = 0;
+        for(Map.Entry<String, List<Long>> entry : samples.entrySet()) {
+            List<Long> values = entry.getValue();
+            Collections.sort(values);
+            double median = values.get(values.size() / 2) / 1e6;
+            double max = values.get(values.size() - 1) / 1e6;
+            System.out.printf("  %-60s %8.2f ms %8.2f ms%n", entry.getKey(), median, max);
+
+            if(entry.getKey().startsWith("init ")) {
+                totalInitMs += median;
+            } else if(median > maxFirstLookupMs) {
+                failures.add(String.format("first lookup takes %.2f ms, budget %.2f ms", median, maxFirstLookupMs));
+            }
+        }
+        if(totalInitMs > maxInitMs) {
+            failures.add(String.format("class initialization takes %.2f ms, budget %.2f ms", totalInitMs, maxInitMs));
+        }
+
+        for(String failure : failures) System.out.println("OVER BUDGET: " + failure);
+        System.exit(failures.isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Run one probe in a fresh JVM and collect the "name nanos" lines it prints. Anything else it
+     * prints is collected once in messages.
+     */
+    private static void fork(String probe, Map<String, List<Long>> samples, Set<String> messages) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ApnStartupCheck.class.getName(), "--probe", probe)
+                .redirectErrorStream(true)
+                .start();
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"));
+        String line;
+        while((line = in.readLine()) != null) {
+            int space = line.lastIndexOf(' ');
+            try {
+                long nanos = Long.parseLong(line.substring(space + 1));
+                List<Long> values = samples.get(line.substring(0, space));
+                if(values == null) {
+                    values = new ArrayList<Long>();
+                    samples.put(line.substring(0, space), values);
+                }
+                values.add(nanos);
+            } catch (RuntimeException e) {
+                messages.add(line);
+            }
+        }
+
+        if(process.waitFor() != 0) throw new IOException("Probe " + probe + " failed");
+    }
+
+    private static void probe(String probe) throws Exception {
+        if(probe.equals("lookup")) {
+            long start = System.nanoTime();
+            new ApnResolver(new EmbeddedApnDataSource()).resolve("310260", "T-Mobile", "310260", "T-Mobile", true);
+            System.out.println("first lookup " + (System.nanoTime() - start));
+            return;
+        }
+
+        List<String> classes = new ArrayList<String>();
+        classes.add("com.softcoil.ApnDefaults");
+        for(String method : largeInitializers().keySet()) {
+            String name = method.substring(0, method.lastIndexOf(".<"));
+            //The double brace initializer of an anonymous class runs when its outer class initializes.
+            while(name.matches(".*\\$\\d+")) name = name.substring(0, name.lastIndexOf('$'));
+            if(!classes.contains(name)) classes.add(name);
+        }
+
+        for(String name : classes) {
+            long start = System.nanoTime();
+            try {
+                Class.forName(name, true, ApnStartupCheck.class.getClassLoader());
+                System.out.println("init " + name + " " + (System.nanoTime() - start));
+            } catch (LinkageError e) {
+                System.out.println(name + " unavailable: " + e);
+            }
+        }
+    }
+
+    /**
+     * @return Every static or instance initializer in the library over the holder threshold,
+     * keyed by class.method.
+     */
+    static Map<String, Integer> largeInitializers() throws IOException, URISyntaxException {
+        Map<String, Integer> result = new LinkedHashMap<String, Integer>();
+        URL url = ApnDataSource.class.getResource("ApnDataSource.class");
+
+        if(url.getProtocol().equals("jar")) {
+            String path = url.getPath();
+            JarFile jar = new JarFile(new File(new URL(path.substring(0, path.indexOf('!'))).toURI()));
+            try {
+                for(Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements(); ) {
+                    JarEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if(name.startsWith(PACKAGE_PATH) && name.endsWith(".class") && name.indexOf('/', PACKAGE_PATH.length()) < 0) {
+                        InputStream in = jar.getInputStream(entry);
+                        try {
+                            addInitializers(name, in, result);
+                        } finally {
+                            in.close();
+                        }
+                    }
+                }
+            } finally {
+                jar.close();
+            }
+        } else {
+            File[] files = new File(url.toURI()).getParentFile().listFiles();
+            Arrays.sort(files);
+            for(File file : files) {
+                if(!file.getName().endsWith(".class")) continue;
+                InputStream in = file.toURI().toURL().openStream();
+                try {
+                    addInitializers(PACKAGE_PATH + file.getName(), in, result);
+                } finally {
+                    in.close();
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static void addInitializers(String path, InputStream in, Map<String, Integer> result) throws IOException {
+        String className = path.substring(0, path.length() - ".class".length()).replace('/', '.');
+        for(Map.Entry<String, Integer> method : codeLengths(in).entrySet()) {
+            if(method.getKey().startsWith("<") && method.getValue() > HOLDER_BYTECODE_THRESHOLD) {
+                result.put(className + "." + method.getKey(), method.getValue());
+            }
+        }
+    }
+
+    /**
+     * Read the bytecode length of every method in a class file.
+     */
+    static Map<String, Integer> codeLengths(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if(in.readInt() != 0xCAFEBABE) throw new IOException("Not a class file");
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        int count = in.readUnsignedShort();
+        String[] utf8 = new String[count];
+        for(int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch(tag) {
+                case 1: utf8[i] = in.readUTF(); break;
+                case 7: case 8: case 16: case 19: case 20: in.readUnsignedShort(); break;
+                case 15: in.readUnsignedByte(); in.readUnsignedShort(); break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: in.readInt(); break;
+                case 5: case 6: in.readLong(); i++; break;
+                default: throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+        int interfaces = in.readUnsignedShort();
+        for(int i = 0; i < interfaces; i++) in.readUnsignedShort();
+
+        int fields = in.readUnsignedShort();
+        for(int i = 0; i < fields; i++) {
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            skipAttributes(in);
+        }
+
+        Map<String, Integer> lengths = new LinkedHashMap<String, Integer>();
+        int methods = in.readUnsignedShort();
+        for(int i = 0; i < methods; i++) {
+            in.readUnsignedShort();
+            String name = utf8[in.readUnsignedShort()];
+            String descriptor = utf8[in.readUnsignedShort()];
+            int attributes = in.readUnsignedShort();
+            for(int j = 0; j < attributes; j++) {
+                String attribute = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if(attribute.equals("Code")) {
+                    in.readUnsignedShort();
+                    in.readUnsignedShort();
+                    int codeLength = in.readInt();
+                    lengths.put(name + descriptor, codeLength);
+                    skip(in, length - 8);
+                } else {
+                    skip(in, length);
+                }
+            }
+        }
+
+        return lengths;
+    }
+
+    private static void skip(DataInputStream in, int bytes) throws IOException {
+        in.readFully(new byte[bytes]);
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributes = in.readUnsignedShort();
+        for(int i = 0; i < attributes; i++) {
+            in.readUnsignedShort();
+            skip(in, in.readInt());
+        }
+    }
+}